@@ -49,4 +49,8 @@ public final class MergedEncryptColumnsMergedResult extends EncryptColumnsMerged
     public boolean wasNull() throws SQLException {
         return queryResult.wasNull();
     }
+    
+    @Override
+    public void close() {
+    }
 }
@@ -134,6 +134,15 @@ public final class HintManagerTest {
         assertFalse(HintManager.isMasterRouteOnly());
     }
     
+    @Test
+    public void assertIsInstantiated() {
+        assertFalse(HintManager.isInstantiated());
+        try (HintManager hintManager = HintManager.getInstance()) {
+            assertTrue(HintManager.isInstantiated());
+        }
+        assertFalse(HintManager.isInstantiated());
+    }
+    
     @Test
     public void assertClose() {
         HintManager hintManager = HintManager.getInstance();
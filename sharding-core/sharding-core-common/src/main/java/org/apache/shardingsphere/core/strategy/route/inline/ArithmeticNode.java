@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Arithmetic node of compiled inline expression.
+ * 
+ * <p>Follow Groovy semantics: {@code +} concatenates if any operand is string, integer operations overflow as Java, and long wins over integer.</p>
+ */
+@RequiredArgsConstructor
+final class ArithmeticNode implements ExpressionNode {
+    
+    private final char operator;
+    
+    private final ExpressionNode left;
+    
+    private final ExpressionNode right;
+    
+    @Override
+    public ValueType getType(final ValueType variableType) {
+        ValueType leftType = left.getType(variableType);
+        ValueType rightType = right.getType(variableType);
+        if (null == leftType || null == rightType) {
+            return null;
+        }
+        if ('+' == operator && (ValueType.STRING == leftType || ValueType.STRING == rightType)) {
+            return ValueType.STRING;
+        }
+        if (!leftType.isNumber() || !rightType.isNumber()) {
+            return null;
+        }
+        return ValueType.LONG == leftType || ValueType.LONG == rightType ? ValueType.LONG : ValueType.INTEGER;
+    }
+    
+    @Override
+    public Object evaluate(final Object variable) {
+        Object leftValue = left.evaluate(variable);
+        Object rightValue = right.evaluate(variable);
+        if (leftValue instanceof String || rightValue instanceof String) {
+            return String.valueOf(leftValue) + rightValue;
+        }
+        if (leftValue instanceof Long || rightValue instanceof Long) {
+            return calculate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+        }
+        return calculate((int) (Integer) leftValue, (int) (Integer) rightValue);
+    }
+    
+    private long calculate(final long leftValue, final long rightValue) {
+        switch (operator) {
+            case '+':
+                return leftValue + rightValue;
+            case '-':
+                return leftValue - rightValue;
+            case '*':
+                return leftValue * rightValue;
+            default:
+                return leftValue % rightValue;
+        }
+    }
+    
+    private int calculate(final int leftValue, final int rightValue) {
+        switch (operator) {
+            case '+':
+                return leftValue + rightValue;
+            case '-':
+                return leftValue - rightValue;
+            case '*':
+                return leftValue * rightValue;
+            default:
+                return leftValue % rightValue;
+        }
+    }
+}
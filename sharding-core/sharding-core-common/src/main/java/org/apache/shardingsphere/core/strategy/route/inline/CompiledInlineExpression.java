@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import java.util.List;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>Evaluate inline expression without Groovy, it is stateless and thread-safe.</p>
+ */
+public final class CompiledInlineExpression {
+    
+    private final List<ExpressionNode> segments;
+    
+    private final boolean integerSupported;
+    
+    private final boolean longSupported;
+    
+    private final boolean stringSupported;
+    
+    CompiledInlineExpression(final List<ExpressionNode> segments) {
+        this.segments = segments;
+        integerSupported = isSupported(segments, ValueType.INTEGER);
+        longSupported = isSupported(segments, ValueType.LONG);
+        stringSupported = isSupported(segments, ValueType.STRING);
+    }
+    
+    private static boolean isSupported(final List<ExpressionNode> segments, final ValueType variableType) {
+        for (ExpressionNode each : segments) {
+            if (null == each.getType(variableType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Judge whether value can be evaluated by compiled expression.
+     *
+     * @param value value of variable
+     * @return can be evaluated by compiled expression or not
+     */
+    public boolean isSupported(final Object value) {
+        ValueType valueType = ValueType.valueOf(value);
+        if (null == valueType) {
+            return false;
+        }
+        switch (valueType) {
+            case INTEGER:
+                return integerSupported;
+            case LONG:
+                return longSupported;
+            default:
+                return stringSupported;
+        }
+    }
+    
+    /**
+     * Evaluate.
+     *
+     * @param value value of variable, must be supported
+     * @return evaluated result
+     */
+    public String evaluate(final Object value) {
+        if (1 == segments.size()) {
+            return String.valueOf(segments.get(0).evaluate(value));
+        }
+        StringBuilder result = new StringBuilder();
+        for (ExpressionNode each : segments) {
+            result.append(each.evaluate(value));
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>Compile common subset of inline sharding expressions, such as {@code t_order_${user_id % 8}} or {@code ds_${Math.abs(order_no.hashCode()) % 4}}.
+ * Integer and string literals, sharding column, parentheses, {@code + - * %} and methods supported by {@link MethodCallNode} can be compiled,
+ * expressions out of the subset should be evaluated by Groovy.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InlineExpressionCompiler {
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code ${}} placeholders
+     * @param variableName name of variable, which is sharding column
+     * @return compiled inline expression, empty if expression is out of compilable subset
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression, final String variableName) {
+        try {
+            return Optional.of(new CompiledInlineExpression(parseSegments(inlineExpression, variableName)));
+        } catch (final UncompilableExpressionException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    private static List<ExpressionNode> parseSegments(final String inlineExpression, final String variableName) {
+        List<ExpressionNode> result = new LinkedList<>();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            int start = inlineExpression.indexOf("${", index);
+            String text = inlineExpression.substring(index, -1 == start ? inlineExpression.length() : start);
+            if (text.indexOf('$') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\\') >= 0) {
+                throw new UncompilableExpressionException();
+            }
+            if (!text.isEmpty()) {
+                result.add(new LiteralNode(text));
+            }
+            if (-1 == start) {
+                break;
+            }
+            int end = findPlaceholderEnd(inlineExpression, start + 2);
+            result.add(new Parser(tokenize(inlineExpression.substring(start + 2, end)), variableName).parse());
+            index = end + 1;
+        }
+        return new ArrayList<>(result);
+    }
+    
+    private static int findPlaceholderEnd(final String inlineExpression, final int fromIndex) {
+        boolean inString = false;
+        for (int i = fromIndex; i < inlineExpression.length(); i++) {
+            char each = inlineExpression.charAt(i);
+            if ('\'' == each) {
+                inString = !inString;
+            } else if (!inString && '}' == each) {
+                return i;
+            } else if (!inString && '{' == each) {
+                throw new UncompilableExpressionException();
+            }
+        }
+        throw new UncompilableExpressionException();
+    }
+    
+    private static List<String> tokenize(final String expression) {
+        List<String> result = new ArrayList<>();
+        int index = 0;
+        while (index < expression.length()) {
+            char each = expression.charAt(index);
+            if (Character.isWhitespace(each)) {
+                index++;
+            } else if (Character.isDigit(each)) {
+                int end = skip(expression, index, true);
+                if (end < expression.length() && ('L' == expression.charAt(end) || 'l' == expression.charAt(end))) {
+                    end++;
+                }
+                if (end < expression.length() && (Character.isLetter(expression.charAt(end)) || isDecimalPoint(expression, end))) {
+                    throw new UncompilableExpressionException();
+                }
+                result.add(expression.substring(index, end));
+                index = end;
+            } else if (Character.isJavaIdentifierStart(each) && '$' != each) {
+                int end = skip(expression, index, false);
+                result.add(expression.substring(index, end));
+                index = end;
+            } else if ('\'' == each) {
+                int end = expression.indexOf('\'', index + 1);
+                if (-1 == end || expression.substring(index, end).indexOf('\\') >= 0) {
+                    throw new UncompilableExpressionException();
+                }
+                result.add(expression.substring(index, end + 1));
+                index = end + 1;
+            } else if ("+-*%(),.".indexOf(each) >= 0) {
+                result.add(String.valueOf(each));
+                index++;
+            } else {
+                throw new UncompilableExpressionException();
+            }
+        }
+        return result;
+    }
+    
+    private static boolean isDecimalPoint(final String expression, final int index) {
+        return '.' == expression.charAt(index) && index + 1 < expression.length() && Character.isDigit(expression.charAt(index + 1));
+    }
+    
+    private static int skip(final String expression, final int fromIndex, final boolean digitOnly) {
+        int result = fromIndex;
+        while (result < expression.length() && (digitOnly ? Character.isDigit(expression.charAt(result)) : isIdentifierPart(expression.charAt(result)))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isIdentifierPart(final char ch) {
+        return Character.isJavaIdentifierPart(ch) && '$' != ch;
+    }
+    
+    private static final class Parser {
+        
+        private final List<String> tokens;
+        
+        private final String variableName;
+        
+        private int position;
+        
+        Parser(final List<String> tokens, final String variableName) {
+            this.tokens = tokens;
+            this.variableName = variableName;
+        }
+        
+        ExpressionNode parse() {
+            ExpressionNode result = parseAdditive();
+            if (position != tokens.size()) {
+                throw new UncompilableExpressionException();
+            }
+            return result;
+        }
+        
+        private ExpressionNode parseAdditive() {
+            ExpressionNode result = parseMultiplicative();
+            while (isNext("+") || isNext("-")) {
+                char operator = next().charAt(0);
+                result = new ArithmeticNode(operator, result, parseMultiplicative());
+            }
+            return result;
+        }
+        
+        private ExpressionNode parseMultiplicative() {
+            ExpressionNode result = parseUnary();
+            while (isNext("*") || isNext("%")) {
+                char operator = next().charAt(0);
+                result = new ArithmeticNode(operator, result, parseUnary());
+            }
+            return result;
+        }
+        
+        private ExpressionNode parseUnary() {
+            if (isNext("-")) {
+                next();
+                return new NegativeNode(parseUnary());
+            }
+            return parsePostfix(parsePrimary());
+        }
+        
+        private ExpressionNode parsePostfix(final ExpressionNode target) {
+            ExpressionNode result = target;
+            while (isNext(".")) {
+                next();
+                String methodName = next();
+                result = new MethodCallNode(methodName, result, parseArguments());
+            }
+            return result;
+        }
+        
+        private List<ExpressionNode> parseArguments() {
+            expect("(");
+            if (isNext(")")) {
+                next();
+                return Collections.emptyList();
+            }
+            List<ExpressionNode> result = new ArrayList<>(2);
+            result.add(parseAdditive());
+            while (isNext(",")) {
+                next();
+                result.add(parseAdditive());
+            }
+            expect(")");
+            return result;
+        }
+        
+        private ExpressionNode parsePrimary() {
+            String token = next();
+            if ("(".equals(token)) {
+                ExpressionNode result = parseAdditive();
+                expect(")");
+                return result;
+            }
+            if (token.startsWith("'")) {
+                return new LiteralNode(token.substring(1, token.length() - 1));
+            }
+            if (Character.isDigit(token.charAt(0))) {
+                return new LiteralNode(parseNumber(token));
+            }
+            if (token.equals(variableName)) {
+                return new VariableNode();
+            }
+            if ("Math".equals(token)) {
+                expect(".");
+                expect("abs");
+                List<ExpressionNode> arguments = parseArguments();
+                if (1 != arguments.size()) {
+                    throw new UncompilableExpressionException();
+                }
+                return new MethodCallNode("abs", arguments.get(0), Collections.emptyList());
+            }
+            throw new UncompilableExpressionException();
+        }
+        
+        private Object parseNumber(final String token) {
+            if (token.length() > 1 && '0' == token.charAt(0)) {
+                throw new UncompilableExpressionException();
+            }
+            boolean longSuffix = 'L' == token.charAt(token.length() - 1) || 'l' == token.charAt(token.length() - 1);
+            String digits = longSuffix ? token.substring(0, token.length() - 1) : token;
+            if (digits.length() > 18) {
+                throw new UncompilableExpressionException();
+            }
+            long value = Long.parseLong(digits);
+            return longSuffix || value > Integer.MAX_VALUE ? (Object) value : (Object) (int) value;
+        }
+        
+        private boolean isNext(final String token) {
+            return position < tokens.size() && token.equals(tokens.get(position));
+        }
+        
+        private String next() {
+            if (position >= tokens.size()) {
+                throw new UncompilableExpressionException();
+            }
+            return tokens.get(position++);
+        }
+        
+        private void expect(final String token) {
+            if (!token.equals(next())) {
+                throw new UncompilableExpressionException();
+            }
+        }
+    }
+    
+    private static final class UncompilableExpressionException extends RuntimeException {
+        
+        private static final long serialVersionUID = -1716584796581262357L;
+    }
+}
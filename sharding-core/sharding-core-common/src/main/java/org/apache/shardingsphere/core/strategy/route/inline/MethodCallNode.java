@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Method call node of compiled inline expression.
+ * 
+ * <p>Support {@code hashCode()}, {@code toString()}, {@code abs()}, {@code intdiv(n)}, {@code length()}, {@code substring(begin[, end])},
+ * {@code toUpperCase()} and {@code toLowerCase()}, {@code Math.abs(n)} is compiled as {@code n.abs()}.</p>
+ */
+@RequiredArgsConstructor
+final class MethodCallNode implements ExpressionNode {
+    
+    private final String methodName;
+    
+    private final ExpressionNode target;
+    
+    private final List<ExpressionNode> arguments;
+    
+    @Override
+    public ValueType getType(final ValueType variableType) {
+        ValueType targetType = target.getType(variableType);
+        if (null == targetType) {
+            return null;
+        }
+        switch (methodName) {
+            case "hashCode":
+                return arguments.isEmpty() ? ValueType.INTEGER : null;
+            case "toString":
+                return arguments.isEmpty() ? ValueType.STRING : null;
+            case "abs":
+                return arguments.isEmpty() && targetType.isNumber() ? targetType : null;
+            case "intdiv":
+                if (1 != arguments.size() || !targetType.isNumber()) {
+                    return null;
+                }
+                ValueType argumentType = arguments.get(0).getType(variableType);
+                if (null == argumentType || !argumentType.isNumber()) {
+                    return null;
+                }
+                return ValueType.LONG == targetType || ValueType.LONG == argumentType ? ValueType.LONG : ValueType.INTEGER;
+            case "length":
+                return arguments.isEmpty() && ValueType.STRING == targetType ? ValueType.INTEGER : null;
+            case "substring":
+                return ValueType.STRING == targetType && (1 == arguments.size() || 2 == arguments.size()) && isIntegerArguments(variableType) ? ValueType.STRING : null;
+            case "toUpperCase":
+            case "toLowerCase":
+                return arguments.isEmpty() && ValueType.STRING == targetType ? ValueType.STRING : null;
+            default:
+                return null;
+        }
+    }
+    
+    private boolean isIntegerArguments(final ValueType variableType) {
+        for (ExpressionNode each : arguments) {
+            if (ValueType.INTEGER != each.getType(variableType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public Object evaluate(final Object variable) {
+        Object value = target.evaluate(variable);
+        switch (methodName) {
+            case "hashCode":
+                return value.hashCode();
+            case "toString":
+                return value.toString();
+            case "abs":
+                return value instanceof Long ? (Object) Math.abs((long) (Long) value) : (Object) Math.abs((int) (Integer) value);
+            case "intdiv":
+                Object argument = arguments.get(0).evaluate(variable);
+                if (value instanceof Long || argument instanceof Long) {
+                    return ((Number) value).longValue() / ((Number) argument).longValue();
+                }
+                return (Integer) value / (Integer) argument;
+            case "length":
+                return ((String) value).length();
+            case "substring":
+                int beginIndex = (Integer) arguments.get(0).evaluate(variable);
+                return 1 == arguments.size() ? ((String) value).substring(beginIndex) : ((String) value).substring(beginIndex, (Integer) arguments.get(1).evaluate(variable));
+            case "toUpperCase":
+                return ((String) value).toUpperCase();
+            default:
+                return ((String) value).toLowerCase();
+        }
+    }
+}
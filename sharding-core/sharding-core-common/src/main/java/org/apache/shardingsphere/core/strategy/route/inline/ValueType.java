@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+/**
+ * Value type of compiled inline expression.
+ */
+enum ValueType {
+    
+    INTEGER, LONG, STRING;
+    
+    /**
+     * Get value type of value.
+     *
+     * @param value value
+     * @return value type, null if value type is not supported
+     */
+    static ValueType valueOf(final Object value) {
+        if (value instanceof Integer) {
+            return INTEGER;
+        }
+        if (value instanceof Long) {
+            return LONG;
+        }
+        if (value instanceof String) {
+            return STRING;
+        }
+        return null;
+    }
+    
+    boolean isNumber() {
+        return INTEGER == this || LONG == this;
+    }
+}
@@ -101,6 +101,17 @@ public final class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
     }
     
+    @Test
+    public void assertGetLogicTableNames() {
+        ShardingRuleConfiguration shardingRuleConfiguration = new ShardingRuleConfiguration();
+        shardingRuleConfiguration.getTableRuleConfigs().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"));
+        shardingRuleConfiguration.getTableRuleConfigs().add(createTableRuleConfiguration("OTHER_LOGIC_TABLE", "ds_1.table_${2..3}"));
+        ShardingRule actual = new ShardingRule(shardingRuleConfiguration, createDataSourceNames());
+        assertThat(actual.getLogicTableNames("table_0"), is((Collection<String>) Collections.singletonList("logic_table")));
+        assertThat(actual.getLogicTableNames("table_2"), is((Collection<String>) Arrays.asList("logic_table", "other_logic_table")));
+        assertTrue(actual.getLogicTableNames("table_4").isEmpty());
+    }
+    
     @Test
     public void assertGetTableRuleWithShardingTable() {
         TableRule actual = createMaximumShardingRule().getTableRule("Logic_Table");
@@ -115,8 +126,9 @@ public final class ShardingRuleTest {
     
     @Test
     public void assertGetTableRuleWithDefaultDataSource() {
-        ShardingRule shardingRule = createMaximumShardingRule();
-        shardingRule.getBroadcastTables().clear();
+        ShardingRuleConfiguration shardingRuleConfiguration = createMaximumShardingRule().getRuleConfiguration();
+        shardingRuleConfiguration.getBroadcastTables().clear();
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfiguration, createDataSourceNames());
         assertThat(shardingRule.getTableRule("Default_Table").getLogicTable(), is("default_table"));
     }
     
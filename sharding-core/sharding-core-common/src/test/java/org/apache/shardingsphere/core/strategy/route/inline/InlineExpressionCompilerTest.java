@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.underlying.common.config.inline.InlineExpressionParser;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class InlineExpressionCompilerTest {
+    
+    private static final Collection<Object> VALUES = Arrays.asList(0, 7, -7, 123456789, Integer.MAX_VALUE, Integer.MIN_VALUE, 7L, -7L, 9876543210L, Long.MIN_VALUE, "order_1001", "ABC");
+    
+    @Test
+    public void assertEvaluateSameAsGroovy() {
+        assertSameAsGroovy("t_order_${user_id % 8}");
+        assertSameAsGroovy("t_order_${user_id}");
+        assertSameAsGroovy("t_order_${user_id % 4 + 1}");
+        assertSameAsGroovy("t_order_${(user_id - 1) * 3 % 16}_${-user_id % 2}");
+        assertSameAsGroovy("t_order_${user_id * 2147483647 % 10}");
+        assertSameAsGroovy("t_order_${user_id % 2147483648}");
+        assertSameAsGroovy("t_order_${user_id % 3L}");
+        assertSameAsGroovy("ds_${Math.abs(user_id.hashCode()) % 4}");
+        assertSameAsGroovy("ds_${user_id.hashCode().abs() % 4}");
+        assertSameAsGroovy("ds_${user_id.intdiv(3) % 2}");
+        assertSameAsGroovy("ds_${user_id.substring(user_id.length() - 2)}");
+        assertSameAsGroovy("ds_${user_id.substring(0, 2).toUpperCase()}");
+        assertSameAsGroovy("ds_${user_id.toString().length() % 3}");
+        assertSameAsGroovy("${'t_' + user_id + '_' + 1}");
+        assertSameAsGroovy("${1 + user_id}");
+    }
+    
+    private void assertSameAsGroovy(final String expression) {
+        Optional<CompiledInlineExpression> compiledExpression = InlineExpressionCompiler.compile(expression, "user_id");
+        assertTrue(expression, compiledExpression.isPresent());
+        Closure<?> closure = new InlineExpressionParser(expression).evaluateClosure();
+        for (Object each : VALUES) {
+            if (compiledExpression.get().isSupported(each)) {
+                assertThat(expression + " with " + each, compiledExpression.get().evaluate(each), is(evaluateByGroovy(closure, each)));
+            }
+        }
+    }
+    
+    private String evaluateByGroovy(final Closure<?> closure, final Object value) {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        result.setProperty("user_id", value);
+        return result.call().toString();
+    }
+    
+    @Test
+    public void assertIsSupported() {
+        CompiledInlineExpression numberExpression = InlineExpressionCompiler.compile("t_order_${user_id % 8}", "user_id").get();
+        assertTrue(numberExpression.isSupported(1));
+        assertTrue(numberExpression.isSupported(1L));
+        assertFalse(numberExpression.isSupported("1"));
+        assertFalse(numberExpression.isSupported(1.0D));
+        CompiledInlineExpression stringExpression = InlineExpressionCompiler.compile("t_order_${user_id.substring(1)}", "user_id").get();
+        assertTrue(stringExpression.isSupported("1"));
+        assertFalse(stringExpression.isSupported(1));
+    }
+    
+    @Test
+    public void assertCompileFailure() {
+        assertFalse(InlineExpressionCompiler.compile("t_order_${user_id / 2}", "user_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id % 2}", "user_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${user_id % 2 == 0 ? 'a' : 'b'}", "user_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${user_id % 1.5}", "user_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_$user_id", "user_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${[1, 2].sum()}", "user_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${user_id % 2", "user_id").isPresent());
+    }
+}
@@ -58,6 +58,15 @@ public final class InlineShardingStrategyTest {
         assertThat(actual.size(), is(2));
     }
     
+    @Test
+    public void assertDoShardingWithGroovyFallbackValue() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.newArrayList(new ListRouteValue<>("order_id", "t_order", Lists.newArrayList((short) 6)));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues, new ShardingSphereProperties(new Properties()));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is("t_order_2"));
+    }
+    
     @Test
     public void assertGetShardingColumns() {
         assertThat(shardingStrategy.getShardingColumns().size(), is(1));
@@ -26,12 +26,19 @@ import org.apache.shardingsphere.masterslave.route.engine.MasterSlaveRouteDecora
 import org.apache.shardingsphere.sharding.route.engine.ShardingRouter;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.shard.cache.RouteResultCache;
 import org.apache.shardingsphere.core.shard.log.ShardingSQLLogger;
 import org.apache.shardingsphere.encrypt.rewrite.context.EncryptSQLRewriteContextDecorator;
 import org.apache.shardingsphere.sharding.execute.context.ShardingExecutionContext;
 import org.apache.shardingsphere.sharding.rewrite.context.ShardingSQLRewriteContextDecorator;
 import org.apache.shardingsphere.sharding.rewrite.engine.ShardingSQLRewriteEngine;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
 import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
@@ -50,6 +57,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Base sharding engine.
@@ -68,12 +76,20 @@ public abstract class BaseShardingEngine {
     
     private final SPIRoutingHook routingHook;
     
+    private final RouteResultCache routeResultCache;
+    
     public BaseShardingEngine(final ShardingRule shardingRule, final ShardingSphereProperties properties, final ShardingSphereMetaData metaData, final SQLParserEngine sqlParserEngine) {
+        this(shardingRule, properties, metaData, sqlParserEngine, new RouteResultCache(0L));
+    }
+    
+    public BaseShardingEngine(final ShardingRule shardingRule, final ShardingSphereProperties properties, final ShardingSphereMetaData metaData, 
+                              final SQLParserEngine sqlParserEngine, final RouteResultCache routeResultCache) {
         this.shardingRule = shardingRule;
         this.properties = properties;
         this.metaData = metaData;
         shardingRouter = new ShardingRouter(shardingRule, properties, metaData, sqlParserEngine);
         routingHook = new SPIRoutingHook();
+        this.routeResultCache = routeResultCache;
     }
     
     /**
@@ -85,9 +101,17 @@ public abstract class BaseShardingEngine {
      */
     public ExecutionContext shard(final String sql, final List<Object> parameters) {
         List<Object> clonedParameters = cloneParameters(parameters);
-        ShardingRouteContext shardingRouteContext = executeRoute(sql, clonedParameters);
-        ShardingExecutionContext result = new ShardingExecutionContext(shardingRouteContext.getSqlStatementContext(), shardingRouteContext.getGeneratedKey().orElse(null));
-        result.getExecutionUnits().addAll(HintManager.isDatabaseShardingOnly() ? convert(sql, clonedParameters, shardingRouteContext) : rewriteAndConvert(sql, clonedParameters, shardingRouteContext));
+        boolean routeResultCacheable = isRouteResultCacheable();
+        Optional<ShardingExecutionContext> cachedExecutionContext = routeResultCacheable ? routeResultCache.get(sql, clonedParameters) : Optional.empty();
+        ShardingExecutionContext result;
+        if (cachedExecutionContext.isPresent()) {
+            result = cachedExecutionContext.get();
+        } else {
+            result = shard(sql, clonedParameters, executeRoute(sql, clonedParameters));
+            if (routeResultCacheable && isRouteResultCacheable(result)) {
+                routeResultCache.put(sql, clonedParameters, result);
+            }
+        }
         boolean showSQL = properties.getValue(PropertiesConstant.SQL_SHOW);
         if (showSQL) {
             boolean showSimple = properties.getValue(PropertiesConstant.SQL_SIMPLE);
@@ -96,6 +120,28 @@ public abstract class BaseShardingEngine {
         return result;
     }
     
+    private ShardingExecutionContext shard(final String sql, final List<Object> clonedParameters, final ShardingRouteContext shardingRouteContext) {
+        ShardingExecutionContext result = new ShardingExecutionContext(shardingRouteContext.getSqlStatementContext(), shardingRouteContext.getGeneratedKey().orElse(null));
+        result.getExecutionUnits().addAll(HintManager.isDatabaseShardingOnly() ? convert(sql, clonedParameters, shardingRouteContext) : rewriteAndConvert(sql, clonedParameters, shardingRouteContext));
+        return result;
+    }
+    
+    private boolean isRouteResultCacheable() {
+        return routeResultCache.isEnabled() && !HintManager.isInstantiated() && shardingRule.getMasterSlaveRules().isEmpty() && shardingRule.getEncryptRule().getEncryptTableNames().isEmpty();
+    }
+    
+    private boolean isRouteResultCacheable(final ShardingExecutionContext executionContext) {
+        if (executionContext.getGeneratedKey().isPresent() || 1 != executionContext.getExecutionUnits().size()) {
+            return false;
+        }
+        SQLStatementContext sqlStatementContext = executionContext.getSqlStatementContext();
+        SQLStatement sqlStatement = sqlStatementContext.getSqlStatement();
+        if (sqlStatement instanceof SelectStatement) {
+            return !((SelectStatementContext) sqlStatementContext).getPaginationContext().isHasPagination();
+        }
+        return sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
+    }
+    
     protected abstract List<Object> cloneParameters(List<Object> parameters);
     
     protected abstract ShardingRouteContext route(String sql, List<Object> parameters);
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.shard;
 
 import org.apache.shardingsphere.sharding.route.engine.context.ShardingRouteContext;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.shard.cache.RouteResultCache;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
@@ -42,6 +43,11 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
         super(shardingRule, properties, metaData, sqlParserEngine);
     }
     
+    public PreparedQueryShardingEngine(final ShardingRule shardingRule, final ShardingSphereProperties properties, final ShardingSphereMetaData metaData, 
+                                       final SQLParserEngine sqlParserEngine, final RouteResultCache routeResultCache) {
+        super(shardingRule, properties, metaData, sqlParserEngine, routeResultCache);
+    }
+    
     @Override
     protected List<Object> cloneParameters(final List<Object> parameters) {
         return new ArrayList<>(parameters);
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.shard.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.apache.shardingsphere.sharding.execute.context.ShardingExecutionContext;
+import org.apache.shardingsphere.underlying.executor.context.ExecutionUnit;
+import org.apache.shardingsphere.underlying.executor.context.SQLUnit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Route result cache for prepared statements.
+ * 
+ * <p>
+ *     Cache key is SQL with all parameters, so cached execution units are only reused for identical executions.
+ *     Cache should be cleared when rule or metadata changed.
+ * </p>
+ */
+public final class RouteResultCache {
+    
+    private final Cache<RouteResultCacheKey, ShardingExecutionContext> cache;
+    
+    public RouteResultCache(final long maximumSize) {
+        cache = maximumSize > 0 ? CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build() : null;
+    }
+    
+    /**
+     * Judge whether route result cache is enabled.
+     * 
+     * @return route result cache is enabled or not
+     */
+    public boolean isEnabled() {
+        return null != cache;
+    }
+    
+    /**
+     * Get cached execution context.
+     * 
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @return copy of cached execution context
+     */
+    public Optional<ShardingExecutionContext> get(final String sql, final List<Object> parameters) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        Optional<RouteResultCacheKey> key = RouteResultCacheKey.newInstance(sql, parameters);
+        if (!key.isPresent()) {
+            return Optional.empty();
+        }
+        ShardingExecutionContext cached = cache.getIfPresent(key.get());
+        return null == cached ? Optional.empty() : Optional.of(copy(cached));
+    }
+    
+    /**
+     * Put execution context into cache.
+     * 
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @param executionContext execution context
+     */
+    public void put(final String sql, final List<Object> parameters, final ShardingExecutionContext executionContext) {
+        if (!isEnabled()) {
+            return;
+        }
+        Optional<RouteResultCacheKey> key = RouteResultCacheKey.newInstance(sql, parameters);
+        if (key.isPresent()) {
+            cache.put(key.get(), copy(executionContext));
+        }
+    }
+    
+    /**
+     * Clear all cached route results.
+     */
+    public void clear() {
+        if (isEnabled()) {
+            cache.invalidateAll();
+        }
+    }
+    
+    /**
+     * Get cache statistics.
+     * 
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return isEnabled() ? cache.stats() : new CacheStats(0L, 0L, 0L, 0L, 0L, 0L);
+    }
+    
+    private ShardingExecutionContext copy(final ShardingExecutionContext executionContext) {
+        ShardingExecutionContext result = new ShardingExecutionContext(executionContext.getSqlStatementContext(), executionContext.getGeneratedKey().orElse(null));
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            result.getExecutionUnits().add(new ExecutionUnit(each.getDataSourceName(), new SQLUnit(each.getSqlUnit().getSql(), new ArrayList<>(each.getSqlUnit().getParameters()))));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.shard.cache;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Route result cache key.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+final class RouteResultCacheKey {
+    
+    private static final Collection<Class<?>> IMMUTABLE_PARAMETER_TYPES = new HashSet<>(Arrays.<Class<?>>asList(
+            String.class, Boolean.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class));
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    /**
+     * Create new instance of route result cache key.
+     * 
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @return route result cache key, absent if any parameter is not immutable value
+     */
+    static Optional<RouteResultCacheKey> newInstance(final String sql, final List<Object> parameters) {
+        for (Object each : parameters) {
+            if (null != each && !IMMUTABLE_PARAMETER_TYPES.contains(each.getClass())) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new RouteResultCacheKey(sql, new ArrayList<>(parameters)));
+    }
+}
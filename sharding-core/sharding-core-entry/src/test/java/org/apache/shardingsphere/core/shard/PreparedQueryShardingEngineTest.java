@@ -20,10 +20,18 @@ package org.apache.shardingsphere.core.shard;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.sharding.route.engine.ShardingRouter;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.shard.cache.RouteResultCache;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.context.ShardingRouteContext;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.binder.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.executor.context.ExecutionContext;
 import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetas;
+import org.apache.shardingsphere.underlying.route.context.RouteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -34,7 +42,13 @@ import java.lang.reflect.Field;
 import java.sql.SQLException;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -45,6 +59,8 @@ public final class PreparedQueryShardingEngineTest extends BaseShardingEngineTes
     
     private PreparedQueryShardingEngine shardingEngine;
     
+    private RouteResultCache routeResultCache;
+    
     public PreparedQueryShardingEngineTest() {
         super("SELECT ?", Collections.singletonList(1));
     }
@@ -56,7 +72,8 @@ public final class PreparedQueryShardingEngineTest extends BaseShardingEngineTes
         when(shardingRule.getEncryptRule()).thenReturn(encryptRule);
         ShardingSphereMetaData shardingSphereMetaData = mock(ShardingSphereMetaData.class);
         when(shardingSphereMetaData.getTables()).thenReturn(mock(TableMetas.class));
-        shardingEngine = new PreparedQueryShardingEngine(shardingRule, getProperties(), shardingSphereMetaData, mock(SQLParserEngine.class));
+        routeResultCache = new RouteResultCache(16L);
+        shardingEngine = new PreparedQueryShardingEngine(shardingRule, getProperties(), shardingSphereMetaData, mock(SQLParserEngine.class), routeResultCache);
         setRoutingEngine();
     }
     
@@ -77,4 +94,39 @@ public final class PreparedQueryShardingEngineTest extends BaseShardingEngineTes
         when(shardingRouter.route(getSql(), getParameters(), true)).thenThrow(SQLException.class);
         shardingEngine.shard(getSql(), getParameters());
     }
+    
+    @Test
+    public void assertShardWithCachedRouteResult() {
+        when(shardingRouter.route(getSql(), getParameters(), true)).thenReturn(createUpdateRouteContext());
+        ExecutionContext expected = shardingEngine.shard(getSql(), getParameters());
+        ExecutionContext actual = shardingEngine.shard(getSql(), getParameters());
+        assertExecutionContext(actual);
+        assertThat(actual.getExecutionUnits().iterator().next().getSqlUnit(), not(sameInstance(expected.getExecutionUnits().iterator().next().getSqlUnit())));
+        verify(shardingRouter, times(1)).route(getSql(), getParameters(), true);
+        assertThat(routeResultCache.getStats().hitCount(), is(1L));
+    }
+    
+    @Test
+    public void assertShardWithoutCachedRouteResultAfterClear() {
+        when(shardingRouter.route(getSql(), getParameters(), true)).thenReturn(createUpdateRouteContext());
+        shardingEngine.shard(getSql(), getParameters());
+        routeResultCache.clear();
+        assertExecutionContext(shardingEngine.shard(getSql(), getParameters()));
+        verify(shardingRouter, times(2)).route(getSql(), getParameters(), true);
+    }
+    
+    @Test
+    public void assertShardWithoutCachedRouteResultForUncacheableStatement() {
+        when(shardingRouter.route(getSql(), getParameters(), true)).thenReturn(createSQLRouteContext());
+        shardingEngine.shard(getSql(), getParameters());
+        assertExecutionContext(shardingEngine.shard(getSql(), getParameters()));
+        verify(shardingRouter, times(2)).route(getSql(), getParameters(), true);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ShardingRouteContext createUpdateRouteContext() {
+        RouteResult routeResult = new RouteResult();
+        routeResult.getRouteUnits().add(new RouteUnit("ds"));
+        return new ShardingRouteContext(new CommonSQLStatementContext(new UpdateStatement()), routeResult, new ShardingConditions(Collections.emptyList()));
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.shard.cache;
+
+import org.apache.shardingsphere.sharding.execute.context.ShardingExecutionContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.underlying.executor.context.ExecutionUnit;
+import org.apache.shardingsphere.underlying.executor.context.SQLUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RouteResultCacheTest {
+    
+    private static final String SQL = "UPDATE t_order SET status = ? WHERE order_id = ?";
+    
+    @Test
+    public void assertGetWhenDisabled() {
+        RouteResultCache routeResultCache = new RouteResultCache(0L);
+        assertFalse(routeResultCache.isEnabled());
+        routeResultCache.put(SQL, Arrays.<Object>asList("init", 1), createExecutionContext(Arrays.<Object>asList("init", 1)));
+        assertFalse(routeResultCache.get(SQL, Arrays.<Object>asList("init", 1)).isPresent());
+    }
+    
+    @Test
+    public void assertGetWithSameParameters() {
+        RouteResultCache routeResultCache = new RouteResultCache(16L);
+        List<Object> parameters = Arrays.<Object>asList("init", 1);
+        ShardingExecutionContext expected = createExecutionContext(parameters);
+        routeResultCache.put(SQL, parameters, expected);
+        Optional<ShardingExecutionContext> actual = routeResultCache.get(SQL, Arrays.<Object>asList("init", 1));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSqlStatementContext(), is(expected.getSqlStatementContext()));
+        ExecutionUnit actualExecutionUnit = actual.get().getExecutionUnits().iterator().next();
+        assertThat(actualExecutionUnit.getDataSourceName(), is("ds_1"));
+        assertThat(actualExecutionUnit.getSqlUnit().getSql(), is("UPDATE t_order_1 SET status = ? WHERE order_id = ?"));
+        assertThat(actualExecutionUnit.getSqlUnit().getParameters(), is(parameters));
+        assertThat(actualExecutionUnit.getSqlUnit().getParameters(), not(sameInstance(expected.getExecutionUnits().iterator().next().getSqlUnit().getParameters())));
+    }
+    
+    @Test
+    public void assertGetWithDifferentParameters() {
+        RouteResultCache routeResultCache = new RouteResultCache(16L);
+        routeResultCache.put(SQL, Arrays.<Object>asList("init", 1), createExecutionContext(Arrays.<Object>asList("init", 1)));
+        assertFalse(routeResultCache.get(SQL, Arrays.<Object>asList("init", 2)).isPresent());
+        assertFalse(routeResultCache.get(SQL, Arrays.<Object>asList("init", 1L)).isPresent());
+    }
+    
+    @Test
+    public void assertGetWithMutableParameter() {
+        RouteResultCache routeResultCache = new RouteResultCache(16L);
+        List<Object> parameters = Arrays.<Object>asList(new Date(0L), 1);
+        routeResultCache.put(SQL, parameters, createExecutionContext(parameters));
+        assertFalse(routeResultCache.get(SQL, parameters).isPresent());
+    }
+    
+    @Test
+    public void assertGetWithNullParameter() {
+        RouteResultCache routeResultCache = new RouteResultCache(16L);
+        List<Object> parameters = Arrays.asList(null, 1);
+        routeResultCache.put(SQL, parameters, createExecutionContext(parameters));
+        assertTrue(routeResultCache.get(SQL, Arrays.asList(null, 1)).isPresent());
+    }
+    
+    @Test
+    public void assertClear() {
+        RouteResultCache routeResultCache = new RouteResultCache(16L);
+        routeResultCache.put(SQL, Collections.<Object>singletonList(1), createExecutionContext(Collections.<Object>singletonList(1)));
+        routeResultCache.clear();
+        assertFalse(routeResultCache.get(SQL, Collections.<Object>singletonList(1)).isPresent());
+        assertThat(routeResultCache.getStats().missCount(), is(1L));
+    }
+    
+    private ShardingExecutionContext createExecutionContext(final List<Object> parameters) {
+        ShardingExecutionContext result = new ShardingExecutionContext(new CommonSQLStatementContext(new UpdateStatement()), null);
+        result.getExecutionUnits().add(new ExecutionUnit("ds_1", new SQLUnit("UPDATE t_order_1 SET status = ? WHERE order_id = ?", parameters)));
+        return result;
+    }
+}
@@ -111,15 +111,15 @@ public final class ShardingTableMetaDataLoader implements TableMetaDataLoader<Sh
     private Collection<InputGroup<DataNode>> getDataNodeInputGroups(final Map<String, List<DataNode>> dataNodeGroups) {
         Collection<InputGroup<DataNode>> result = new LinkedList<>();
         for (Entry<String, List<DataNode>> entry : dataNodeGroups.entrySet()) {
-            result.addAll(getDataNodeInputGroups(entry.getValue()));
+            result.addAll(getDataNodeInputGroups(entry.getKey(), entry.getValue()));
         }
         return result;
     }
     
-    private Collection<InputGroup<DataNode>> getDataNodeInputGroups(final List<DataNode> dataNodes) {
+    private Collection<InputGroup<DataNode>> getDataNodeInputGroups(final String dataSourceName, final List<DataNode> dataNodes) {
         Collection<InputGroup<DataNode>> result = new LinkedList<>();
         for (List<DataNode> each : Lists.partition(dataNodes, Math.max(dataNodes.size() / maxConnectionsSizePerQuery, 1))) {
-            result.add(new InputGroup<>(each));
+            result.add(new InputGroup<>(dataSourceName, each));
         }
         return result;
     }
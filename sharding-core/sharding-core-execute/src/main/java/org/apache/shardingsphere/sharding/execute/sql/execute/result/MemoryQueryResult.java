@@ -30,9 +30,6 @@ import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -42,43 +39,56 @@ public final class MemoryQueryResult implements QueryResult {
     
     private final ResultSetMetaData resultSetMetaData;
     
-    private final Iterator<List<Object>> rows;
+    private final int[] columnTypes;
     
-    private List<Object> currentRow;
+    private final boolean[] signed;
+    
+    private final List<Object[]> rows;
+    
+    private int nextRowIndex;
+    
+    private Object[] currentRow;
     
     public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
         resultSetMetaData = resultSet.getMetaData();
+        int columnCount = resultSetMetaData.getColumnCount();
+        columnTypes = new int[columnCount];
+        signed = new boolean[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnTypes[i] = resultSetMetaData.getColumnType(i + 1);
+            signed[i] = (Types.INTEGER == columnTypes[i] || Types.BIGINT == columnTypes[i]) && resultSetMetaData.isSigned(i + 1);
+        }
         rows = getRows(resultSet);
     }
     
-    private Iterator<List<Object>> getRows(final ResultSet resultSet) throws SQLException {
-        Collection<List<Object>> result = new LinkedList<>();
+    private List<Object[]> getRows(final ResultSet resultSet) throws SQLException {
+        List<Object[]> result = new ArrayList<>();
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(resultSet.getMetaData().getColumnCount());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                Object rowValue = getRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+            Object[] rowData = new Object[columnTypes.length];
+            for (int i = 0; i < columnTypes.length; i++) {
+                Object rowValue = getRowValue(resultSet, i);
+                rowData[i] = resultSet.wasNull() ? null : rowValue;
             }
             result.add(rowData);
         }
-        return result.iterator();
+        return result;
     }
     
-    private Object getRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        switch (metaData.getColumnType(columnIndex)) {
+    private Object getRowValue(final ResultSet resultSet, final int columnOffset) throws SQLException {
+        int columnIndex = columnOffset + 1;
+        switch (columnTypes[columnOffset]) {
             case Types.BOOLEAN:
                 return resultSet.getBoolean(columnIndex);
             case Types.TINYINT:
             case Types.SMALLINT:
                 return resultSet.getInt(columnIndex);
             case Types.INTEGER:
-                if (metaData.isSigned(columnIndex)) {
+                if (signed[columnOffset]) {
                     return resultSet.getInt(columnIndex);
                 }
                 return resultSet.getLong(columnIndex);
             case Types.BIGINT:
-                if (metaData.isSigned(columnIndex)) {
+                if (signed[columnOffset]) {
                     return resultSet.getLong(columnIndex);
                 }
                 return resultSet.getBigDecimal(columnIndex).toBigInteger();
@@ -112,8 +122,9 @@ public final class MemoryQueryResult implements QueryResult {
     
     @Override
     public boolean next() {
-        if (rows.hasNext()) {
-            currentRow = rows.next();
+        if (nextRowIndex < rows.size()) {
+            currentRow = rows.get(nextRowIndex);
+            rows.set(nextRowIndex++, null);
             return true;
         }
         currentRow = null;
@@ -122,17 +133,17 @@ public final class MemoryQueryResult implements QueryResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.get(columnIndex - 1);
+        return currentRow[columnIndex - 1];
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.get(columnIndex - 1);
+        return currentRow[columnIndex - 1];
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return getInputStream(currentRow.get(columnIndex - 1));
+        return getInputStream(currentRow[columnIndex - 1]);
     }
     
     @SneakyThrows
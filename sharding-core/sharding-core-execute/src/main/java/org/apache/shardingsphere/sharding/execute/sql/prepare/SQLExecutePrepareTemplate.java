@@ -95,6 +95,6 @@ public final class SQLExecutePrepareTemplate {
         for (SQLUnit each : sqlUnitGroup) {
             result.add(callback.createStatementExecuteUnit(connection, new ExecutionUnit(dataSourceName, each), connectionMode));
         }
-        return new InputGroup<>(result);
+        return new InputGroup<>(dataSourceName, result);
     }
 }
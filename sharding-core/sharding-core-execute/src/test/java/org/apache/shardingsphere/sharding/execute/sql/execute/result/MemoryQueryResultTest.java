@@ -44,6 +44,8 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class MemoryQueryResultTest {
@@ -63,6 +65,22 @@ public final class MemoryQueryResultTest {
         assertFalse(queryResult.next());
     }
     
+    @Test
+    public void assertNextWithMultipleRows() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getInt(1)).thenReturn(1, 2, 3);
+        MemoryQueryResult queryResult = new MemoryQueryResult(resultSet);
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(queryResult.next());
+            assertThat(queryResult.getValue(1, int.class), is((Object) i));
+        }
+        assertFalse(queryResult.next());
+        verify(resultSet, times(1)).getMetaData();
+        verify(resultSet.getMetaData(), times(1)).getColumnType(1);
+        verify(resultSet.getMetaData(), times(1)).isSigned(1);
+    }
+    
     @Test
     public void assertGetValueByNull() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
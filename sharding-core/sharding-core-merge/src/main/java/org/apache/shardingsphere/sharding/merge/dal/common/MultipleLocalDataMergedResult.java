@@ -68,4 +68,8 @@ public final class MultipleLocalDataMergedResult implements MergedResult {
     public boolean wasNull() {
         return null == currentRow;
     }
+    
+    @Override
+    public void close() {
+    }
 }
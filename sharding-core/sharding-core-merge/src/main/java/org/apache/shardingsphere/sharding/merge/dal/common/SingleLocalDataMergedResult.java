@@ -67,4 +67,8 @@ public final class SingleLocalDataMergedResult implements MergedResult {
     public boolean wasNull() {
         return null == currentValue;
     }
+    
+    @Override
+    public void close() {
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.merge.dql;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
@@ -39,6 +40,7 @@ import org.apache.shardingsphere.underlying.executor.QueryResult;
 import org.apache.shardingsphere.underlying.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 
+import java.io.File;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +54,14 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType databaseType;
     
+    private final int groupByMergeMemoryMaxGroups;
+    
+    private final String groupByMergeSpillDirectory;
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType) {
+        this(databaseType, 0, "");
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext, final TableMetas tableMetas) throws SQLException {
         if (1 == queryResults.size()) {
@@ -104,8 +114,15 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults,
                                                 final SelectStatementContext selectStatementContext, final Map<String, Integer> columnLabelIndexMap) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext) : new GroupByMemoryMergedResult(queryResults, selectStatementContext);
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext);
+        }
+        return groupByMergeMemoryMaxGroups > 0 ? new GroupBySpillMergedResult(queryResults, selectStatementContext, groupByMergeMemoryMaxGroups, getSpillDirectory())
+                : new GroupByMemoryMergedResult(queryResults, selectStatementContext);
+    }
+    
+    private File getSpillDirectory() {
+        return groupByMergeSpillDirectory.isEmpty() ? null : new File(groupByMergeSpillDirectory);
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Aggregation buffer for group by, which aggregates rows of the same group in memory.
+ */
+final class GroupByAggregationBuffer {
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final AggregationProjection[] aggregationProjections;
+    
+    private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+    
+    private final Map<GroupByValue, AggregationUnit[]> aggregationMap = new HashMap<>(1024);
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
+    GroupByAggregationBuffer(final SelectStatementContext selectStatementContext) {
+        this.selectStatementContext = selectStatementContext;
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
+    }
+    
+    /**
+     * Judge whether group is in buffer.
+     *
+     * @param groupByValue group by value
+     * @return group is in buffer or not
+     */
+    boolean contains(final GroupByValue groupByValue) {
+        return dataMap.containsKey(groupByValue);
+    }
+    
+    /**
+     * Get count of groups in buffer.
+     *
+     * @return count of groups
+     */
+    int size() {
+        return dataMap.size();
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     *
+     * @param queryResult query result
+     * @param groupByValue group by value of current row
+     * @throws SQLException SQL exception
+     */
+    void aggregate(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        AggregationUnit[] aggregationUnits = getAggregationUnits(queryResult, groupByValue);
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            aggregationValues.clear();
+            if (aggregationProjections[i].getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(queryResult, aggregationProjections[i]));
+            } else {
+                for (AggregationProjection each : aggregationProjections[i].getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(queryResult, each));
+                }
+            }
+            aggregationUnits[i].merge(aggregationValues);
+        }
+    }
+    
+    private AggregationUnit[] getAggregationUnits(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        AggregationUnit[] result = aggregationMap.get(groupByValue);
+        if (null != result) {
+            return result;
+        }
+        dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+        result = new AggregationUnit[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            result[i] = AggregationUnitFactory.create(aggregationProjections[i].getType(), aggregationProjections[i] instanceof AggregationDistinctProjection);
+        }
+        aggregationMap.put(groupByValue, result);
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Get aggregated rows sorted by order by items, or group by items if there is no order by item.
+     * 
+     * <p>
+     *     Only first rows needed by pagination are returned, which are selected by a bounded heap instead of sorting all rows.
+     * </p>
+     *
+     * @param valueCaseSensitive value case sensitive
+     * @return aggregated rows
+     */
+    List<MemoryQueryResultRow> getSortedRows(final List<Boolean> valueCaseSensitive) {
+        setAggregationValueToMemoryRow();
+        Comparator<MemoryQueryResultRow> comparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        long maxRowCount = selectStatementContext.getPaginationContext().getMergedRowCount().orElse(Long.MAX_VALUE);
+        List<MemoryQueryResultRow> result = maxRowCount < dataMap.size() ? getFirstRows(comparator, (int) maxRowCount) : new ArrayList<>(dataMap.values());
+        result.sort(comparator);
+        return result;
+    }
+    
+    private List<MemoryQueryResultRow> getFirstRows(final Comparator<MemoryQueryResultRow> comparator, final int rowCount) {
+        if (0 == rowCount) {
+            return new ArrayList<>(0);
+        }
+        Queue<MemoryQueryResultRow> heap = new PriorityQueue<>(rowCount, comparator.reversed());
+        for (MemoryQueryResultRow each : dataMap.values()) {
+            if (heap.size() < rowCount) {
+                heap.offer(each);
+            } else if (comparator.compare(each, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(each);
+            }
+        }
+        return new ArrayList<>(heap);
+    }
+    
+    private void setAggregationValueToMemoryRow() {
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            AggregationUnit[] aggregationUnits = aggregationMap.get(entry.getKey());
+            for (int i = 0; i < aggregationProjections.length; i++) {
+                entry.getValue().setCell(aggregationProjections[i].getIndex(), aggregationUnits[i].getResult());
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.MemoryRowsQueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFile;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFileQueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+import org.apache.shardingsphere.underlying.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Merged result for group by, which spills groups to temporary files when there are too many groups to be held in memory.
+ * 
+ * <p>
+ *     Groups are aggregated in memory until maximum groups in memory is reached, rows of other groups are hash partitioned into spill files.
+ *     Each partition is aggregated the same way at next level, until maximum partition level is reached.
+ *     Aggregated groups are written as sorted runs, which are merged by order by items, or group by items if there is no order by item.
+ *     At most {@code MAX_MERGED_RUNS} sorted runs are read at the same time, more sorted runs are merged into larger sorted runs first.
+ *     Partition files are deleted once they are aggregated, sorted run files are deleted once they are read through or merged result is closed.
+ * </p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int MAX_PARTITION_LEVEL = 3;
+    
+    private static final int MAX_MERGED_RUNS = 128;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final int maxGroupsInMemory;
+    
+    private final File spillDirectory;
+    
+    private final QueryResult metaData;
+    
+    private final int columnCount;
+    
+    private final List<Boolean> valueCaseSensitive;
+    
+    private final List<QueryResult> sortedRuns = new LinkedList<>();
+    
+    private final Collection<SpillFileQueryResult> spilledRuns = new LinkedList<>();
+    
+    @Getter
+    private long spilledBytes;
+    
+    private final MergedResult mergedResult;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final int maxGroupsInMemory, final File spillDirectory) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.maxGroupsInMemory = maxGroupsInMemory;
+        this.spillDirectory = spillDirectory;
+        metaData = queryResults.get(0);
+        columnCount = metaData.getColumnCount();
+        valueCaseSensitive = GroupByMemoryMergedResult.getValueCaseSensitive(metaData);
+        boolean aggregated = false;
+        try {
+            aggregate(queryResults, 0);
+            mergeSortedRuns();
+            aggregated = true;
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        } finally {
+            if (!aggregated) {
+                close();
+            }
+        }
+        mergedResult = new OrderByStreamMergedResult(sortedRuns, getSortItems());
+    }
+    
+    private void aggregate(final List<QueryResult> queryResults, final int level) throws SQLException, IOException {
+        GroupByAggregationBuffer aggregationBuffer = new GroupByAggregationBuffer(selectStatementContext);
+        SpillFile[] partitions = new SpillFile[PARTITION_COUNT];
+        boolean spilled = false;
+        try {
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                    if (level < MAX_PARTITION_LEVEL && aggregationBuffer.size() >= maxGroupsInMemory && !aggregationBuffer.contains(groupByValue)) {
+                        spill(partitions, getPartition(groupByValue, level), each);
+                        spilled = true;
+                    } else {
+                        aggregationBuffer.aggregate(each, groupByValue);
+                    }
+                }
+            }
+            List<MemoryQueryResultRow> rows = aggregationBuffer.getSortedRows(valueCaseSensitive);
+            if (0 == level && !spilled) {
+                sortedRuns.add(new MemoryRowsQueryResult(rows, metaData));
+                return;
+            }
+            writeSortedRun(rows);
+            for (SpillFile each : partitions) {
+                if (null != each) {
+                    aggregatePartition(each, level + 1);
+                }
+            }
+        } finally {
+            for (SpillFile each : partitions) {
+                if (null != each) {
+                    each.delete();
+                }
+            }
+        }
+    }
+    
+    private void aggregatePartition(final SpillFile partition, final int level) throws SQLException, IOException {
+        SpillFileQueryResult queryResult = new SpillFileQueryResult(partition, metaData);
+        try {
+            finishWriting(partition);
+            aggregate(Collections.singletonList(queryResult), level);
+        } finally {
+            queryResult.close();
+        }
+    }
+    
+    private int getPartition(final GroupByValue groupByValue, final int level) {
+        int hash = groupByValue.hashCode() * 0x9E3779B9;
+        return hash >>> (Integer.SIZE - PARTITION_BITS * (level + 1)) & (PARTITION_COUNT - 1);
+    }
+    
+    private void spill(final SpillFile[] partitions, final int partition, final QueryResult queryResult) throws SQLException, IOException {
+        if (null == partitions[partition]) {
+            partitions[partition] = new SpillFile(spillDirectory);
+        }
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        partitions[partition].write(row);
+    }
+    
+    private void writeSortedRun(final List<MemoryQueryResultRow> rows) throws IOException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        SpillFile sortedRun = new SpillFile(spillDirectory);
+        SpillFileQueryResult queryResult = new SpillFileQueryResult(sortedRun, metaData);
+        spilledRuns.add(queryResult);
+        for (MemoryQueryResultRow each : rows) {
+            sortedRun.write(MemoryRowsQueryResult.toArray(each, columnCount));
+        }
+        finishWriting(sortedRun);
+        sortedRuns.add(queryResult);
+    }
+    
+    private void mergeSortedRuns() throws SQLException, IOException {
+        while (sortedRuns.size() > MAX_MERGED_RUNS) {
+            List<QueryResult> mergedRuns = new LinkedList<>(sortedRuns.subList(0, MAX_MERGED_RUNS));
+            sortedRuns.subList(0, MAX_MERGED_RUNS).clear();
+            MergedResult runsMergedResult = new OrderByStreamMergedResult(mergedRuns, getSortItems());
+            SpillFile sortedRun = new SpillFile(spillDirectory);
+            SpillFileQueryResult queryResult = new SpillFileQueryResult(sortedRun, metaData);
+            spilledRuns.add(queryResult);
+            while (runsMergedResult.next()) {
+                Object[] row = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    row[i] = runsMergedResult.getValue(i + 1, Object.class);
+                }
+                sortedRun.write(row);
+            }
+            finishWriting(sortedRun);
+            spilledRuns.removeAll(mergedRuns);
+            sortedRuns.add(queryResult);
+        }
+    }
+    
+    private void finishWriting(final SpillFile spillFile) throws IOException {
+        spilledBytes += spillFile.finishWriting();
+    }
+    
+    private Collection<OrderByItem> getSortItems() {
+        return selectStatementContext.getOrderByContext().getItems().isEmpty() ? selectStatementContext.getGroupByContext().getItems() : selectStatementContext.getOrderByContext().getItems();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return mergedResult.next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return mergedResult.getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return mergedResult.getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return mergedResult.getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return mergedResult.wasNull();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        SQLException ex = null;
+        for (SpillFileQueryResult each : spilledRuns) {
+            try {
+                each.close();
+            } catch (final SQLException closeException) {
+                if (null == ex) {
+                    ex = closeException;
+                } else {
+                    ex.setNextException(closeException);
+                }
+            }
+        }
+        spilledRuns.clear();
+        if (null != ex) {
+            throw ex;
+        }
+    }
+}
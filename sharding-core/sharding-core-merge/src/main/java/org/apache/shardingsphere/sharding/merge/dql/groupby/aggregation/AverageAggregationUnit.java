@@ -28,31 +28,29 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AverageAggregationUnit implements AggregationUnit {
     
-    private BigDecimal count;
+    private final NumericAccumulator count = new NumericAccumulator();
     
-    private BigDecimal sum;
+    private final NumericAccumulator sum = new NumericAccumulator();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (null == count) {
-            count = new BigDecimal("0");
-        }
-        if (null == sum) {
-            sum = new BigDecimal("0");
-        }
-        count = count.add(new BigDecimal(values.get(0).toString()));
-        sum = sum.add(new BigDecimal(values.get(1).toString()));
+        count.add(values.get(0));
+        sum.add(values.get(1));
     }
     
     @Override
     public Comparable<?> getResult() {
-        if (null == count || BigDecimal.ZERO.equals(count)) {
-            return count;
+        if (!count.isAccumulated()) {
+            return null;
+        }
+        BigDecimal countValue = count.getValue();
+        if (BigDecimal.ZERO.equals(countValue)) {
+            return countValue;
         }
         // TODO use metadata to fetch float number precise for database field
-        return sum.divide(count, 4, BigDecimal.ROUND_HALF_UP);
+        return sum.getValue().divide(countValue, 4, BigDecimal.ROUND_HALF_UP);
     }
 }
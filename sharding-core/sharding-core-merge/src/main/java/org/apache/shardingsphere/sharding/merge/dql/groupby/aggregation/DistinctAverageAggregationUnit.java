@@ -20,8 +20,6 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
-import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -30,37 +28,35 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctAverageAggregationUnit implements AggregationUnit {
     
-    private BigDecimal count;
+    private final NumericAccumulator count = new NumericAccumulator();
     
-    private BigDecimal sum;
+    private final NumericAccumulator sum = new NumericAccumulator();
     
-    private Collection<Comparable<?>> countValues = new LinkedHashSet<>();
+    private final DistinctValues countValues = new DistinctValues();
     
-    private Collection<Comparable<?>> sumValues = new LinkedHashSet<>();
+    private final DistinctValues sumValues = new DistinctValues();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (this.countValues.add(values.get(0)) && this.sumValues.add(values.get(0))) {
-            if (null == count) {
-                count = new BigDecimal("0");
-            }
-            if (null == sum) {
-                sum = new BigDecimal("0");
-            }
-            count = count.add(new BigDecimal(values.get(0).toString()));
-            sum = sum.add(new BigDecimal(values.get(1).toString()));
+        if (countValues.add(values.get(0)) && sumValues.add(values.get(0))) {
+            count.add(values.get(0));
+            sum.add(values.get(1));
         }
     }
     
     @Override
     public Comparable<?> getResult() {
-        if (null == count || BigDecimal.ZERO.equals(count)) {
-            return count;
+        if (!count.isAccumulated()) {
+            return null;
+        }
+        BigDecimal countValue = count.getValue();
+        if (BigDecimal.ZERO.equals(countValue)) {
+            return countValue;
         }
         // TODO use metadata to fetch float number precise for database field
-        return sum.divide(count, 4, BigDecimal.ROUND_HALF_UP);
+        return sum.getValue().divide(countValue, 4, BigDecimal.ROUND_HALF_UP);
     }
 }
@@ -19,9 +19,6 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
 
-import java.math.BigDecimal;
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 
 /**
@@ -30,9 +27,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctSumAggregationUnit implements AggregationUnit {
     
-    private BigDecimal result;
+    private final NumericAccumulator result = new NumericAccumulator();
     
-    private Collection<Comparable<?>> values = new HashSet<>();
+    private final DistinctValues values = new DistinctValues();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
@@ -40,15 +37,12 @@ public final class DistinctSumAggregationUnit implements AggregationUnit {
             return;
         }
         if (this.values.add(values.get(0))) {
-            if (null == result) {
-                result = new BigDecimal("0");
-            }
-            result = result.add(new BigDecimal(values.get(0).toString()));
+            result.add(values.get(0));
         }
     }
     
     @Override
     public Comparable<?> getResult() {
-        return result;
+        return result.isAccumulated() ? result.getValue() : null;
     }
 }
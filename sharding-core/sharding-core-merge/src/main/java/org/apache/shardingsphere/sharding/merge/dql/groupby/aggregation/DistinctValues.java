@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * Distinct values, which stores integral values in open addressing primitive long hash table and other values in hash set.
+ */
+final class DistinctValues {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private long[] longValues;
+    
+    private boolean containsZero;
+    
+    private int longValuesCount;
+    
+    private Collection<Comparable<?>> otherValues;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     * @return value is not contained before or not
+     */
+    boolean add(final Comparable<?> value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return addLong(((Number) value).longValue());
+        }
+        if (null == otherValues) {
+            otherValues = new HashSet<>();
+        }
+        return otherValues.add(value);
+    }
+    
+    private boolean addLong(final long value) {
+        if (0L == value) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            return true;
+        }
+        if (null == longValues) {
+            longValues = new long[INITIAL_CAPACITY];
+        } else if (longValuesCount * 2 >= longValues.length) {
+            resize();
+        }
+        if (!insert(longValues, value)) {
+            return false;
+        }
+        longValuesCount++;
+        return true;
+    }
+    
+    private static boolean insert(final long[] table, final long value) {
+        int mask = table.length - 1;
+        int index = hash(value) & mask;
+        while (0L != table[index]) {
+            if (value == table[index]) {
+                return false;
+            }
+            index = index + 1 & mask;
+        }
+        table[index] = value;
+        return true;
+    }
+    
+    private static int hash(final long value) {
+        long result = value * 0x9E3779B97F4A7C15L;
+        return (int) (result ^ result >>> 32);
+    }
+    
+    private void resize() {
+        long[] table = new long[longValues.length * 2];
+        for (long each : longValues) {
+            if (0L != each) {
+                insert(table, each);
+            }
+        }
+        longValues = table;
+    }
+    
+    /**
+     * Get count of distinct values.
+     *
+     * @return count of distinct values
+     */
+    int size() {
+        return longValuesCount + (containsZero ? 1 : 0) + (null == otherValues ? 0 : otherValues.size());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Numeric accumulator, which accumulates integral values in primitive long and falls back to big decimal on overflow or for other values.
+ */
+final class NumericAccumulator {
+    
+    private boolean accumulated;
+    
+    private long longValue;
+    
+    private BigDecimal decimalValue;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     */
+    void add(final Comparable<?> value) {
+        accumulated = true;
+        if (null == decimalValue && isIntegral(value)) {
+            long addend = ((Number) value).longValue();
+            long result = longValue + addend;
+            if (((longValue ^ result) & (addend ^ result)) < 0) {
+                decimalValue = BigDecimal.valueOf(longValue).add(BigDecimal.valueOf(addend));
+            } else {
+                longValue = result;
+            }
+            return;
+        }
+        decimalValue = getValue().add(toBigDecimal(value));
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private BigDecimal toBigDecimal(final Comparable<?> value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        return isIntegral(value) ? BigDecimal.valueOf(((Number) value).longValue()) : new BigDecimal(value.toString());
+    }
+    
+    /**
+     * Judge whether any value is added.
+     *
+     * @return any value is added or not
+     */
+    boolean isAccumulated() {
+        return accumulated;
+    }
+    
+    /**
+     * Get accumulated value.
+     *
+     * @return accumulated value
+     */
+    BigDecimal getValue() {
+        return null == decimalValue ? BigDecimal.valueOf(longValue) : decimalValue;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+
+/**
+ * Query result of rows which are already loaded from data nodes.
+ */
+@RequiredArgsConstructor
+public abstract class AbstractRowsQueryResult implements QueryResult {
+    
+    private final QueryResult metaData;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    @Override
+    public final boolean next() throws SQLException {
+        currentRow = nextRow();
+        return null != currentRow;
+    }
+    
+    protected abstract Object[] nextRow() throws SQLException;
+    
+    @Override
+    public final Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public final InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public final boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public final int getColumnCount() throws SQLException {
+        return metaData.getColumnCount();
+    }
+    
+    @Override
+    public final String getColumnLabel(final int columnIndex) throws SQLException {
+        return metaData.getColumnLabel(columnIndex);
+    }
+    
+    @Override
+    public final boolean isCaseSensitive(final int columnIndex) throws SQLException {
+        return metaData.isCaseSensitive(columnIndex);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Query result of memory query result rows.
+ */
+public final class MemoryRowsQueryResult extends AbstractRowsQueryResult {
+    
+    private final Iterator<MemoryQueryResultRow> rows;
+    
+    private final int columnCount;
+    
+    public MemoryRowsQueryResult(final List<MemoryQueryResultRow> rows, final QueryResult metaData) throws SQLException {
+        super(metaData);
+        this.rows = rows.iterator();
+        columnCount = metaData.getColumnCount();
+    }
+    
+    @Override
+    protected Object[] nextRow() {
+        if (!rows.hasNext()) {
+            return null;
+        }
+        return toArray(rows.next(), columnCount);
+    }
+    
+    /**
+     * Convert memory query result row to array.
+     *
+     * @param row memory query result row
+     * @param columnCount column count
+     * @return array of cells
+     */
+    public static Object[] toArray(final MemoryQueryResultRow row, final int columnCount) {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = row.getCell(i + 1);
+        }
+        return result;
+    }
+}
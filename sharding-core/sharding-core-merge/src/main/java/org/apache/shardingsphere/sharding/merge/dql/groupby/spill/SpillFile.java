@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import com.google.common.io.CountingOutputStream;
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Temporary file of spilled rows.
+ */
+public final class SpillFile {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final File file;
+    
+    private final CountingOutputStream countingOutput;
+    
+    private final DataOutputStream output;
+    
+    @Getter
+    private int rowCount;
+    
+    private boolean writingFinished;
+    
+    public SpillFile(final File directory) throws IOException {
+        file = File.createTempFile("shardingsphere-merge-", ".spill", directory);
+        countingOutput = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+        output = new DataOutputStream(countingOutput);
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        SpillRowCodec.write(output, row);
+        rowCount++;
+    }
+    
+    /**
+     * Finish writing.
+     *
+     * @return written bytes
+     * @throws IOException IO exception
+     */
+    public long finishWriting() throws IOException {
+        writingFinished = true;
+        output.close();
+        return countingOutput.getCount();
+    }
+    
+    /**
+     * Open reader.
+     *
+     * @return reader of spilled rows
+     * @throws IOException IO exception
+     */
+    public Reader openReader() throws IOException {
+        return new Reader(new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE)));
+    }
+    
+    /**
+     * Delete file, output is closed first if writing is not finished.
+     */
+    public void delete() {
+        if (!writingFinished) {
+            writingFinished = true;
+            try {
+                output.close();
+            } catch (final IOException ignored) {
+            }
+        }
+        file.delete();
+    }
+    
+    /**
+     * Reader of spilled rows.
+     */
+    public final class Reader implements AutoCloseable {
+        
+        private final DataInputStream input;
+        
+        private int remainingRowCount = rowCount;
+        
+        private Reader(final DataInputStream input) {
+            this.input = input;
+        }
+        
+        /**
+         * Read next row.
+         *
+         * @return next row, or null if all rows are read
+         * @throws IOException IO exception
+         */
+        public Object[] read() throws IOException {
+            if (0 == remainingRowCount) {
+                return null;
+            }
+            remainingRowCount--;
+            return SpillRowCodec.read(input);
+        }
+        
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+    }
+}
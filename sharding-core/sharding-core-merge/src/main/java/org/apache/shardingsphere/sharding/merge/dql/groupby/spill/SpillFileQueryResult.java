@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * Query result of spill file, the file is deleted after all rows are read or query result is closed.
+ */
+public final class SpillFileQueryResult extends AbstractRowsQueryResult {
+    
+    private final SpillFile spillFile;
+    
+    private SpillFile.Reader reader;
+    
+    private boolean closed;
+    
+    public SpillFileQueryResult(final SpillFile spillFile, final QueryResult metaData) {
+        super(metaData);
+        this.spillFile = spillFile;
+    }
+    
+    @Override
+    protected Object[] nextRow() throws SQLException {
+        if (closed) {
+            return null;
+        }
+        try {
+            if (null == reader) {
+                reader = spillFile.openReader();
+            }
+            Object[] result = reader.read();
+            if (null == result) {
+                close();
+            }
+            return result;
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Close reader and delete spill file.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (null != reader) {
+                reader.close();
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        } finally {
+            spillFile.delete();
+        }
+    }
+}
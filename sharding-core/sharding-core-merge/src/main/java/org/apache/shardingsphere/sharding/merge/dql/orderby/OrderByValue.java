@@ -19,15 +19,12 @@ package org.apache.shardingsphere.sharding.merge.dql.orderby;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.sql.constant.OrderDirection;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 
 /**
  * Order by value.
@@ -37,25 +34,31 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     @Getter
     private final QueryResult queryResult;
     
-    private final Collection<OrderByItem> orderByItems;
+    private final int[] orderByIndexes;
     
-    private final List<Boolean> orderValuesCaseSensitive;
+    private final OrderDirection[] orderDirections;
     
-    private List<Comparable<?>> orderValues;
+    private final OrderDirection[] nullOrderDirections;
     
-    public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems) {
-        this.queryResult = queryResult;
-        this.orderByItems = orderByItems;
-        this.orderValuesCaseSensitive = getOrderValuesCaseSensitive();
-    }
+    private final boolean[] orderValuesCaseSensitive;
     
-    @SneakyThrows
-    private List<Boolean> getOrderValuesCaseSensitive() {
-        List<Boolean> result = new ArrayList<>(orderByItems.size());
+    private final Comparable<?>[] orderValues;
+    
+    public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems) throws SQLException {
+        this.queryResult = queryResult;
+        orderByIndexes = new int[orderByItems.size()];
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullOrderDirections = new OrderDirection[orderByItems.size()];
+        orderValuesCaseSensitive = new boolean[orderByItems.size()];
+        orderValues = new Comparable<?>[orderByItems.size()];
+        int i = 0;
         for (OrderByItem each : orderByItems) {
-            result.add(queryResult.isCaseSensitive(each.getIndex()));
+            orderByIndexes[i] = each.getIndex();
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullOrderDirections[i] = each.getSegment().getNullOrderDirection();
+            orderValuesCaseSensitive[i] = queryResult.isCaseSensitive(each.getIndex());
+            i++;
         }
-        return result;
     }
     
     /**
@@ -66,30 +69,27 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderByIndexes.length; i++) {
+            Object value = queryResult.getValue(orderByIndexes[i], Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[i] = (Comparable<?>) value;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = CompareUtil.compareTo(orderValues[i], o.orderValues[i], orderDirections[i], nullOrderDirections[i], orderValuesCaseSensitive[i]);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values, which needs only log(k) comparisons to replace the minimum value of k order by values.
+ * 
+ * <p>
+ *     For equal order by values, the one already waiting in the tree wins over the one just iterated.
+ * </p>
+ */
+final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private int winner;
+    
+    private int remaining;
+    
+    OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[this.orderByValues.length];
+        losers = new int[this.orderByValues.length];
+        remaining = this.orderByValues.length;
+        build();
+    }
+    
+    private void build() {
+        int size = orderByValues.length;
+        if (size < 2) {
+            return;
+        }
+        int[] winners = new int[size * 2];
+        for (int i = 0; i < size; i++) {
+            winners[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            boolean leftWins = isBeforeOrEqual(left, right);
+            winners[node] = leftWins ? left : right;
+            losers[node] = leftWins ? right : left;
+        }
+        winner = winners[1];
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    boolean isEmpty() {
+        return 0 == remaining;
+    }
+    
+    /**
+     * Get minimum order by value.
+     *
+     * @return minimum order by value
+     */
+    OrderByValue peek() {
+        return orderByValues[winner];
+    }
+    
+    /**
+     * Iterate minimum order by value to next data and replay the tree.
+     *
+     * @throws SQLException SQL exception
+     */
+    void next() throws SQLException {
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+            remaining--;
+        }
+        int candidate = winner;
+        for (int node = (candidate + orderByValues.length) / 2; node > 0; node /= 2) {
+            if (isBeforeOrEqual(losers[node], candidate)) {
+                int loser = candidate;
+                candidate = losers[node];
+                losers[node] = loser;
+            }
+        }
+        winner = candidate;
+    }
+    
+    private boolean isBeforeOrEqual(final int index, final int otherIndex) {
+        if (exhausted[index]) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return true;
+        }
+        return orderByValues[index].compareTo(orderByValues[otherIndex]) <= 0;
+    }
+}
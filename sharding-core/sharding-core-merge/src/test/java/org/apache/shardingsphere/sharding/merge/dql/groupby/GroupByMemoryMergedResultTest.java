@@ -28,6 +28,7 @@ import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.Pro
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
@@ -89,7 +90,35 @@ public final class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextWithPagination() throws SQLException {
+        QueryResult queryResult1 = createQueryResult();
+        when(queryResult1.next()).thenReturn(true, false);
+        when(queryResult1.getValue(1, Object.class)).thenReturn(20);
+        when(queryResult1.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult1.getValue(3, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(4, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(5, Object.class)).thenReturn(20);
+        QueryResult queryResult2 = createQueryResult();
+        when(queryResult2.next()).thenReturn(true, false);
+        when(queryResult2.getValue(1, Object.class)).thenReturn(30);
+        when(queryResult2.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult2.getValue(3, Object.class)).thenReturn(3);
+        when(queryResult2.getValue(4, Object.class)).thenReturn(3);
+        when(queryResult2.getValue(5, Object.class)).thenReturn(30);
+        PaginationContext paginationContext = new PaginationContext(null, new NumberLiteralLimitValueSegment(0, 0, 1), Collections.emptyList());
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"));
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(paginationContext), null);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertFalse(actual.next());
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
+        return createSelectStatementContext(new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final PaginationContext paginationContext) {
         AggregationProjection aggregationProjection1 = new AggregationProjection(AggregationType.COUNT, "(*)", null);
         aggregationProjection1.setIndex(1);
         AggregationProjection aggregationProjection2 = new AggregationProjection(AggregationType.AVG, "(num)", null);
@@ -104,7 +133,7 @@ public final class GroupByMemoryMergedResultTest {
         return new SelectStatementContext(new SelectStatement(),
                 new GroupByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
                 new OrderByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))), false),
-                projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+                projectionsContext, paginationContext);
     }
     
     private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillMergedResultTest {
+    
+    private static final int GROUP_COUNT = 200;
+    
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 1, getSpillDirectory());
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(), createQueryResult(), createQueryResult()), createSelectStatementContext(OrderDirection.DESC), null);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertFalse(actual.next());
+        assertThat(((GroupBySpillMergedResult) actual).getSpilledBytes(), is(0L));
+    }
+    
+    @Test
+    public void assertNextWithoutSpill() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), GROUP_COUNT, getSpillDirectory());
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(0), createQueryResult(1), createQueryResult(2)), createSelectStatementContext(OrderDirection.DESC), null);
+        assertMergedResult(actual, GROUP_COUNT - 1, -1);
+        assertThat(((GroupBySpillMergedResult) actual).getSpilledBytes(), is(0L));
+    }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 4, getSpillDirectory());
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(0), createQueryResult(1), createQueryResult(2)), createSelectStatementContext(OrderDirection.DESC), null);
+        assertTrue(((GroupBySpillMergedResult) actual).getSpilledBytes() > 0L);
+        assertMergedResult(actual, GROUP_COUNT - 1, -1);
+        assertSpillFileCount(0);
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsRead() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 4, getSpillDirectory());
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(0), createQueryResult(1), createQueryResult(2)), createSelectStatementContext(OrderDirection.DESC), null);
+        assertTrue(actual.next());
+        assertTrue(temporaryFolder.getRoot().list().length > 0);
+        actual.close();
+        assertSpillFileCount(0);
+    }
+    
+    @Test
+    public void assertDeleteSpillFilesWhenAggregationFailed() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 4, getSpillDirectory());
+        try {
+            resultMerger.merge(Arrays.asList(createQueryResult(0), createQueryResult(1), createFailedQueryResult()), createSelectStatementContext(OrderDirection.DESC), null);
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("failed"));
+        }
+        assertSpillFileCount(0);
+    }
+    
+    @Test
+    public void assertNextWithSpillAndWithoutOrderBy() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 1, getSpillDirectory());
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(0), createQueryResult(1), createQueryResult(2)), createSelectStatementContext(null), null);
+        assertMergedResult(actual, 0, 1);
+    }
+    
+    @Test
+    public void assertNextWithMergingSortedRuns() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 1, getSpillDirectory());
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(0), createQueryResult(1), createQueryResult(2)), createSelectStatementContext(OrderDirection.DESC), null);
+        assertTrue(temporaryFolder.getRoot().list().length <= 128);
+        assertMergedResult(actual, GROUP_COUNT - 1, -1);
+        assertSpillFileCount(0);
+    }
+    
+    @Test
+    public void assertNextWithSpillAndPagination() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 4, getSpillDirectory());
+        PaginationContext paginationContext = new PaginationContext(new NumberLiteralLimitValueSegment(0, 0, 5), new NumberLiteralLimitValueSegment(0, 0, 10), Collections.emptyList());
+        MergedResult actual = resultMerger.merge(
+                Arrays.asList(createQueryResult(0), createQueryResult(1), createQueryResult(2)), createSelectStatementContext(OrderDirection.DESC, paginationContext), null);
+        for (int id = GROUP_COUNT - 6; id > GROUP_COUNT - 16; id--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(3, Object.class), is((Object) id));
+            assertThat(actual.getValue(2, Object.class), is(new BigDecimal(id * 3 + 3)));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private String getSpillDirectory() {
+        return temporaryFolder.getRoot().getPath();
+    }
+    
+    private void assertSpillFileCount(final int expected) {
+        assertThat(temporaryFolder.getRoot().list().length, is(expected));
+    }
+    
+    private void assertMergedResult(final MergedResult actual, final int firstId, final int step) throws SQLException {
+        for (int i = 0, id = firstId; i < GROUP_COUNT; i++, id += step) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(3)));
+            assertThat(actual.getValue(2, Object.class), is(new BigDecimal(id * 3 + 3)));
+            assertThat(actual.getValue(3, Object.class), is((Object) id));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final OrderDirection orderDirection) {
+        return createSelectStatementContext(orderDirection, new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final OrderDirection orderDirection, final PaginationContext paginationContext) {
+        AggregationProjection aggregationProjection1 = new AggregationProjection(AggregationType.COUNT, "(*)", null);
+        aggregationProjection1.setIndex(1);
+        AggregationProjection aggregationProjection2 = new AggregationProjection(AggregationType.SUM, "(num)", null);
+        aggregationProjection2.setIndex(2);
+        ProjectionsContext projectionsContext = new ProjectionsContext(0, 0, false, Arrays.asList(aggregationProjection1, aggregationProjection2));
+        List<OrderByItem> orderByItems = null == orderDirection
+                ? Collections.<OrderByItem>emptyList() : Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, orderDirection, OrderDirection.ASC)));
+        return new SelectStatementContext(new SelectStatement(),
+                new GroupByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                new OrderByContext(orderByItems, false), projectionsContext, paginationContext);
+    }
+    
+    private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
+        OrderByItem result = new OrderByItem(indexOrderByItemSegment);
+        result.setIndex(indexOrderByItemSegment.getColumnIndex());
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final int offset) throws SQLException {
+        return createQueryResult(createRows(offset), false);
+    }
+    
+    private QueryResult createQueryResult() throws SQLException {
+        return createQueryResult(Collections.<Object[]>emptyList(), false);
+    }
+    
+    private QueryResult createQueryResult(final List<Object[]> rows, final boolean failedAfterAllRows) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        Iterator<Object[]> iterator = rows.iterator();
+        Object[][] currentRow = new Object[1][];
+        when(result.getColumnCount()).thenReturn(3);
+        when(result.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getColumnLabel(2)).thenReturn("SUM(num)");
+        when(result.getColumnLabel(3)).thenReturn("id");
+        when(result.next()).thenAnswer(invocation -> {
+            if (failedAfterAllRows && !iterator.hasNext()) {
+                throw new SQLException("failed");
+            }
+            currentRow[0] = iterator.hasNext() ? iterator.next() : null;
+            return null != currentRow[0];
+        });
+        when(result.getValue(anyInt(), any())).thenAnswer(invocation -> currentRow[0][(int) invocation.getArgument(0) - 1]);
+        return result;
+    }
+    
+    private QueryResult createFailedQueryResult() throws SQLException {
+        return createQueryResult(createRows(2), true);
+    }
+    
+    private List<Object[]> createRows(final int offset) {
+        List<Object[]> result = new LinkedList<>();
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            int id = (i * 7 + offset * 13) % GROUP_COUNT;
+            result.add(new Object[]{1, id + offset, id});
+        }
+        return result;
+    }
+}
@@ -19,9 +19,11 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 public final class AccumulationAggregationUnitTest {
@@ -36,4 +38,29 @@ public final class AccumulationAggregationUnitTest {
         accumulationAggregationUnit.merge(Collections.singletonList(10));
         assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(12));
     }
+    
+    @Test
+    public void assertAccumulationAggregationWithoutValue() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(null));
+        assertNull(accumulationAggregationUnit.getResult());
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithLongOverflow() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(Long.MAX_VALUE));
+        accumulationAggregationUnit.merge(Collections.singletonList(1));
+        accumulationAggregationUnit.merge(Collections.singletonList(1L));
+        assertThat(accumulationAggregationUnit.getResult(), is((Comparable) BigDecimal.valueOf(Long.MAX_VALUE).add(new BigDecimal(2))));
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithDecimal() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(1));
+        accumulationAggregationUnit.merge(Collections.singletonList(new BigDecimal("1.10")));
+        accumulationAggregationUnit.merge(Collections.singletonList(0.2D));
+        assertThat(accumulationAggregationUnit.getResult(), is((Comparable) new BigDecimal("2.30")));
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class DistinctCountAggregationUnitTest {
+    
+    @Test
+    public void assertDistinctCountAggregation() {
+        DistinctCountAggregationUnit distinctCountAggregationUnit = new DistinctCountAggregationUnit();
+        distinctCountAggregationUnit.merge(null);
+        distinctCountAggregationUnit.merge(Collections.singletonList(null));
+        for (int i = 0; i < 1000; i++) {
+            distinctCountAggregationUnit.merge(Collections.singletonList(i % 100 * 1000000007L));
+        }
+        distinctCountAggregationUnit.merge(Collections.singletonList("foo"));
+        distinctCountAggregationUnit.merge(Collections.singletonList("foo"));
+        assertThat(distinctCountAggregationUnit.getResult(), is((Comparable) 101));
+    }
+}
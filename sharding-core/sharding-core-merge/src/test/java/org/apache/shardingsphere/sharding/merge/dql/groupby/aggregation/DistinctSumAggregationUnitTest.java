@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class DistinctSumAggregationUnitTest {
+    
+    @Test
+    public void assertDistinctSumAggregation() {
+        DistinctSumAggregationUnit distinctSumAggregationUnit = new DistinctSumAggregationUnit();
+        distinctSumAggregationUnit.merge(null);
+        distinctSumAggregationUnit.merge(Collections.singletonList(null));
+        distinctSumAggregationUnit.merge(Collections.singletonList(0));
+        distinctSumAggregationUnit.merge(Collections.singletonList(1));
+        distinctSumAggregationUnit.merge(Collections.singletonList(1));
+        distinctSumAggregationUnit.merge(Collections.singletonList(-10));
+        distinctSumAggregationUnit.merge(Collections.singletonList(new BigDecimal("2.5")));
+        distinctSumAggregationUnit.merge(Collections.singletonList(new BigDecimal("2.5")));
+        assertThat(distinctSumAggregationUnit.getResult(), is((Comparable) new BigDecimal("-6.5")));
+    }
+}
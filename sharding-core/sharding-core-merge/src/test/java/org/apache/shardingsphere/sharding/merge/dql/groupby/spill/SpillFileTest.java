@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SpillFileTest {
+    
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        UUID uuid = UUID.randomUUID();
+        Object[] row = new Object[]{null, 1, 2L, new BigDecimal("-12.345"), 1.5D, 2.5F, "中文", true, (short) 3, (byte) 4,
+            new Date(1000L), new Time(2000L), timestamp, new java.util.Date(3000L), new byte[]{1, 2}, new BigInteger("123456789012345678901234567890"), uuid};
+        SpillFile spillFile = new SpillFile(temporaryFolder.getRoot());
+        spillFile.write(row);
+        spillFile.write(new Object[]{"second"});
+        assertTrue(spillFile.finishWriting() > 0L);
+        try (SpillFile.Reader reader = spillFile.openReader()) {
+            Object[] actual = reader.read();
+            assertThat(actual.length, is(row.length));
+            assertNull(actual[0]);
+            for (int i = 1; i < row.length; i++) {
+                assertThat(actual[i], is(row[i]));
+            }
+            assertThat(reader.read(), is(new Object[]{"second"}));
+            assertNull(reader.read());
+        } finally {
+            spillFile.delete();
+        }
+    }
+    
+    @Test
+    public void assertSpillFileQueryResult() throws IOException, SQLException {
+        QueryResult metaData = mock(QueryResult.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        SpillFile spillFile = new SpillFile(temporaryFolder.getRoot());
+        spillFile.write(new Object[]{1, null});
+        spillFile.finishWriting();
+        QueryResult actual = new SpillFileQueryResult(spillFile, metaData);
+        assertThat(actual.getColumnCount(), is(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertFalse(actual.wasNull());
+        assertNull(actual.getValue(2, Object.class));
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+        assertThat(temporaryFolder.getRoot().list().length, is(0));
+    }
+    
+    @Test
+    public void assertCloseSpillFileQueryResultBeforeAllRowsRead() throws IOException, SQLException {
+        SpillFile spillFile = new SpillFile(temporaryFolder.getRoot());
+        spillFile.write(new Object[]{1});
+        spillFile.write(new Object[]{2});
+        spillFile.finishWriting();
+        SpillFileQueryResult actual = new SpillFileQueryResult(spillFile, mock(QueryResult.class));
+        assertTrue(actual.next());
+        actual.close();
+        assertThat(temporaryFolder.getRoot().list().length, is(0));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertDeleteBeforeWritingFinished() throws IOException {
+        SpillFile spillFile = new SpillFile(temporaryFolder.getRoot());
+        spillFile.write(new Object[]{1});
+        assertThat(temporaryFolder.getRoot().list().length, is(1));
+        spillFile.delete();
+        assertThat(temporaryFolder.getRoot().list().length, is(0));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.AbstractRowsQueryResult;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.sql.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    @Test
+    public void assertMergeWithDifferentInputCount() throws SQLException {
+        for (int each : new int[]{1, 2, 3, 8, 17, 64, 512, 1024}) {
+            assertMerge(each, OrderDirection.ASC);
+            assertMerge(each, OrderDirection.DESC);
+        }
+    }
+    
+    private void assertMerge(final int inputCount, final OrderDirection orderDirection) throws SQLException {
+        Random random = new Random(inputCount);
+        QueryResult metaData = mock(QueryResult.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        List<QueryResult> queryResults = new ArrayList<>(inputCount);
+        List<Integer> expected = new ArrayList<>();
+        Comparator<Integer> comparator = OrderDirection.ASC == orderDirection ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        for (int i = 0; i < inputCount; i++) {
+            List<Integer> values = new ArrayList<>();
+            int rowCount = random.nextInt(8);
+            for (int j = 0; j < rowCount; j++) {
+                values.add(random.nextInt(100));
+            }
+            values.sort(comparator);
+            expected.addAll(values);
+            queryResults.add(createQueryResult(values, metaData));
+        }
+        expected.sort(comparator);
+        OrderByStreamMergedResult actual = new OrderByStreamMergedResult(
+                queryResults, Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, orderDirection, OrderDirection.ASC))));
+        for (Integer each : expected) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is((Object) each));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
+        OrderByItem result = new OrderByItem(indexOrderByItemSegment);
+        result.setIndex(indexOrderByItemSegment.getColumnIndex());
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final List<Integer> values, final QueryResult metaData) {
+        Iterator<Integer> iterator = values.iterator();
+        return new AbstractRowsQueryResult(metaData) {
+            
+            @Override
+            protected Object[] nextRow() {
+                return iterator.hasNext() ? new Object[]{iterator.next()} : null;
+            }
+        };
+    }
+}
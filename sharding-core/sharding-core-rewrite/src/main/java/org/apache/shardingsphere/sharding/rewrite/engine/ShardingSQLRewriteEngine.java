@@ -31,7 +31,7 @@ import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.Group
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.underlying.route.context.RouteUnit;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -56,7 +56,7 @@ public final class ShardingSQLRewriteEngine implements SQLRewriteEngine {
         if (parameterBuilder instanceof StandardParameterBuilder || shardingConditions.getConditions().isEmpty() || parameterBuilder.getParameters().isEmpty()) {
             return parameterBuilder.getParameters();
         }
-        List<Object> result = new LinkedList<>();
+        List<Object> result = new ArrayList<>();
         int count = 0;
         for (ShardingCondition each : shardingConditions.getConditions()) {
             if (isInSameDataNode(each)) {
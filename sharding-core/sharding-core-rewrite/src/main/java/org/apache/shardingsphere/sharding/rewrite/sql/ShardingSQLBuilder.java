@@ -41,6 +41,8 @@ public final class ShardingSQLBuilder extends AbstractSQLBuilder {
     
     private final RouteUnit routeUnit;
     
+    private Map<String, String> logicAndActualTables;
+    
     public ShardingSQLBuilder(final SQLRewriteContext context, final ShardingRule shardingRule, final RouteUnit routeUnit) {
         super(context);
         this.shardingRule = shardingRule;
@@ -59,6 +61,13 @@ public final class ShardingSQLBuilder extends AbstractSQLBuilder {
     }
     
     private Map<String, String> getLogicAndActualTables() {
+        if (null == logicAndActualTables) {
+            logicAndActualTables = createLogicAndActualTables();
+        }
+        return logicAndActualTables;
+    }
+    
+    private Map<String, String> createLogicAndActualTables() {
         Map<String, String> result = new HashMap<>();
         Collection<String> tableNames = getContext().getSqlStatementContext().getTablesContext().getTableNames();
         for (TableUnit each : routeUnit.getTableUnits()) {
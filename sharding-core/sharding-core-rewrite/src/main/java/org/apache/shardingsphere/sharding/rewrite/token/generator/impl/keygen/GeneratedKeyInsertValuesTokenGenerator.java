@@ -56,7 +56,7 @@ public final class GeneratedKeyInsertValuesTokenGenerator extends BaseGeneratedK
         int count = 0;
         for (InsertValueContext each : insertStatementContext.getInsertValueContexts()) {
             InsertValue insertValueToken = result.get().getInsertValues().get(count);
-            DerivedSimpleExpressionSegment expressionSegment = isToAddDerivedLiteralExpression(insertStatementContext, count)
+            DerivedSimpleExpressionSegment expressionSegment = each.getParameters().isEmpty()
                     ? new DerivedLiteralExpressionSegment(generatedValues.next()) : new DerivedParameterMarkerExpressionSegment(each.getParametersCount());
             insertValueToken.getValues().add(expressionSegment);
             count++;
@@ -72,8 +72,4 @@ public final class GeneratedKeyInsertValuesTokenGenerator extends BaseGeneratedK
         }
         return Optional.empty();
     }
-    
-    private boolean isToAddDerivedLiteralExpression(final InsertStatementContext insertStatementContext, final int insertValueCount) {
-        return insertStatementContext.getGroupedParameters().get(insertValueCount).isEmpty();
-    }
 }
@@ -169,14 +169,27 @@ public abstract class AbstractStatementExecutor {
     
     private void clearStatements() throws SQLException {
         for (Statement each : getStatements()) {
-            each.close();
+            closeStatement(each);
         }
     }
     
+    /**
+     * Close statement.
+     * 
+     * @param statement statement to be closed
+     * @throws SQLException SQL exception
+     */
+    protected void closeStatement(final Statement statement) throws SQLException {
+        statement.close();
+    }
+    
     private void refreshMetaDataIfNeeded(final ShardingRuntimeContext runtimeContext, final SQLStatementContext sqlStatementContext) throws SQLException {
         if (null == sqlStatementContext) {
             return;
         }
+        if (isMetaDataChanged(sqlStatementContext)) {
+            runtimeContext.getRouteResultCache().clear();
+        }
         if (sqlStatementContext instanceof CreateTableStatementContext) {
             refreshTableMetaData(runtimeContext, ((CreateTableStatementContext) sqlStatementContext).getSqlStatement());
         } else if (sqlStatementContext instanceof AlterTableStatementContext) {
@@ -190,6 +203,11 @@ public abstract class AbstractStatementExecutor {
         }
     }
     
+    private boolean isMetaDataChanged(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext instanceof CreateTableStatementContext || sqlStatementContext instanceof AlterTableStatementContext || sqlStatementContext instanceof DropTableStatementContext
+                || sqlStatementContext instanceof CreateIndexStatementContext || sqlStatementContext instanceof DropIndexStatementContext;
+    }
+    
     private void refreshTableMetaData(final ShardingRuntimeContext runtimeContext, final CreateTableStatement createTableStatement) throws SQLException {
         String tableName = createTableStatement.getTable().getTableName().getIdentifier().getValue();
         runtimeContext.getMetaData().getTables().put(tableName, createTableMetaDataInitializerEntry().init(tableName));
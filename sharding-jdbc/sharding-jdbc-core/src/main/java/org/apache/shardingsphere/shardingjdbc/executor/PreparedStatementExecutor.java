@@ -25,19 +25,29 @@ import org.apache.shardingsphere.sharding.execute.sql.execute.result.MemoryQuery
 import org.apache.shardingsphere.sharding.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.sharding.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.sharding.execute.sql.prepare.SQLExecutePrepareCallback;
+import org.apache.shardingsphere.shardingjdbc.executor.cache.PreparedStatementCache;
+import org.apache.shardingsphere.shardingjdbc.executor.cache.PreparedStatementCacheKey;
+import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.invocation.JdbcMethodInvocation;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
 import org.apache.shardingsphere.underlying.executor.constant.ConnectionMode;
 import org.apache.shardingsphere.underlying.executor.engine.InputGroup;
 import org.apache.shardingsphere.underlying.executor.context.ExecutionUnit;
 
+import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Prepared statement executor.
@@ -47,10 +57,17 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
     @Getter
     private final boolean returnGeneratedKeys;
     
+    private final PreparedStatementCache preparedStatementCache;
+    
+    private final Map<Statement, PreparedStatementCacheKey> cachedStatementKeys = new IdentityHashMap<>();
+    
+    private Collection<JdbcMethodInvocation> statementOptionInvocations = Collections.emptyList();
+    
     public PreparedStatementExecutor(
             final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final boolean returnGeneratedKeys, final ShardingConnection shardingConnection) {
         super(resultSetType, resultSetConcurrency, resultSetHoldability, shardingConnection);
         this.returnGeneratedKeys = returnGeneratedKeys;
+        preparedStatementCache = shardingConnection.getPreparedStatementCache();
     }
     
     /**
@@ -60,6 +77,18 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
      * @throws SQLException SQL exception
      */
     public void init(final ShardingExecutionContext shardingExecutionContext) throws SQLException {
+        init(shardingExecutionContext, Collections.emptyList());
+    }
+    
+    /**
+     * Initialize executor.
+     *
+     * @param shardingExecutionContext sharding execution context
+     * @param statementOptionInvocations recorded method invocations which will be replayed on physical statements
+     * @throws SQLException SQL exception
+     */
+    public void init(final ShardingExecutionContext shardingExecutionContext, final Collection<JdbcMethodInvocation> statementOptionInvocations) throws SQLException {
+        this.statementOptionInvocations = statementOptionInvocations;
         setSqlStatementContext(shardingExecutionContext.getSqlStatementContext());
         getInputGroups().addAll(obtainExecuteGroups(shardingExecutionContext.getExecutionUnits()));
         cacheStatements();
@@ -75,17 +104,57 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
             
             @Override
             public StatementExecuteUnit createStatementExecuteUnit(final Connection connection, final ExecutionUnit executionUnit, final ConnectionMode connectionMode) throws SQLException {
-                return new StatementExecuteUnit(executionUnit, createPreparedStatement(connection, executionUnit.getSqlUnit().getSql()), connectionMode);
+                return new StatementExecuteUnit(executionUnit, getPreparedStatement(connection, executionUnit.getDataSourceName(), executionUnit.getSqlUnit().getSql()), connectionMode);
             }
         });
     }
     
+    private PreparedStatement getPreparedStatement(final Connection connection, final String dataSourceName, final String sql) throws SQLException {
+        if (!preparedStatementCache.isEnabled()) {
+            return createPreparedStatement(connection, sql);
+        }
+        PreparedStatementCacheKey key = createPreparedStatementCacheKey(dataSourceName, connection, sql);
+        Optional<PreparedStatement> cachedPreparedStatement = preparedStatementCache.acquire(key);
+        PreparedStatement result = cachedPreparedStatement.isPresent() ? cachedPreparedStatement.get() : createPreparedStatement(connection, sql);
+        cachedStatementKeys.put(result, key);
+        return result;
+    }
+    
     @SuppressWarnings("MagicConstant")
     private PreparedStatement createPreparedStatement(final Connection connection, final String sql) throws SQLException {
         return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
                 : connection.prepareStatement(sql, getResultSetType(), getResultSetConcurrency(), getResultSetHoldability());
     }
     
+    private PreparedStatementCacheKey createPreparedStatementCacheKey(final String dataSourceName, final Connection connection, final String sql) {
+        Map<Method, List<Object>> statementOptions = new HashMap<>();
+        for (JdbcMethodInvocation each : statementOptionInvocations) {
+            statementOptions.put(each.getMethod(), Arrays.asList(each.getArguments()));
+        }
+        return new PreparedStatementCacheKey(
+                dataSourceName, connection, sql, getResultSetType(), getResultSetConcurrency(), getResultSetHoldability(), returnGeneratedKeys, statementOptions);
+    }
+    
+    /**
+     * Close statement, release it to prepared statement cache instead if it is cacheable.
+     * 
+     * @param statement statement to be closed
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public void closeStatement(final Statement statement) throws SQLException {
+        PreparedStatementCacheKey key = cachedStatementKeys.remove(statement);
+        if (null == key) {
+            statement.close();
+            return;
+        }
+        ResultSet resultSet = statement.getResultSet();
+        if (null != resultSet) {
+            resultSet.close();
+        }
+        preparedStatementCache.release(createPreparedStatementCacheKey(key.getDataSourceName(), key.getConnection(), key.getSql()), (PreparedStatement) statement);
+    }
+    
     /**
      * Execute query.
      *
@@ -35,14 +35,12 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -50,7 +48,9 @@ import java.util.stream.Collectors;
  */
 public final class BatchPreparedStatementExecutor extends AbstractStatementExecutor {
     
-    private final Collection<BatchRouteUnit> routeUnits = new LinkedList<>();
+    private final Map<ExecutionUnit, BatchRouteUnit> routeUnits = new LinkedHashMap<>();
+    
+    private final Map<Statement, BatchRouteUnit> statementRouteUnits = new IdentityHashMap<>();
     
     @Getter
     private final boolean returnGeneratedKeys;
@@ -71,11 +71,16 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      */
     public void init(final SQLStatementContext sqlStatementContext) throws SQLException {
         setSqlStatementContext(sqlStatementContext);
-        getInputGroups().addAll(obtainExecuteGroups(routeUnits));
+        getInputGroups().addAll(obtainExecuteGroups(routeUnits.values()));
+        for (InputGroup<StatementExecuteUnit> each : getInputGroups()) {
+            for (StatementExecuteUnit eachUnit : each.getInputs()) {
+                statementRouteUnits.put(eachUnit.getStatement(), routeUnits.get(eachUnit.getExecutionUnit()));
+            }
+        }
     }
     
     private Collection<InputGroup<StatementExecuteUnit>> obtainExecuteGroups(final Collection<BatchRouteUnit> batchRouteUnits) throws SQLException {
-        return getSqlExecutePrepareTemplate().getExecuteUnitGroups(new ArrayList<>(batchRouteUnits).stream().map(BatchRouteUnit::getExecutionUnit).collect(Collectors.toList()), 
+        return getSqlExecutePrepareTemplate().getExecuteUnitGroups(batchRouteUnits.stream().map(BatchRouteUnit::getExecutionUnit).collect(Collectors.toList()), 
                 new SQLExecutePrepareCallback() {
             
                 @Override
@@ -102,40 +107,17 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      * @param shardingExecutionContext sharding execution context
      */
     public void addBatchForRouteUnits(final ShardingExecutionContext shardingExecutionContext) {
-        handleOldBatchRouteUnits(createBatchRouteUnits(shardingExecutionContext.getExecutionUnits()));
-        handleNewBatchRouteUnits(createBatchRouteUnits(shardingExecutionContext.getExecutionUnits()));
-        batchCount++;
-    }
-    
-    private Collection<BatchRouteUnit> createBatchRouteUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchRouteUnit> result = new LinkedList<>();
-        for (ExecutionUnit each : executionUnits) {
-            result.add(new BatchRouteUnit(each));
-        }
-        return result;
-    }
-    
-    private void handleOldBatchRouteUnits(final Collection<BatchRouteUnit> newRouteUnits) {
-        for (BatchRouteUnit each : newRouteUnits) {
-            for (BatchRouteUnit unit : routeUnits) {
-                if (unit.equals(each)) {
-                    reviseBatchRouteUnit(unit, each);
-                }
+        for (ExecutionUnit each : shardingExecutionContext.getExecutionUnits()) {
+            BatchRouteUnit routeUnit = routeUnits.get(each);
+            if (null == routeUnit) {
+                routeUnit = new BatchRouteUnit(each);
+                routeUnits.put(each, routeUnit);
+            } else {
+                routeUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
             }
+            routeUnit.mapAddBatchCount(batchCount);
         }
-    }
-    
-    private void reviseBatchRouteUnit(final BatchRouteUnit oldBatchRouteUnit, final BatchRouteUnit newBatchRouteUnit) {
-        oldBatchRouteUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchRouteUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchRouteUnit.mapAddBatchCount(batchCount);
-    }
-    
-    private void handleNewBatchRouteUnits(final Collection<BatchRouteUnit> newRouteUnits) {
-        newRouteUnits.removeAll(routeUnits);
-        for (BatchRouteUnit each : newRouteUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        routeUnits.addAll(newRouteUnits);
+        batchCount++;
     }
     
     /**
@@ -166,28 +148,19 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
         int count = 0;
         for (InputGroup<StatementExecuteUnit> each : getInputGroups()) {
             for (StatementExecuteUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = Collections.emptyMap();
-                for (BatchRouteUnit eachRouteUnit : routeUnits) {
-                    if (isSameDataSourceAndSQL(eachRouteUnit, eachUnit)) {
-                        jdbcAndActualAddBatchCallTimesMap = eachRouteUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
+                BatchRouteUnit routeUnit = routeUnits.get(eachUnit.getExecutionUnit());
+                int[] actualResults = results.get(count);
+                if (null != routeUnit && null != actualResults) {
+                    for (int i = 0; i < routeUnit.getActualCallAddBatchTimes(); i++) {
+                        result[routeUnit.getJdbcAddBatchTimes(i)] += actualResults[i];
                     }
                 }
-                for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
-                    int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
-                    result[entry.getKey()] += value;
-                }
                 count++;
             }
         }
         return result;
     }
     
-    private boolean isSameDataSourceAndSQL(final BatchRouteUnit batchRouteUnit, final StatementExecuteUnit statementExecuteUnit) {
-        return batchRouteUnit.getExecutionUnit().getDataSourceName().equals(statementExecuteUnit.getExecutionUnit().getDataSourceName())
-                && batchRouteUnit.getExecutionUnit().getSqlUnit().getSql().equals(statementExecuteUnit.getExecutionUnit().getSqlUnit().getSql());
-    }
-    
     /**
      * Get statements.
      *
@@ -209,30 +182,12 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      * @return parameter sets
      */
     public List<List<Object>> getParameterSet(final Statement statement) {
-        List<List<Object>> result = new LinkedList<>();
-        for (InputGroup<StatementExecuteUnit> each : getInputGroups()) {
-            Optional<StatementExecuteUnit> target = getStatementExecuteUnit(statement, each);
-            if (target.isPresent()) {
-                result = getParameterSets(target.get());
-                break;
-            }
+        if (!statementRouteUnits.containsKey(statement)) {
+            return new LinkedList<>();
         }
-        return result;
-    }
-    
-    private Optional<StatementExecuteUnit> getStatementExecuteUnit(final Statement statement, final InputGroup<StatementExecuteUnit> executeGroup) {
-        for (StatementExecuteUnit each : executeGroup.getInputs()) {
-            if (each.getStatement().equals(statement)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
-    }
-    
-    private List<List<Object>> getParameterSets(final StatementExecuteUnit executeUnit) {
-        Optional<BatchRouteUnit> batchRouteUnit = routeUnits.stream().filter(routeUnit -> isSameDataSourceAndSQL(routeUnit, executeUnit)).findFirst();
-        Preconditions.checkState(batchRouteUnit.isPresent());
-        return batchRouteUnit.get().getParameterSets();
+        BatchRouteUnit batchRouteUnit = statementRouteUnits.get(statement);
+        Preconditions.checkState(null != batchRouteUnit);
+        return batchRouteUnit.getParameterSets();
     }
     
     @Override
@@ -240,6 +195,7 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
         super.clear();
         batchCount = 0;
         routeUnits.clear();
+        statementRouteUnits.clear();
     }
 }
 
@@ -25,11 +25,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.underlying.executor.context.ExecutionUnit;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Batch route unit.
@@ -37,14 +36,16 @@ import java.util.Map;
 @RequiredArgsConstructor
 @Getter
 @EqualsAndHashCode(of = { "executionUnit" })
-@ToString
+@ToString(exclude = "jdbcAddBatchTimes")
 public final class BatchRouteUnit {
     
-    private final ExecutionUnit executionUnit;
+    private static final int INITIAL_CAPACITY = 8;
     
-    private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
+    private final ExecutionUnit executionUnit;
     
     @Getter(AccessLevel.NONE)
+    private int[] jdbcAddBatchTimes = new int[INITIAL_CAPACITY];
+    
     private int actualCallAddBatchTimes;
     
     /**
@@ -53,7 +54,20 @@ public final class BatchRouteUnit {
      * @param jdbcAddBatchTimes times of use JDBC API call addBatch
      */
     public void mapAddBatchCount(final int jdbcAddBatchTimes) {
-        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
+        if (actualCallAddBatchTimes == this.jdbcAddBatchTimes.length) {
+            this.jdbcAddBatchTimes = Arrays.copyOf(this.jdbcAddBatchTimes, actualCallAddBatchTimes << 1);
+        }
+        this.jdbcAddBatchTimes[actualCallAddBatchTimes++] = jdbcAddBatchTimes;
+    }
+    
+    /**
+     * Get times of use JDBC API call addBatch which mapped to times of actual call addBatch after route.
+     *
+     * @param actualAddBatchTimes times of actual call addBatch after route
+     * @return times of use JDBC API call addBatch
+     */
+    public int getJdbcAddBatchTimes(final int actualAddBatchTimes) {
+        return jdbcAddBatchTimes[actualAddBatchTimes];
     }
     
     /**
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.executor.cache;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded LRU cache of idle physical prepared statements for one connection.
+ * 
+ * <p>
+ *     Prepared statement is removed from cache when acquired and put back when released, 
+ *     so one physical prepared statement can not be used by two logic statements at the same time.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class PreparedStatementCache {
+    
+    private final int maximumSize;
+    
+    private final PreparedStatementCacheStatistics statistics;
+    
+    private final Map<PreparedStatementCacheKey, PreparedStatement> idleStatements = new LinkedHashMap<>(16, 1, true);
+    
+    /**
+     * Judge whether prepared statement cache is enabled.
+     * 
+     * @return prepared statement cache is enabled or not
+     */
+    public boolean isEnabled() {
+        return maximumSize > 0;
+    }
+    
+    /**
+     * Acquire idle prepared statement.
+     * 
+     * @param key prepared statement cache key
+     * @return idle prepared statement
+     * @throws SQLException SQL exception
+     */
+    public Optional<PreparedStatement> acquire(final PreparedStatementCacheKey key) throws SQLException {
+        PreparedStatement result;
+        synchronized (idleStatements) {
+            result = idleStatements.remove(key);
+        }
+        if (null != result && !result.isClosed()) {
+            statistics.recordHit();
+            return Optional.of(result);
+        }
+        statistics.recordMiss();
+        return Optional.empty();
+    }
+    
+    /**
+     * Release prepared statement to cache, the least recently used ones are closed if cache full.
+     * 
+     * @param key prepared statement cache key
+     * @param preparedStatement prepared statement
+     * @throws SQLException SQL exception
+     */
+    public void release(final PreparedStatementCacheKey key, final PreparedStatement preparedStatement) throws SQLException {
+        preparedStatement.clearParameters();
+        Collection<PreparedStatement> evictedStatements = new LinkedList<>();
+        synchronized (idleStatements) {
+            PreparedStatement replaced = idleStatements.put(key, preparedStatement);
+            if (null != replaced && replaced != preparedStatement) {
+                evictedStatements.add(replaced);
+            }
+            Iterator<PreparedStatement> iterator = idleStatements.values().iterator();
+            while (idleStatements.size() > maximumSize) {
+                evictedStatements.add(iterator.next());
+                iterator.remove();
+            }
+        }
+        for (PreparedStatement each : evictedStatements) {
+            statistics.recordEviction();
+            each.close();
+        }
+    }
+    
+    /**
+     * Close and remove all idle prepared statements.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void clear() throws SQLException {
+        Collection<PreparedStatement> idleStatementsSnapshot;
+        synchronized (idleStatements) {
+            idleStatementsSnapshot = new LinkedList<>(idleStatements.values());
+            idleStatements.clear();
+        }
+        for (PreparedStatement each : idleStatementsSnapshot) {
+            each.close();
+        }
+    }
+}
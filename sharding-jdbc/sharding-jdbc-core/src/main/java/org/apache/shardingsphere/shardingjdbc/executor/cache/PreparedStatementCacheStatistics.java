@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.executor.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of physical prepared statement cache, shared by all connections of a data source.
+ */
+public final class PreparedStatementCacheStatistics {
+    
+    private final LongAdder hitCount = new LongAdder();
+    
+    private final LongAdder missCount = new LongAdder();
+    
+    private final LongAdder evictionCount = new LongAdder();
+    
+    void recordHit() {
+        hitCount.increment();
+    }
+    
+    void recordMiss() {
+        missCount.increment();
+    }
+    
+    void recordEviction() {
+        evictionCount.increment();
+    }
+    
+    /**
+     * Get count of physical prepared statements reused from cache.
+     * 
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+    
+    /**
+     * Get count of physical prepared statements created because of no cached one.
+     * 
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+    
+    /**
+     * Get count of cached physical prepared statements closed because of cache full.
+     * 
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+    
+    /**
+     * Get hit ratio, return {@code 1.0} if no request.
+     * 
+     * @return hit ratio
+     */
+    public double getHitRatio() {
+        long hit = getHitCount();
+        long total = hit + getMissCount();
+        return 0 == total ? 1.0 : (double) hit / total;
+    }
+}
@@ -47,12 +47,22 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     public final void close() throws SQLException {
         closed = true;
         try {
-            forceExecuteTemplate.execute((Collection) getRoutedStatements(), Statement::close);
+            forceExecuteTemplate.execute((Collection) getRoutedStatements(), this::closeRoutedStatement);
         } finally {
             getRoutedStatements().clear();
         }
     }
     
+    /**
+     * Close routed statement.
+     * 
+     * @param routedStatement routed statement
+     * @throws SQLException SQL exception
+     */
+    protected void closeRoutedStatement(final Statement routedStatement) throws SQLException {
+        routedStatement.close();
+    }
+    
     @Override
     public final boolean isClosed() {
         return closed;
@@ -24,6 +24,7 @@ import java.sql.SQLException;
 import java.sql.Wrapper;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Adapter for {@code java.sql.Wrapper}.
@@ -46,6 +47,15 @@ public abstract class WrapperAdapter implements Wrapper {
         return iface.isInstance(this);
     }
     
+    /**
+     * Get recorded method invocations.
+     * 
+     * @return recorded method invocations
+     */
+    protected final Collection<JdbcMethodInvocation> getJdbcMethodInvocations() {
+        return Collections.unmodifiableCollection(jdbcMethodInvocations);
+    }
+    
     /**
      * record method invocation.
      * 
@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.connection;
 
 import lombok.Getter;
+import org.apache.shardingsphere.shardingjdbc.executor.cache.PreparedStatementCache;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractConnectionAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.ShardingRuntimeContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingPreparedStatement;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingStatement;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.apache.shardingsphere.transaction.spi.ShardingTransactionManager;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -47,11 +49,15 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
     
     private final ShardingTransactionManager shardingTransactionManager;
     
+    private final PreparedStatementCache preparedStatementCache;
+    
     public ShardingConnection(final Map<String, DataSource> dataSourceMap, final ShardingRuntimeContext runtimeContext, final TransactionType transactionType) {
         this.dataSourceMap = dataSourceMap;
         this.runtimeContext = runtimeContext;
         this.transactionType = transactionType;
         shardingTransactionManager = runtimeContext.getShardingTransactionManagerEngine().getTransactionManager(transactionType);
+        preparedStatementCache = new PreparedStatementCache(
+                runtimeContext.getProperties().<Integer>getValue(PropertiesConstant.PREPARED_STATEMENT_CACHE_MAXIMUM_SIZE), runtimeContext.getPreparedStatementCacheStatistics());
     }
     
     /**
@@ -142,6 +148,7 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
     }
     
     private void closeCachedConnections() throws SQLException {
+        preparedStatementCache.clear();
         getForceExecuteTemplate().execute(getCachedConnections().values(), Connection::close);
         getCachedConnections().clear();
     }
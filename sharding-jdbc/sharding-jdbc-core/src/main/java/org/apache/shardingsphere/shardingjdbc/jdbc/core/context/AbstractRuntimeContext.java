@@ -22,6 +22,7 @@ import org.apache.shardingsphere.core.log.ConfigurationLogger;
 import org.apache.shardingsphere.spi.database.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCacheOption;
 import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
 import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
@@ -53,12 +54,19 @@ public abstract class AbstractRuntimeContext<T extends BaseRule> implements Runt
         this.rule = rule;
         this.properties = new ShardingSphereProperties(null == props ? new Properties() : props);
         this.databaseType = databaseType;
-        executorEngine = new ExecutorEngine(properties.<Integer>getValue(PropertiesConstant.EXECUTOR_SIZE));
-        sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine(DatabaseTypes.getTrunkDatabaseTypeName(databaseType));
+        executorEngine = new ExecutorEngine(properties.<Integer>getValue(PropertiesConstant.EXECUTOR_SIZE),
+                properties.<Integer>getValue(PropertiesConstant.EXECUTOR_QUEUE_CAPACITY), properties.<Integer>getValue(PropertiesConstant.EXECUTOR_MAX_CONCURRENCY_PER_DATASOURCE));
+        sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine(DatabaseTypes.getTrunkDatabaseTypeName(databaseType), createSQLParseResultCacheOption());
         ConfigurationLogger.log(rule.getRuleConfiguration());
         ConfigurationLogger.log(props);
     }
     
+    private SQLParseResultCacheOption createSQLParseResultCacheOption() {
+        return new SQLParseResultCacheOption(properties.<Integer>getValue(PropertiesConstant.SQL_PARSER_CACHE_INITIAL_CAPACITY),
+                properties.<Long>getValue(PropertiesConstant.SQL_PARSER_CACHE_MAXIMUM_SIZE),
+                properties.<Long>getValue(PropertiesConstant.SQL_PARSER_CACHE_MAXIMUM_WEIGHT), properties.<Boolean>getValue(PropertiesConstant.SQL_PARSER_CACHE_SOFT_VALUES));
+    }
+    
     protected abstract ShardingSphereMetaData getMetaData();
     
     @Override
@@ -19,8 +19,10 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
 
 import lombok.Getter;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.shard.cache.RouteResultCache;
 import org.apache.shardingsphere.encrypt.metadata.decorator.EncryptTableMetaDataDecorator;
 import org.apache.shardingsphere.sharding.execute.metadata.loader.ShardingTableMetaDataLoader;
+import org.apache.shardingsphere.shardingjdbc.executor.cache.PreparedStatementCacheStatistics;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.metadata.CachedDatabaseMetaData;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCDataSourceMapConnectionManager;
 import org.apache.shardingsphere.spi.database.type.DatabaseType;
@@ -49,11 +51,16 @@ public final class ShardingRuntimeContext extends MultipleDataSourcesRuntimeCont
     
     private final ShardingTransactionManagerEngine shardingTransactionManagerEngine;
     
+    private final RouteResultCache routeResultCache;
+    
+    private final PreparedStatementCacheStatistics preparedStatementCacheStatistics = new PreparedStatementCacheStatistics();
+    
     public ShardingRuntimeContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final Properties props, final DatabaseType databaseType) throws SQLException {
         super(dataSourceMap, shardingRule, props, databaseType);
         cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap, shardingRule);
         shardingTransactionManagerEngine = new ShardingTransactionManagerEngine();
         shardingTransactionManagerEngine.init(databaseType, dataSourceMap);
+        routeResultCache = new RouteResultCache(getProperties().<Long>getValue(PropertiesConstant.SQL_ROUTE_CACHE_MAXIMUM_SIZE));
     }
     
     private DatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap, final ShardingRule rule) throws SQLException {
@@ -403,7 +403,11 @@ public final class EncryptResultSet extends AbstractUnsupportedOperationResultSe
     
     @Override
     public void close() throws SQLException {
-        originalResultSet.close();
+        try {
+            mergedResult.close();
+        } finally {
+            originalResultSet.close();
+        }
     }
     
     @Override
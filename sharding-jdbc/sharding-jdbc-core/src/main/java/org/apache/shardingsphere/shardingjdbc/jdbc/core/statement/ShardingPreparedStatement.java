@@ -105,7 +105,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         this.connection = connection;
         this.sql = sql;
         ShardingRuntimeContext runtimeContext = connection.getRuntimeContext();
-        shardingEngine = new PreparedQueryShardingEngine(runtimeContext.getRule(), runtimeContext.getProperties(), runtimeContext.getMetaData(), runtimeContext.getSqlParserEngine());
+        shardingEngine = new PreparedQueryShardingEngine(
+                runtimeContext.getRule(), runtimeContext.getProperties(), runtimeContext.getMetaData(), runtimeContext.getSqlParserEngine(), runtimeContext.getRouteResultCache());
         preparedStatementExecutor = new PreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
     }
@@ -206,7 +207,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     }
     
     private void initPreparedStatementExecutor() throws SQLException {
-        preparedStatementExecutor.init(shardingExecutionContext);
+        preparedStatementExecutor.init(shardingExecutionContext, getJdbcMethodInvocations());
         setParametersForStatements();
         replayMethodForStatements();
     }
@@ -297,6 +298,11 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         return !connection.getRuntimeContext().getRule().isAllBroadcastTables(shardingExecutionContext.getSqlStatementContext().getTablesContext().getTableNames());
     }
     
+    @Override
+    protected void closeRoutedStatement(final Statement routedStatement) throws SQLException {
+        preparedStatementExecutor.closeStatement(routedStatement);
+    }
+    
     @Override
     public Collection<PreparedStatement> getRoutedStatements() {
         return Collections2.transform(preparedStatementExecutor.getStatements(), input -> (PreparedStatement) input);
@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.shardingjdbc.executor.batch;
 
+import com.google.common.collect.Lists;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.shardingjdbc.executor.AbstractBaseExecutorTest;
 import org.apache.shardingsphere.underlying.executor.constant.ConnectionMode;
 import org.apache.shardingsphere.underlying.executor.engine.InputGroup;
+import org.apache.shardingsphere.sharding.execute.context.ShardingExecutionContext;
 import org.apache.shardingsphere.sharding.execute.sql.StatementExecuteUnit;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.underlying.executor.context.ExecutionUnit;
 import org.apache.shardingsphere.underlying.executor.context.SQLUnit;
 import org.junit.Test;
@@ -34,8 +37,10 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -121,23 +126,53 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertExecuteBatchAfterAddBatchForRouteUnits() throws SQLException {
+        actual.addBatchForRouteUnits(createShardingExecutionContext(new ExecutionUnit("ds_0", new SQLUnit(SQL, Lists.newArrayList((Object) 1)))));
+        actual.addBatchForRouteUnits(createShardingExecutionContext(new ExecutionUnit("ds_1", new SQLUnit(SQL, Lists.newArrayList((Object) 2)))));
+        actual.addBatchForRouteUnits(createShardingExecutionContext(
+                new ExecutionUnit("ds_0", new SQLUnit(SQL, Lists.newArrayList((Object) 3))), new ExecutionUnit("ds_1", new SQLUnit(SQL, Lists.newArrayList((Object) 3)))));
+        PreparedStatement preparedStatement1 = getPreparedStatement();
+        PreparedStatement preparedStatement2 = getPreparedStatement();
+        when(preparedStatement1.executeBatch()).thenReturn(new int[] {1, 2});
+        when(preparedStatement2.executeBatch()).thenReturn(new int[] {10, 20});
+        List<StatementExecuteUnit> preparedStatementExecuteUnits = Arrays.asList(
+                new StatementExecuteUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.emptyList())), preparedStatement1, ConnectionMode.MEMORY_STRICTLY),
+                new StatementExecuteUnit(new ExecutionUnit("ds_1", new SQLUnit(SQL, Collections.emptyList())), preparedStatement2, ConnectionMode.MEMORY_STRICTLY));
+        setInputGroups(Collections.singletonList(new InputGroup<>(preparedStatementExecuteUnits)));
+        assertThat(actual.executeBatch(), is(new int[] {1, 10, 22}));
+    }
+    
+    private ShardingExecutionContext createShardingExecutionContext(final ExecutionUnit... executionUnits) {
+        ShardingExecutionContext result = new ShardingExecutionContext(mock(SQLStatementContext.class), null);
+        result.getExecutionUnits().addAll(Arrays.asList(executionUnits));
+        return result;
+    }
+    
+    @SneakyThrows
+    private void setInputGroups(final Collection<InputGroup<StatementExecuteUnit>> executeGroups) {
+        Field field = BatchPreparedStatementExecutor.class.getSuperclass().getDeclaredField("inputGroups");
+        field.setAccessible(true);
+        field.set(actual, executeGroups);
+    }
+    
     private void setExecuteGroups(final List<PreparedStatement> preparedStatements) {
         Collection<InputGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
         List<StatementExecuteUnit> preparedStatementExecuteUnits = new LinkedList<>();
         executeGroups.add(new InputGroup<>(preparedStatementExecuteUnits));
-        Collection<BatchRouteUnit> routeUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchRouteUnit> routeUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchRouteUnit batchRouteUnit = new BatchRouteUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList((Object) 1))));
             batchRouteUnit.mapAddBatchCount(0);
             batchRouteUnit.mapAddBatchCount(1);
-            routeUnits.add(batchRouteUnit);
+            routeUnits.put(batchRouteUnit.getExecutionUnit(), batchRouteUnit);
             preparedStatementExecuteUnits.add(new StatementExecuteUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList((Object) 1))), each, ConnectionMode.MEMORY_STRICTLY));
         }
         setFields(executeGroups, routeUnits);
     }
     
     @SneakyThrows
-    private void setFields(final Collection<InputGroup<StatementExecuteUnit>> executeGroups, final Collection<BatchRouteUnit> routeUnits) {
+    private void setFields(final Collection<InputGroup<StatementExecuteUnit>> executeGroups, final Map<ExecutionUnit, BatchRouteUnit> routeUnits) {
         Field field = BatchPreparedStatementExecutor.class.getSuperclass().getDeclaredField("inputGroups");
         field.setAccessible(true);
         field.set(actual, executeGroups);
@@ -47,6 +47,17 @@ public final class BatchRouteUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    public void assertMapAddBatchCount() {
+        BatchRouteUnit actual = new BatchRouteUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Lists.newArrayList(1))));
+        for (int i = 0; i < 100; i++) {
+            actual.mapAddBatchCount(i * 2);
+        }
+        assertThat(actual.getActualCallAddBatchTimes(), is(100));
+        assertThat(actual.getJdbcAddBatchTimes(0), is(0));
+        assertThat(actual.getJdbcAddBatchTimes(99), is(198));
+    }
+    
     @Test
     public void assertEquals() {
         BatchRouteUnit actual = new BatchRouteUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Lists.newArrayList(1))));
@@ -58,6 +69,6 @@ public final class BatchRouteUnitTest {
     public void assertToString() {
         BatchRouteUnit actual = new BatchRouteUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Lists.newArrayList(1))));
         assertThat(actual.toString(), is(String.format("BatchRouteUnit(executionUnit=ExecutionUnit"
-                + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d])), jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1)));
+                + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d])), actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1)));
     }
 }
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.executor.cache;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PreparedStatementCacheTest {
+    
+    private final Connection connection = mock(Connection.class);
+    
+    private PreparedStatementCacheStatistics statistics;
+    
+    private PreparedStatementCache preparedStatementCache;
+    
+    @Before
+    public void setUp() {
+        statistics = new PreparedStatementCacheStatistics();
+        preparedStatementCache = new PreparedStatementCache(2, statistics);
+    }
+    
+    @Test
+    public void assertIsEnabled() {
+        assertTrue(preparedStatementCache.isEnabled());
+        assertFalse(new PreparedStatementCache(0, statistics).isEnabled());
+    }
+    
+    @Test
+    public void assertAcquireAfterRelease() throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        assertFalse(preparedStatementCache.acquire(createKey("SELECT 1")).isPresent());
+        preparedStatementCache.release(createKey("SELECT 1"), preparedStatement);
+        verify(preparedStatement).clearParameters();
+        Optional<PreparedStatement> actual = preparedStatementCache.acquire(createKey("SELECT 1"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(preparedStatement));
+        assertFalse(preparedStatementCache.acquire(createKey("SELECT 1")).isPresent());
+        assertThat(statistics.getHitCount(), is(1L));
+        assertThat(statistics.getMissCount(), is(2L));
+        assertThat(statistics.getHitRatio(), is(1.0 / 3));
+    }
+    
+    @Test
+    public void assertAcquireWithDifferentKey() throws SQLException, NoSuchMethodException {
+        preparedStatementCache.release(createKey("SELECT 1"), mock(PreparedStatement.class));
+        assertFalse(preparedStatementCache.acquire(createKey("SELECT 2")).isPresent());
+        assertFalse(preparedStatementCache.acquire(new PreparedStatementCacheKey(
+                "ds_0", connection, "SELECT 1", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, true, Collections.emptyMap())).isPresent());
+        assertFalse(preparedStatementCache.acquire(new PreparedStatementCacheKey("ds_0", connection, "SELECT 1", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY,
+                ResultSet.HOLD_CURSORS_OVER_COMMIT, false, Collections.singletonMap(Statement.class.getMethod("setMaxRows", int.class), Collections.<Object>singletonList(10)))).isPresent());
+        assertTrue(preparedStatementCache.acquire(createKey("SELECT 1")).isPresent());
+    }
+    
+    @Test
+    public void assertAcquireClosedStatement() throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.isClosed()).thenReturn(true);
+        preparedStatementCache.release(createKey("SELECT 1"), preparedStatement);
+        assertFalse(preparedStatementCache.acquire(createKey("SELECT 1")).isPresent());
+    }
+    
+    @Test
+    public void assertReleaseWhenFull() throws SQLException {
+        PreparedStatement preparedStatement1 = mock(PreparedStatement.class);
+        PreparedStatement preparedStatement2 = mock(PreparedStatement.class);
+        PreparedStatement preparedStatement3 = mock(PreparedStatement.class);
+        preparedStatementCache.release(createKey("SELECT 1"), preparedStatement1);
+        preparedStatementCache.release(createKey("SELECT 2"), preparedStatement2);
+        preparedStatementCache.release(createKey("SELECT 3"), preparedStatement3);
+        verify(preparedStatement1).close();
+        verify(preparedStatement2, never()).close();
+        verify(preparedStatement3, never()).close();
+        assertThat(statistics.getEvictionCount(), is(1L));
+        assertFalse(preparedStatementCache.acquire(createKey("SELECT 1")).isPresent());
+        assertTrue(preparedStatementCache.acquire(createKey("SELECT 2")).isPresent());
+    }
+    
+    @Test
+    public void assertClear() throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        preparedStatementCache.release(createKey("SELECT 1"), preparedStatement);
+        preparedStatementCache.clear();
+        verify(preparedStatement).close();
+        assertFalse(preparedStatementCache.acquire(createKey("SELECT 1")).isPresent());
+    }
+    
+    @Test
+    public void assertGetHitRatioWithoutRequest() {
+        assertThat(statistics.getHitRatio(), is(1.0));
+    }
+    
+    private PreparedStatementCacheKey createKey(final String sql) {
+        return new PreparedStatementCacheKey(
+                "ds_0", connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, false, Collections.emptyMap());
+    }
+}
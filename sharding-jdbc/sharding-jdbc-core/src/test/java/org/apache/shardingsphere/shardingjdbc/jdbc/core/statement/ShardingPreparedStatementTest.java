@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.statement;
 
 import org.apache.shardingsphere.shardingjdbc.common.base.AbstractShardingJDBCDatabaseAndTableTest;
+import org.apache.shardingsphere.shardingjdbc.executor.cache.PreparedStatementCacheStatistics;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingDataSource;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
 import org.junit.Test;
 
 import java.sql.Connection;
@@ -25,6 +28,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -263,6 +268,36 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
         }
     }
     
+    @Test
+    public void assertExecuteQueryWithPreparedStatementCache() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PropertiesConstant.PREPARED_STATEMENT_CACHE_MAXIMUM_SIZE.getKey(), "16");
+        ShardingDataSource shardingDataSource = new ShardingDataSource(getShardingDataSource().getDataSourceMap(), getShardingDataSource().getRuntimeContext().getRule(), props);
+        try {
+            try (Connection connection = shardingDataSource.getConnection()) {
+                assertExecuteQueryTwice(connection);
+                assertExecuteQueryTwice(connection);
+            }
+            PreparedStatementCacheStatistics statistics = shardingDataSource.getRuntimeContext().getPreparedStatementCacheStatistics();
+            assertThat(statistics.getMissCount(), is(1L));
+            assertThat(statistics.getHitCount(), is(3L));
+        } finally {
+            // data sources are shared with the fixture, release the runtime context only
+            shardingDataSource.close(Collections.<String>emptyList());
+        }
+    }
+    
+    private void assertExecuteQueryTwice(final Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(SELECT_SQL_WITH_PARAMETER_MARKER)) {
+            preparedStatement.setInt(1, 11);
+            preparedStatement.setInt(2, 11);
+            preparedStatement.executeQuery().close();
+            preparedStatement.setInt(1, 11);
+            preparedStatement.setInt(2, 11);
+            assertFalse(preparedStatement.executeQuery().next());
+        }
+    }
+    
     @Test(expected = SQLException.class)
     public void assertQueryWithNull() throws SQLException {
         try (PreparedStatement preparedStatement = getShardingDataSource().getConnection().prepareStatement(null)) {
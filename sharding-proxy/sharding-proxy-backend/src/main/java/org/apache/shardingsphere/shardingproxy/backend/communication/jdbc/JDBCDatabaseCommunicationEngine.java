@@ -120,6 +120,7 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             return response;
         }
         this.mergedResult = createMergedResult(sqlStatementContext, ((QueryResponse) response).getQueryResults());
+        executeEngine.getBackendConnection().add(mergedResult);
         return response;
     }
     
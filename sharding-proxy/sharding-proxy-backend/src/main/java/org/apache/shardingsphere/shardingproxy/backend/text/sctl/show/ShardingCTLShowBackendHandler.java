@@ -19,6 +19,7 @@ package org.apache.shardingsphere.shardingproxy.backend.text.sctl.show;
 
 import org.apache.shardingsphere.sharding.merge.dal.common.MultipleLocalDataMergedResult;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.exception.NoDatabaseSelectedException;
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
@@ -62,6 +63,11 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
                 return createResponsePackets("TRANSACTION_TYPE", backendConnection.getTransactionType().name());
             case "CACHED_CONNECTIONS":
                 return createResponsePackets("CACHED_CONNECTIONS", backendConnection.getConnectionSize());
+            case "PARSE_CACHE_STATS":
+                if (null == backendConnection.getLogicSchema()) {
+                    return new ErrorResponse(new NoDatabaseSelectedException());
+                }
+                return createResponsePackets("PARSE_CACHE_STATS", backendConnection.getLogicSchema().getSqlParserEngine().getCacheStats().toString());
             default:
                 return new ErrorResponse(new UnsupportedShardingCTLTypeException(sql));
         }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.shardingproxy.backend.MockLogicSchemasUtil;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.core.TransactionType;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -158,6 +159,7 @@ public final class BackendConnectionTest {
         assertThat(actual.getConnectionSize(), is(0));
         assertTrue(actual.getCachedConnections().isEmpty());
         assertTrue(actual.getCachedResultSets().isEmpty());
+        assertTrue(actual.getCachedMergedResults().isEmpty());
         assertTrue(actual.getCachedStatements().isEmpty());
         assertThat(actual.getStateHandler().getStatus(), is(ConnectionStatus.RELEASE));
     }
@@ -177,6 +179,7 @@ public final class BackendConnectionTest {
         assertThat(actual.getConnectionSize(), is(12));
         assertThat(actual.getCachedConnections().get("ds1").size(), is(12));
         assertTrue(actual.getCachedResultSets().isEmpty());
+        assertTrue(actual.getCachedMergedResults().isEmpty());
         assertTrue(actual.getCachedStatements().isEmpty());
     }
     
@@ -201,14 +204,27 @@ public final class BackendConnectionTest {
         assertThat(actual.getConnectionSize(), is(0));
         assertTrue(actual.getCachedConnections().isEmpty());
         assertTrue(actual.getCachedResultSets().isEmpty());
+        assertTrue(actual.getCachedMergedResults().isEmpty());
         assertTrue(actual.getCachedStatements().isEmpty());
     }
     
+    @Test
+    public void assertCloseMergedResultWithTransaction() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        try (BackendConnection backendConnection = new BackendConnection(TransactionType.LOCAL)) {
+            backendConnection.setCurrentSchema("schema_0");
+            backendConnection.getStateHandler().setStatus(ConnectionStatus.TRANSACTION);
+            backendConnection.add(mergedResult);
+        }
+        verify(mergedResult).close();
+    }
+    
     private void mockResultSetAndStatement(final BackendConnection backendConnection) {
         ResultSet resultSet = mock(ResultSet.class);
         Statement statement = mock(Statement.class);
         backendConnection.add(resultSet);
         backendConnection.add(statement);
+        backendConnection.add(mock(MergedResult.class));
     }
     
     private void mockResultSetAndStatementException(final BackendConnection backendConnection) throws SQLException {
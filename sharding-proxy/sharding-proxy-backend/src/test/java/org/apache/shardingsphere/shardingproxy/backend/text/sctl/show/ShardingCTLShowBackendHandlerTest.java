@@ -18,20 +18,27 @@
 package org.apache.shardingsphere.shardingproxy.backend.text.sctl.show;
 
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.exception.NoDatabaseSelectedException;
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.exception.InvalidShardingCTLFormatException;
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.exception.UnsupportedShardingCTLTypeException;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
 import java.sql.SQLException;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class ShardingCTLShowBackendHandlerTest {
     
@@ -61,6 +68,28 @@ public final class ShardingCTLShowBackendHandlerTest {
         assertThat(queryData.getData().iterator().next(), is(0));
     }
     
+    @Test
+    public void assertShowParseCacheStats() throws SQLException, ReflectiveOperationException {
+        LogicSchema logicSchema = mock(LogicSchema.class);
+        when(logicSchema.getSqlParserEngine()).thenReturn(new SQLParserEngine("MySQL"));
+        Field field = BackendConnection.class.getDeclaredField("logicSchema");
+        field.setAccessible(true);
+        field.set(backendConnection, logicSchema);
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show parse_cache_stats", backendConnection);
+        BackendResponse actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponse.class));
+        backendHandler.next();
+        assertThat(backendHandler.getQueryData().getData().iterator().next().toString(), startsWith("CacheStats{hitCount=0"));
+    }
+    
+    @Test
+    public void assertShowParseCacheStatsWithoutSchema() {
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show parse_cache_stats", backendConnection);
+        BackendResponse actual = backendHandler.execute();
+        assertThat(actual, instanceOf(ErrorResponse.class));
+        assertThat(((ErrorResponse) actual).getCause(), instanceOf(NoDatabaseSelectedException.class));
+    }
+    
     @Test
     public void assertShowCachedConnectionFailed() {
         backendConnection.setCurrentSchema("schema");
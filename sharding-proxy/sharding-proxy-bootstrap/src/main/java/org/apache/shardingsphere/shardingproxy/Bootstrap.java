@@ -17,9 +17,12 @@
 
 package org.apache.shardingsphere.shardingproxy;
 
+import com.google.common.base.Strings;
 import com.google.common.primitives.Ints;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shardingsphere.core.yaml.swapper.impl.ShadowRuleConfigurationYamlSwapper;
 import org.apache.shardingsphere.underlying.common.config.RuleConfiguration;
@@ -45,12 +48,18 @@ import org.apache.shardingsphere.shardingproxy.config.yaml.YamlProxyServerConfig
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.bootstrap.ShardingProxy;
 import org.apache.shardingsphere.shardingproxy.util.DataSourceConverter;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
@@ -59,6 +68,7 @@ import java.util.Properties;
  * Sharding-Proxy Bootstrap.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class Bootstrap {
     
     private static final int DEFAULT_PORT = 3307;
@@ -111,6 +121,7 @@ public final class Bootstrap {
         ShardingProxyContext.getInstance().init(authenticationConfiguration, prop);
         LogicSchemas.getInstance().init(getDataSourceParameterMap(ruleConfigs), getRuleConfiguration(ruleConfigs));
         initOpenTracing();
+        warmUpSQLParser();
         ShardingProxy.getInstance().start(port);
     }
     
@@ -126,6 +137,7 @@ public final class Bootstrap {
             ShardingProxyContext.getInstance().init(authentication, properties);
             LogicSchemas.getInstance().init(shardingSchemaNames, getSchemaDataSourceParameterMap(shardingOrchestrationFacade), getSchemaRules(shardingOrchestrationFacade), true);
             initOpenTracing();
+            warmUpSQLParser();
             ShardingProxy.getInstance().start(port);
         } catch (SQLException e) {
             e.printStackTrace();
@@ -172,6 +184,25 @@ public final class Bootstrap {
         }
     }
     
+    @SneakyThrows(IOException.class)
+    private static void warmUpSQLParser() {
+        String warmUpFile = ShardingProxyContext.getInstance().getProperties().getValue(PropertiesConstant.PROXY_SQL_PARSER_WARM_UP_FILE);
+        if (Strings.isNullOrEmpty(warmUpFile) || LogicSchemas.getInstance().getSchemaNames().isEmpty()) {
+            return;
+        }
+        List<String> sqls = new LinkedList<>();
+        for (String each : Files.readAllLines(Paths.get(warmUpFile), StandardCharsets.UTF_8)) {
+            String sql = each.trim();
+            if (!sql.isEmpty() && !sql.startsWith("--") && !sql.startsWith("#")) {
+                sqls.add(sql.endsWith(";") ? sql.substring(0, sql.length() - 1) : sql);
+            }
+        }
+        SQLParserEngine sqlParserEngine = LogicSchemas.getInstance().getLogicSchema(LogicSchemas.getInstance().getSchemaNames().get(0)).getSqlParserEngine();
+        int count = sqlParserEngine.warmUp(sqls);
+        log.info("SQL parser warmed up by {} of {} SQLs in file `{}`, {} parsings fell back to LL prediction mode.",
+                count, sqls.size(), warmUpFile, sqlParserEngine.getParserStatistics().getLLFallbackCount());
+    }
+    
     private static Map<String, Map<String, DataSourceConfiguration>> getDataSourceConfigurationMap(final Map<String, YamlProxyRuleConfiguration> ruleConfigs) {
         Map<String, Map<String, DataSourceConfiguration>> result = new LinkedHashMap<>();
         for (Entry<String, YamlProxyRuleConfiguration> entry : ruleConfigs.entrySet()) {
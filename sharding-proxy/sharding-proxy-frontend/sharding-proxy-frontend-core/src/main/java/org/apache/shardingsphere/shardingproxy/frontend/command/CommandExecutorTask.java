@@ -25,11 +25,18 @@ import org.apache.shardingsphere.database.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.database.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.masterslave.route.engine.impl.MasterVisitedManager;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.context.QueryDataFlowControl;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWriter;
+import org.apache.shardingsphere.shardingproxy.frontend.executor.CommandExecutorSelector;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.apache.shardingsphere.underlying.common.hook.RootInvokeHook;
 import org.apache.shardingsphere.underlying.common.hook.SPIRootInvokeHook;
 
@@ -61,43 +68,119 @@ public final class CommandExecutorTask implements Runnable {
     public void run() {
         RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
         rootInvokeHook.start();
-        int connectionSize = 0;
         boolean isNeedFlush = false;
-        try (BackendConnection backendConnection = this.backendConnection;
-             PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
+        QueryDataWriteTask queryDataWriteTask = null;
+        try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
             backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
             backendConnection.getStateHandler().setRunningStatusIfNecessary();
-            isNeedFlush = executeCommand(context, payload, backendConnection);
-            connectionSize = backendConnection.getConnectionSize();
+            CommandExecutor commandExecutor = createCommandExecutor(payload);
+            Collection<DatabasePacket> responsePackets = commandExecutor.execute();
+            for (DatabasePacket each : responsePackets) {
+                context.write(each);
+            }
+            if (!responsePackets.isEmpty() && commandExecutor instanceof QueryCommandExecutor) {
+                queryDataWriteTask = new QueryDataWriteTask((QueryCommandExecutor) commandExecutor, createQueryDataWriter(responsePackets.size()), rootInvokeHook);
+            } else {
+                isNeedFlush = !responsePackets.isEmpty() && databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
+            }
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
             log.error("Exception occur: ", ex);
             context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
+        }
+        if (null == queryDataWriteTask) {
+            complete(rootInvokeHook, isNeedFlush);
+        } else {
+            queryDataWriteTask.run();
+        }
+    }
+    
+    private CommandExecutor createCommandExecutor(final PacketPayload payload) throws SQLException {
+        CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
+        CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
+        CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
+        return commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
+    }
+    
+    private QueryDataWriter createQueryDataWriter(final int headerPackagesCount) {
+        ShardingSphereProperties properties = ShardingProxyContext.getInstance().getProperties();
+        return new QueryDataWriter(context, databaseProtocolFrontendEngine.getFrontendContext().getQueryDataFlowControl(), headerPackagesCount,
+                properties.<Integer>getValue(PropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD), properties.<Integer>getValue(PropertiesConstant.PROXY_FRONTEND_MAX_BUFFERED_ROWS));
+    }
+    
+    private void complete(final RootInvokeHook rootInvokeHook, final boolean isNeedFlush) {
+        int connectionSize = backendConnection.getConnectionSize();
+        try {
+            backendConnection.close();
+        } catch (final SQLException ex) {
+            log.error("Exception occur: ", ex);
+            context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
         } finally {
             if (isNeedFlush) {
                 context.flush();
             }
-            rootInvokeHook.finish(connectionSize);
+            if (null != rootInvokeHook) {
+                rootInvokeHook.finish(connectionSize);
+            }
         }
     }
     
-    private boolean executeCommand(final ChannelHandlerContext context, final PacketPayload payload, final BackendConnection backendConnection) throws SQLException {
-        CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
-        CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
-        CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
-        CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
-        Collection<DatabasePacket> responsePackets = commandExecutor.execute();
-        if (responsePackets.isEmpty()) {
-            return false;
+    /**
+     * Task to write query data, it is suspended by flow control instead of blocking thread when client cannot keep up.
+     */
+    private final class QueryDataWriteTask implements Runnable {
+        
+        private final QueryCommandExecutor queryCommandExecutor;
+        
+        private final QueryDataWriter queryDataWriter;
+        
+        private RootInvokeHook rootInvokeHook;
+        
+        private boolean suspended;
+        
+        private QueryDataWriteTask(final QueryCommandExecutor queryCommandExecutor, final QueryDataWriter queryDataWriter, final RootInvokeHook rootInvokeHook) {
+            this.queryCommandExecutor = queryCommandExecutor;
+            this.queryDataWriter = queryDataWriter;
+            this.rootInvokeHook = rootInvokeHook;
         }
-        for (DatabasePacket each : responsePackets) {
-            context.write(each);
+        
+        @Override
+        public void run() {
+            try {
+                if (!databaseProtocolFrontendEngine.getCommandExecuteEngine().writeQueryData(context, queryCommandExecutor, queryDataWriter)) {
+                    suspend();
+                    return;
+                }
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                log.error("Exception occur: ", ex);
+                context.write(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
+            }
+            queryDataWriter.flush();
+            if (suspended) {
+                context.channel().config().setAutoRead(true);
+            }
+            complete(rootInvokeHook, false);
         }
-        if (commandExecutor instanceof QueryCommandExecutor) {
-            commandExecuteEngine.writeQueryData(context, backendConnection, (QueryCommandExecutor) commandExecutor, responsePackets.size());
-            return true;
+        
+        private void suspend() {
+            queryDataWriter.flush();
+            if (!suspended) {
+                suspended = true;
+                context.channel().config().setAutoRead(false);
+                // root invoke hook and master visited flag are bound to current thread, writing may be resumed by another thread
+                rootInvokeHook.finish(backendConnection.getConnectionSize());
+                rootInvokeHook = null;
+                MasterVisitedManager.clear();
+            }
+            QueryDataFlowControl flowControl = databaseProtocolFrontendEngine.getFrontendContext().getQueryDataFlowControl();
+            flowControl.suspend(() -> CommandExecutorSelector.getExecutor(databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(),
+                    backendConnection.isSupportHint(), backendConnection.getTransactionType(), context.channel().id()).execute(this));
+            if (queryDataWriter.isWritable() || !context.channel().isActive()) {
+                flowControl.resume();
+            }
         }
-        return databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
     }
 }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import io.netty.channel.ChannelId;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Channel serial executor group.
+ * 
+ * <p>
+ *     Manage the serial executor for each channel invoking.
+ *     Commands of a channel are executed in order on user executor group, instead of a thread dedicated to the channel.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ChannelSerialExecutorGroup {
+    
+    private static final ChannelSerialExecutorGroup INSTANCE = new ChannelSerialExecutorGroup();
+    
+    private final Map<ChannelId, Executor> executors = new ConcurrentHashMap<>();
+    
+    /**
+     * Get channel serial executor group.
+     * 
+     * @return channel serial executor group
+     */
+    public static ChannelSerialExecutorGroup getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register channel.
+     *
+     * @param channelId channel id
+     */
+    public void register(final ChannelId channelId) {
+        executors.put(channelId, new SerialExecutor(UserExecutorGroup.getInstance().getExecutorService()));
+    }
+    
+    /**
+     * Get serial executor of current channel.
+     *
+     * @param channelId channel id
+     * @return serial executor of current channel
+     */
+    public Executor get(final ChannelId channelId) {
+        return executors.get(channelId);
+    }
+    
+    /**
+     * Unregister channel.
+     *
+     * @param channelId channel id
+     */
+    public void unregister(final ChannelId channelId) {
+        executors.remove(channelId);
+    }
+}
@@ -19,9 +19,11 @@ package org.apache.shardingsphere.shardingproxy.frontend.executor;
 
 import io.netty.channel.ChannelId;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.transaction.core.TransactionType;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 /**
  * Command executor selector.
@@ -30,16 +32,26 @@ import java.util.concurrent.ExecutorService;
 public final class CommandExecutorSelector {
     
     /**
-     * Get executor service.
+     * Get executor.
+     *
+     * <p>
+     *     Hint and XA or BASE transaction are bound to thread, so that they are always executed by the thread dedicated to the channel.
+     *     Other channels are executed by serial executor of channel if {@code proxy.frontend.serial.executor.enabled} is true.
+     * </p>
      *
      * @param isOccupyThreadForPerConnection is occupy thread for per connection or not
      * @param supportHint is support hint
      * @param transactionType transaction type
      * @param channelId channel ID
-     * @return executor service
+     * @return executor
      */
-    public static ExecutorService getExecutor(final boolean isOccupyThreadForPerConnection, final boolean supportHint, final TransactionType transactionType, final ChannelId channelId) {
-        return (isOccupyThreadForPerConnection || supportHint || TransactionType.XA == transactionType || TransactionType.BASE == transactionType)
-                ? ChannelThreadExecutorGroup.getInstance().get(channelId) : UserExecutorGroup.getInstance().getExecutorService();
+    public static Executor getExecutor(final boolean isOccupyThreadForPerConnection, final boolean supportHint, final TransactionType transactionType, final ChannelId channelId) {
+        if (supportHint || TransactionType.XA == transactionType || TransactionType.BASE == transactionType) {
+            return ChannelThreadExecutorGroup.getInstance().get(channelId);
+        }
+        if (ShardingProxyContext.getInstance().getProperties().<Boolean>getValue(PropertiesConstant.PROXY_FRONTEND_SERIAL_EXECUTOR_ENABLED)) {
+            return ChannelSerialExecutorGroup.getInstance().get(channelId);
+        }
+        return isOccupyThreadForPerConnection ? ChannelThreadExecutorGroup.getInstance().get(channelId) : UserExecutorGroup.getInstance().getExecutorService();
     }
 }
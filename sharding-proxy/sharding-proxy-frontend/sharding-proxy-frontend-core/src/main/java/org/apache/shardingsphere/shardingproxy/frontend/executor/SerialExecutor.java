@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serial executor.
+ * 
+ * <p>
+ *     Run tasks one by one in submission order on a shared executor, without occupying a thread when there is no task.
+ *     Only one task is run per scheduling, so that busy channels cannot starve others of shared executor.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SerialExecutor implements Executor {
+    
+    private final Executor delegate;
+    
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    
+    @Override
+    public void execute(final Runnable task) {
+        tasks.offer(task);
+        scheduleIfNecessary();
+    }
+    
+    private void scheduleIfNecessary() {
+        if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+            boolean submitted = false;
+            try {
+                delegate.execute(this::runNext);
+                submitted = true;
+            } finally {
+                if (!submitted) {
+                    scheduled.set(false);
+                }
+            }
+        }
+    }
+    
+    private void runNext() {
+        try {
+            Runnable task = tasks.poll();
+            if (null != task) {
+                task.run();
+            }
+        } finally {
+            scheduled.set(false);
+            scheduleIfNecessary();
+        }
+    }
+}
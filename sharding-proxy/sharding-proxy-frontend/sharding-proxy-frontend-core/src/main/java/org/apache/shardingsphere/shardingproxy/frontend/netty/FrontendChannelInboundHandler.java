@@ -27,6 +27,8 @@ import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.command.CommandExecutorTask;
+import org.apache.shardingsphere.shardingproxy.frontend.context.QueryDataFlowControl;
+import org.apache.shardingsphere.shardingproxy.frontend.executor.ChannelSerialExecutorGroup;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.ChannelThreadExecutorGroup;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.CommandExecutorSelector;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
@@ -51,6 +53,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelActive(final ChannelHandlerContext context) {
         ChannelThreadExecutorGroup.getInstance().register(context.channel().id());
+        ChannelSerialExecutorGroup.getInstance().register(context.channel().id());
         databaseProtocolFrontendEngine.getAuthEngine().handshake(context, backendConnection);
     }
     
@@ -80,15 +83,22 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @SneakyThrows
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
+        QueryDataFlowControl flowControl = databaseProtocolFrontendEngine.getFrontendContext().getQueryDataFlowControl();
+        flowControl.resume();
+        if (flowControl.getThrottledCount() > 0) {
+            log.debug("Query data writing of connection {} was throttled {} times, {} ms in total.",
+                    backendConnection.getConnectionId(), flowControl.getThrottledCount(), flowControl.getThrottledMillis());
+        }
         databaseProtocolFrontendEngine.release(backendConnection);
         backendConnection.close(true);
         ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
+        ChannelSerialExecutorGroup.getInstance().unregister(context.channel().id());
     }
     
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
         if (context.channel().isWritable()) {
-            backendConnection.getResourceSynchronizer().doNotify();
+            databaseProtocolFrontendEngine.getFrontendContext().getQueryDataFlowControl().resume();
         }
     }
 }
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.database.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStateHandler;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.context.FrontendContext;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.netty.FrontendChannelInboundHandler;
+import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class CommandExecutorTaskTest {
+    
+    private static final long TIMEOUT_MILLIS = 5000L;
+    
+    @Mock
+    private DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
+    
+    @Mock
+    private CommandExecuteEngine commandExecuteEngine;
+    
+    @Mock
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private ChannelConfig channelConfig;
+    
+    private final FrontendContext frontendContext = new FrontendContext(false, false);
+    
+    @Before
+    public void setUp() throws SQLException {
+        DatabasePacketCodecEngine codecEngine = mock(DatabasePacketCodecEngine.class);
+        when(codecEngine.createPacketPayload(any())).thenReturn(mock(PacketPayload.class));
+        when(databaseProtocolFrontendEngine.getCodecEngine()).thenReturn(codecEngine);
+        when(databaseProtocolFrontendEngine.getCommandExecuteEngine()).thenReturn(commandExecuteEngine);
+        when(databaseProtocolFrontendEngine.getFrontendContext()).thenReturn(frontendContext);
+        when(backendConnection.getStateHandler()).thenReturn(mock(ConnectionStateHandler.class));
+        when(commandExecuteEngine.getCommandExecutor(any(), any(), eq(backendConnection))).thenReturn(queryCommandExecutor);
+        when(queryCommandExecutor.execute()).thenReturn(Collections.singletonList(mock(DatabasePacket.class)));
+    }
+    
+    private void mockChannel() {
+        when(context.channel()).thenReturn(channel);
+        when(channel.config()).thenReturn(channelConfig);
+    }
+    
+    @Test
+    public void assertSuspendWhenChannelUnwritableAndResumeWhenWritabilityChanged() throws SQLException {
+        mockChannel();
+        when(commandExecuteEngine.writeQueryData(eq(context), eq(queryCommandExecutor), any())).thenReturn(false, true);
+        when(channel.isWritable()).thenReturn(false, true);
+        when(channel.isActive()).thenReturn(true);
+        new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, mock(ByteBuf.class)).run();
+        verify(channelConfig).setAutoRead(false);
+        verify(commandExecuteEngine).writeQueryData(eq(context), eq(queryCommandExecutor), any());
+        verify(backendConnection, never()).close();
+        new FrontendChannelInboundHandler(databaseProtocolFrontendEngine).channelWritabilityChanged(context);
+        verify(commandExecuteEngine, timeout(TIMEOUT_MILLIS).times(2)).writeQueryData(eq(context), eq(queryCommandExecutor), any());
+        verify(backendConnection, timeout(TIMEOUT_MILLIS)).close();
+        verify(channelConfig).setAutoRead(true);
+    }
+    
+    @Test
+    public void assertResumeWhenChannelBecomesWritableBeforeSuspended() throws SQLException {
+        mockChannel();
+        when(commandExecuteEngine.writeQueryData(eq(context), eq(queryCommandExecutor), any())).thenReturn(false, true);
+        when(channel.isWritable()).thenReturn(true);
+        new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, mock(ByteBuf.class)).run();
+        verify(commandExecuteEngine, timeout(TIMEOUT_MILLIS).times(2)).writeQueryData(eq(context), eq(queryCommandExecutor), any());
+        verify(backendConnection, timeout(TIMEOUT_MILLIS)).close();
+        verify(channelConfig).setAutoRead(false);
+        verify(channelConfig).setAutoRead(true);
+    }
+    
+    @Test
+    public void assertResumeWhenChannelInactiveBeforeSuspended() throws SQLException {
+        mockChannel();
+        when(commandExecuteEngine.writeQueryData(eq(context), eq(queryCommandExecutor), any())).thenReturn(false, true);
+        when(channel.isWritable()).thenReturn(false);
+        when(channel.isActive()).thenReturn(false);
+        new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, mock(ByteBuf.class)).run();
+        verify(commandExecuteEngine, timeout(TIMEOUT_MILLIS).times(2)).writeQueryData(eq(context), eq(queryCommandExecutor), any());
+        verify(backendConnection, timeout(TIMEOUT_MILLIS)).close();
+    }
+    
+    @Test
+    public void assertCompleteWithoutSuspend() throws SQLException {
+        when(commandExecuteEngine.writeQueryData(eq(context), eq(queryCommandExecutor), any())).thenReturn(true);
+        new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, mock(ByteBuf.class)).run();
+        verify(backendConnection).close();
+        verify(context).flush();
+        verify(context, never()).channel();
+    }
+}
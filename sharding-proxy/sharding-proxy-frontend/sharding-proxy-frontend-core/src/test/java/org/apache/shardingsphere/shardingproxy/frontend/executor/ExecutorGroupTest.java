@@ -18,9 +18,15 @@
 package org.apache.shardingsphere.shardingproxy.frontend.executor;
 
 import io.netty.channel.ChannelId;
+import org.apache.shardingsphere.core.rule.Authentication;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.transaction.core.TransactionType;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -29,6 +35,21 @@ import static org.mockito.Mockito.mock;
 
 public final class ExecutorGroupTest {
     
+    private Authentication originalAuthentication;
+    
+    private Properties originalProps;
+    
+    @Before
+    public void setUp() {
+        originalAuthentication = ShardingProxyContext.getInstance().getAuthentication();
+        originalProps = ShardingProxyContext.getInstance().getProperties().getProps();
+    }
+    
+    @After
+    public void tearDown() {
+        ShardingProxyContext.getInstance().init(originalAuthentication, originalProps);
+    }
+    
     @Test
     public void assertGetExecutorServiceWithLocal() {
         ChannelId channelId = mock(ChannelId.class);
@@ -55,4 +76,21 @@ public final class ExecutorGroupTest {
         ChannelThreadExecutorGroup.getInstance().register(channelId);
         assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.BASE, channelId), instanceOf(ExecutorService.class));
     }
+    
+    @Test
+    public void assertGetExecutorWithSerialExecutorEnabled() {
+        ChannelId channelId = mock(ChannelId.class);
+        ChannelThreadExecutorGroup.getInstance().register(channelId);
+        ChannelSerialExecutorGroup.getInstance().register(channelId);
+        Properties props = new Properties();
+        props.setProperty(PropertiesConstant.PROXY_FRONTEND_SERIAL_EXECUTOR_ENABLED.getKey(), Boolean.TRUE.toString());
+        ShardingProxyContext.getInstance().init(new Authentication(), props);
+        try {
+            assertThat(CommandExecutorSelector.getExecutor(true, false, TransactionType.LOCAL, channelId), instanceOf(SerialExecutor.class));
+            assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.XA, channelId), instanceOf(ExecutorService.class));
+        } finally {
+            ChannelSerialExecutorGroup.getInstance().unregister(channelId);
+            ChannelThreadExecutorGroup.getInstance().unregister(channelId);
+        }
+    }
 }
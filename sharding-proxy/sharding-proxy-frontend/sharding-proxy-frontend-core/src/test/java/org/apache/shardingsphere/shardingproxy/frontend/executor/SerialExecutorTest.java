@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class SerialExecutorTest {
+    
+    private static final int POOL_SIZE = 4;
+    
+    private final ExecutorService sharedExecutor = Executors.newFixedThreadPool(POOL_SIZE);
+    
+    @After
+    public void tearDown() {
+        sharedExecutor.shutdownNow();
+    }
+    
+    @Test
+    public void assertExecuteInSubmissionOrder() throws InterruptedException {
+        SerialExecutor serialExecutor = new SerialExecutor(sharedExecutor);
+        List<Integer> actual = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger concurrency = new AtomicInteger();
+        AtomicInteger maxConcurrency = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1000);
+        for (int i = 0; i < 1000; i++) {
+            int value = i;
+            serialExecutor.execute(() -> {
+                maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+                actual.add(value);
+                concurrency.decrementAndGet();
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertThat(maxConcurrency.get(), is(1));
+        for (int i = 0; i < 1000; i++) {
+            assertThat(actual.get(i), is(i));
+        }
+    }
+    
+    @Test
+    public void assertExecuteAfterTaskFailed() throws InterruptedException {
+        SerialExecutor serialExecutor = new SerialExecutor(sharedExecutor);
+        CountDownLatch latch = new CountDownLatch(1);
+        serialExecutor.execute(() -> {
+            throw new IllegalStateException("failed");
+        });
+        serialExecutor.execute(latch::countDown);
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void assertExecuteAfterScheduleRejected() throws InterruptedException {
+        AtomicBoolean rejected = new AtomicBoolean();
+        SerialExecutor serialExecutor = new SerialExecutor(command -> {
+            if (rejected.compareAndSet(false, true)) {
+                throw new RejectedExecutionException("rejected");
+            }
+            sharedExecutor.execute(command);
+        });
+        CountDownLatch latch = new CountDownLatch(2);
+        try {
+            serialExecutor.execute(latch::countDown);
+            fail("Expected RejectedExecutionException.");
+        } catch (final RejectedExecutionException ignored) {
+        }
+        serialExecutor.execute(latch::countDown);
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void assertManyChannelsShareBoundedThreads() throws InterruptedException {
+        int channelCount = 20000;
+        int commandCountPerChannel = 5;
+        Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        Map<Integer, Integer> lastCommands = new ConcurrentHashMap<>(channelCount, 1);
+        AtomicInteger outOfOrderCount = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(channelCount * commandCountPerChannel);
+        List<SerialExecutor> channelExecutors = new ArrayList<>(channelCount);
+        for (int i = 0; i < channelCount; i++) {
+            channelExecutors.add(new SerialExecutor(sharedExecutor));
+        }
+        for (int command = 0; command < commandCountPerChannel; command++) {
+            for (int channel = 0; channel < channelCount; channel++) {
+                int channelIndex = channel;
+                int commandIndex = command;
+                channelExecutors.get(channel).execute(() -> {
+                    threads.add(Thread.currentThread());
+                    Integer lastCommand = lastCommands.put(channelIndex, commandIndex);
+                    if (commandIndex != (null == lastCommand ? 0 : lastCommand + 1)) {
+                        outOfOrderCount.incrementAndGet();
+                    }
+                    latch.countDown();
+                });
+            }
+        }
+        assertTrue(latch.await(60, TimeUnit.SECONDS));
+        assertThat(outOfOrderCount.get(), is(0));
+        assertFalse(threads.size() > POOL_SIZE);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.netty;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelId;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.context.FrontendContext;
+import org.apache.shardingsphere.shardingproxy.frontend.executor.ChannelSerialExecutorGroup;
+import org.apache.shardingsphere.shardingproxy.frontend.executor.ChannelThreadExecutorGroup;
+import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class FrontendChannelInboundHandlerTest {
+    
+    @Mock
+    private DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    private final FrontendContext frontendContext = new FrontendContext(false, false);
+    
+    @Before
+    public void setUp() {
+        when(databaseProtocolFrontendEngine.getFrontendContext()).thenReturn(frontendContext);
+        when(context.channel()).thenReturn(channel);
+    }
+    
+    @Test
+    public void assertResumeWhenChannelWritable() {
+        Runnable resumeTask = mock(Runnable.class);
+        frontendContext.getQueryDataFlowControl().suspend(resumeTask);
+        when(channel.isWritable()).thenReturn(true);
+        new FrontendChannelInboundHandler(databaseProtocolFrontendEngine).channelWritabilityChanged(context);
+        verify(resumeTask).run();
+        assertFalse(frontendContext.getQueryDataFlowControl().resume());
+    }
+    
+    @Test
+    public void assertNotResumeWhenChannelUnwritable() {
+        Runnable resumeTask = mock(Runnable.class);
+        frontendContext.getQueryDataFlowControl().suspend(resumeTask);
+        when(channel.isWritable()).thenReturn(false);
+        new FrontendChannelInboundHandler(databaseProtocolFrontendEngine).channelWritabilityChanged(context);
+        verify(resumeTask, never()).run();
+    }
+    
+    @Test
+    public void assertResumeAndReleaseWhenChannelInactive() {
+        ChannelId channelId = mock(ChannelId.class);
+        when(channel.id()).thenReturn(channelId);
+        ChannelThreadExecutorGroup.getInstance().register(channelId);
+        ChannelSerialExecutorGroup.getInstance().register(channelId);
+        Runnable resumeTask = mock(Runnable.class);
+        frontendContext.getQueryDataFlowControl().suspend(resumeTask);
+        new FrontendChannelInboundHandler(databaseProtocolFrontendEngine).channelInactive(context);
+        verify(resumeTask).run();
+        verify(databaseProtocolFrontendEngine).release(any(BackendConnection.class));
+        verify(context).fireChannelInactive();
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingproxy.frontend.mysql;
 import lombok.Getter;
 import org.apache.shardingsphere.database.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.database.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.context.FrontendContext;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.auth.MySQLAuthenticationEngine;
@@ -47,5 +48,6 @@ public final class MySQLProtocolFrontendEngine implements DatabaseProtocolFronte
     
     @Override
     public void release(final BackendConnection backendConnection) {
+        MySQLBinaryStatementRegistry.getInstance().unregister(backendConnection.getConnectionId());
     }
 }
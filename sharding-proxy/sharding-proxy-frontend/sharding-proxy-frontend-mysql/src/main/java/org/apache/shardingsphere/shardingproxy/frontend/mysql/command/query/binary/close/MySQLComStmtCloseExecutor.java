@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.bin
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 
 import java.util.Collection;
@@ -33,10 +34,11 @@ public final class MySQLComStmtCloseExecutor implements CommandExecutor {
     
     private final MySQLComStmtClosePacket packet;
     
+    private final BackendConnection backendConnection;
+    
     @Override
     public Collection<DatabasePacket> execute() {
-        //TODO we need to design the cache in future.
-//        packet.removeCachedStatement();
+        packet.removeCachedStatement(backendConnection.getConnectionId());
         return Collections.emptyList();
     }
 }
@@ -17,10 +17,13 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.prepare;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLColumnType;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.MySQLConnectionScopeBinaryStatementRegistry;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.prepare.MySQLComStmtPrepareOKPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.prepare.MySQLComStmtPreparePacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLEofPacket;
@@ -29,56 +32,190 @@ import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetas;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.AliasAvailable;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 
 /**
  * COM_STMT_PREPARE command executor for MySQL.
  */
 public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
     
-    private static final MySQLBinaryStatementRegistry PREPARED_STATEMENT_REGISTRY = MySQLBinaryStatementRegistry.getInstance();
-    
     private final MySQLComStmtPreparePacket packet;
     
     private final LogicSchema logicSchema;
     
+    private final MySQLConnectionScopeBinaryStatementRegistry binaryStatementRegistry;
+    
     public MySQLComStmtPrepareExecutor(final MySQLComStmtPreparePacket packet, final BackendConnection backendConnection) {
         this.packet = packet;
         logicSchema = backendConnection.getLogicSchema();
-    }
-    
-    private int getColumnsCount(final SQLStatement sqlStatement) {
-        return sqlStatement instanceof SelectStatement ? ((SelectStatement) sqlStatement).getProjections().getProjections().size() : 0;
+        binaryStatementRegistry = MySQLBinaryStatementRegistry.getInstance().get(backendConnection.getConnectionId());
     }
     
     @Override
     public Collection<DatabasePacket> execute() {
         Collection<DatabasePacket> result = new LinkedList<>();
         int currentSequenceId = 0;
+        if (null == binaryStatementRegistry) {
+            result.add(new MySQLErrPacket(++currentSequenceId, MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER, 0, "mysqld_stmt_prepare"));
+            return result;
+        }
         SQLStatement sqlStatement = logicSchema.getSqlParserEngine().parse(packet.getSql(), true);
         if (!MySQLComStmtPrepareChecker.isStatementAllowed(sqlStatement)) {
             result.add(new MySQLErrPacket(++currentSequenceId, MySQLServerErrorCode.ER_UNSUPPORTED_PS));
             return result;
         }
         int parametersCount = sqlStatement.getParameterCount();
-        int columnsCount = getColumnsCount(sqlStatement);
-        result.add(new MySQLComStmtPrepareOKPacket(++currentSequenceId, PREPARED_STATEMENT_REGISTRY.register(packet.getSql(), parametersCount), columnsCount, parametersCount, 0));
+        List<MySQLColumnType> parameterTypes = getParameterTypes(sqlStatement, parametersCount);
+        List<PreparedColumn> columns = getColumns(sqlStatement);
+        result.add(new MySQLComStmtPrepareOKPacket(++currentSequenceId, binaryStatementRegistry.register(packet.getSql(), parametersCount), columns.size(), parametersCount, 0));
         if (parametersCount > 0) {
-            for (int i = 0; i < parametersCount; i++) {
-                result.add(new MySQLColumnDefinition41Packet(++currentSequenceId, "", "", "", "?", "", 0, MySQLColumnType.MYSQL_TYPE_VAR_STRING, 0));
+            for (MySQLColumnType each : parameterTypes) {
+                result.add(new MySQLColumnDefinition41Packet(++currentSequenceId, "", "", "", "?", "", 0, each, 0));
             }
             result.add(new MySQLEofPacket(++currentSequenceId));
         }
-        if (columnsCount > 0) {
-            for (int i = 0; i < columnsCount; i++) {
-                result.add(new MySQLColumnDefinition41Packet(++currentSequenceId, "", "", "", "", "", 0, MySQLColumnType.MYSQL_TYPE_VAR_STRING, 0));
+        if (!columns.isEmpty()) {
+            for (PreparedColumn each : columns) {
+                result.add(new MySQLColumnDefinition41Packet(
+                        ++currentSequenceId, logicSchema.getName(), each.getTable(), each.getOrgTable(), each.getName(), each.getOrgName(), 0, each.getColumnType(), 0));
             }
             result.add(new MySQLEofPacket(++currentSequenceId));
         }
         return result;
     }
+    
+    private List<MySQLColumnType> getParameterTypes(final SQLStatement sqlStatement, final int parametersCount) {
+        List<MySQLColumnType> result = new ArrayList<>(Collections.nCopies(parametersCount, MySQLColumnType.MYSQL_TYPE_VAR_STRING));
+        if (!(sqlStatement instanceof InsertStatement)) {
+            return result;
+        }
+        InsertStatement insertStatement = (InsertStatement) sqlStatement;
+        TableMetaData tableMetaData = getTableMetas().get(insertStatement.getTable().getTableName().getIdentifier().getValue());
+        if (null == tableMetaData) {
+            return result;
+        }
+        List<String> columnNames = insertStatement.useDefaultColumns() ? new ArrayList<>(tableMetaData.getColumns().keySet()) : insertStatement.getColumnNames();
+        for (List<ExpressionSegment> each : insertStatement.getAllValueExpressions()) {
+            for (int i = 0; i < each.size() && i < columnNames.size(); i++) {
+                ColumnMetaData columnMetaData = tableMetaData.getColumns().get(columnNames.get(i).toLowerCase());
+                if (each.get(i) instanceof ParameterMarkerExpressionSegment && null != columnMetaData) {
+                    int parameterMarkerIndex = ((ParameterMarkerExpressionSegment) each.get(i)).getParameterMarkerIndex();
+                    if (parameterMarkerIndex < parametersCount) {
+                        result.set(parameterMarkerIndex, MySQLColumnType.valueOfTypeName(columnMetaData.getDataType()));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+    
+    private List<PreparedColumn> getColumns(final SQLStatement sqlStatement) {
+        if (!(sqlStatement instanceof SelectStatement)) {
+            return Collections.emptyList();
+        }
+        SelectStatement selectStatement = (SelectStatement) sqlStatement;
+        List<PreparedColumn> result = new LinkedList<>();
+        for (ProjectionSegment each : selectStatement.getProjections().getProjections()) {
+            if (each instanceof ColumnProjectionSegment) {
+                result.add(getColumn(selectStatement, (ColumnProjectionSegment) each));
+            } else if (each instanceof ShorthandProjectionSegment) {
+                result.addAll(getShorthandColumns(selectStatement, (ShorthandProjectionSegment) each));
+            } else {
+                result.add(createUnresolvedColumn(each instanceof AliasAvailable ? ((AliasAvailable) each).getAlias().orElse("") : "", ""));
+            }
+        }
+        return result;
+    }
+    
+    private PreparedColumn getColumn(final SelectStatement selectStatement, final ColumnProjectionSegment projection) {
+        String columnName = projection.getColumn().getIdentifier().getValue();
+        String name = projection.getAlias().orElse(columnName);
+        for (SimpleTableSegment each : findTables(selectStatement, projection.getColumn().getOwner().orElse(null))) {
+            TableMetaData tableMetaData = getTableMetas().get(each.getTableName().getIdentifier().getValue());
+            ColumnMetaData columnMetaData = null == tableMetaData ? null : tableMetaData.getColumns().get(columnName.toLowerCase());
+            if (null != columnMetaData) {
+                return createPreparedColumn(each, name, columnMetaData);
+            }
+        }
+        return createUnresolvedColumn(name, columnName);
+    }
+    
+    private Collection<PreparedColumn> getShorthandColumns(final SelectStatement selectStatement, final ShorthandProjectionSegment projection) {
+        Collection<SimpleTableSegment> tables = findTables(selectStatement, projection.getOwner().orElse(null));
+        if (tables.isEmpty() || !projection.getOwner().isPresent() && !selectStatement.getSubQueryTableSegments().isEmpty()) {
+            return Collections.singletonList(createUnresolvedColumn("", ""));
+        }
+        Collection<PreparedColumn> result = new LinkedList<>();
+        for (SimpleTableSegment each : tables) {
+            TableMetaData tableMetaData = getTableMetas().get(each.getTableName().getIdentifier().getValue());
+            if (null == tableMetaData) {
+                return Collections.singletonList(createUnresolvedColumn("", ""));
+            }
+            for (ColumnMetaData eachColumn : tableMetaData.getColumns().values()) {
+                result.add(createPreparedColumn(each, eachColumn.getName(), eachColumn));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<SimpleTableSegment> findTables(final SelectStatement selectStatement, final OwnerSegment owner) {
+        if (null == owner) {
+            return selectStatement.getSimpleTableSegments();
+        }
+        String ownerName = owner.getIdentifier().getValue();
+        for (SimpleTableSegment each : selectStatement.getSimpleTableSegments()) {
+            if (ownerName.equalsIgnoreCase(each.getAlias().orElse(each.getTableName().getIdentifier().getValue()))) {
+                return Collections.singletonList(each);
+            }
+        }
+        return Collections.emptyList();
+    }
+    
+    private PreparedColumn createPreparedColumn(final SimpleTableSegment table, final String name, final ColumnMetaData columnMetaData) {
+        String tableName = table.getTableName().getIdentifier().getValue();
+        MySQLColumnType columnType = MySQLColumnType.valueOfTypeName(columnMetaData.getDataType());
+        return new PreparedColumn(table.getAlias().orElse(tableName), tableName, name, columnMetaData.getName(), columnType);
+    }
+    
+    private PreparedColumn createUnresolvedColumn(final String name, final String orgName) {
+        return new PreparedColumn("", "", name, orgName, MySQLColumnType.MYSQL_TYPE_VAR_STRING);
+    }
+    
+    private TableMetas getTableMetas() {
+        return logicSchema.getMetaData().getTables();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PreparedColumn {
+        
+        private final String table;
+        
+        private final String orgTable;
+        
+        private final String name;
+        
+        private final String orgName;
+        
+        private final MySQLColumnType columnType;
+    }
 }
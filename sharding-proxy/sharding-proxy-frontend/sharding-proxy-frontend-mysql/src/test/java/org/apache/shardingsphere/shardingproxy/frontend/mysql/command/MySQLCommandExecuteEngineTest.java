@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.context.QueryDataFlowControl;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWriter;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLCommandExecuteEngineTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    @Before
+    public void setUp() {
+        when(context.channel()).thenReturn(channel);
+        when(channel.isActive()).thenReturn(true);
+        when(queryCommandExecutor.isQuery()).thenReturn(true);
+    }
+    
+    @Test
+    public void assertWriteQueryDataWhenChannelNotWritable() throws SQLException {
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, new QueryDataFlowControl(), 3, 128, 0);
+        assertFalse(new MySQLCommandExecuteEngine().writeQueryData(context, queryCommandExecutor, queryDataWriter));
+        verify(queryCommandExecutor, never()).next();
+    }
+    
+    @Test
+    public void assertWriteQueryDataCompleted() throws SQLException {
+        when(channel.isWritable()).thenReturn(true);
+        when(queryCommandExecutor.next()).thenReturn(true, true, false);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, new QueryDataFlowControl(), 3, 128, 0);
+        assertTrue(new MySQLCommandExecuteEngine().writeQueryData(context, queryCommandExecutor, queryDataWriter));
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(context, times(3)).write(captor.capture());
+        assertThat(captor.getValue(), instanceOf(MySQLEofPacket.class));
+        assertThat(((MySQLEofPacket) captor.getValue()).getSequenceId(), is(6));
+    }
+    
+    @Test
+    public void assertWriteQueryDataAfterResumed() throws SQLException {
+        when(channel.isWritable()).thenReturn(true, false, true);
+        when(queryCommandExecutor.next()).thenReturn(true, false);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, new QueryDataFlowControl(), 3, 128, 0);
+        MySQLCommandExecuteEngine engine = new MySQLCommandExecuteEngine();
+        assertFalse(engine.writeQueryData(context, queryCommandExecutor, queryDataWriter));
+        assertTrue(engine.writeQueryData(context, queryCommandExecutor, queryDataWriter));
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(context, times(2)).write(captor.capture());
+        assertThat(((MySQLEofPacket) captor.getValue()).getSequenceId(), is(5));
+    }
+}
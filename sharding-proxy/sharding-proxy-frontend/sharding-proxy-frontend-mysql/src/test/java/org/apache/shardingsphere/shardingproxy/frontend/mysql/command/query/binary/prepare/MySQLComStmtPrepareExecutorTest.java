@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.prepare;
+
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLServerErrorCode;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.prepare.MySQLComStmtPrepareOKPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.prepare.MySQLComStmtPreparePacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetas;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLComStmtPrepareExecutorTest {
+    
+    @Mock
+    private MySQLComStmtPreparePacket packet;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Before
+    public void setUp() {
+        LogicSchema logicSchema = mock(LogicSchema.class);
+        when(logicSchema.getName()).thenReturn("sharding_db");
+        when(logicSchema.getSqlParserEngine()).thenReturn(new SQLParserEngine("MySQL"));
+        TableMetaData tableMetaData = new TableMetaData(Arrays.asList(
+                new ColumnMetaData("order_id", "BIGINT", true), new ColumnMetaData("user_id", "INT", false), new ColumnMetaData("status", "VARCHAR", false)), Collections.emptySet());
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getTables()).thenReturn(new TableMetas(Collections.singletonMap("t_order", tableMetaData)));
+        when(logicSchema.getMetaData()).thenReturn(metaData);
+        when(backendConnection.getLogicSchema()).thenReturn(logicSchema);
+        when(backendConnection.getConnectionId()).thenReturn(1);
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+    }
+    
+    @After
+    public void tearDown() {
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
+    }
+    
+    @Test
+    public void assertExecuteSelectWithColumnTypes() {
+        when(packet.getSql()).thenReturn("SELECT o.order_id, status AS s FROM t_order o WHERE user_id = ?");
+        List<DatabasePacket> actual = new ArrayList<>(new MySQLComStmtPrepareExecutor(packet, backendConnection).execute());
+        assertThat(actual.size(), is(6));
+        assertThat(actual.get(0), instanceOf(MySQLComStmtPrepareOKPacket.class));
+        assertColumnType(actual.get(1), MySQLColumnType.MYSQL_TYPE_VAR_STRING);
+        assertThat(actual.get(2), instanceOf(MySQLEofPacket.class));
+        assertColumnType(actual.get(3), MySQLColumnType.MYSQL_TYPE_LONGLONG);
+        assertColumnType(actual.get(4), MySQLColumnType.MYSQL_TYPE_VAR_STRING);
+        assertThat(actual.get(5), instanceOf(MySQLEofPacket.class));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(1).getParametersCount(), is(1));
+    }
+    
+    @Test
+    public void assertExecuteSelectWithShorthandProjection() {
+        when(packet.getSql()).thenReturn("SELECT * FROM t_order");
+        List<DatabasePacket> actual = new ArrayList<>(new MySQLComStmtPrepareExecutor(packet, backendConnection).execute());
+        assertThat(actual.size(), is(5));
+        assertColumnType(actual.get(1), MySQLColumnType.MYSQL_TYPE_LONGLONG);
+        assertColumnType(actual.get(2), MySQLColumnType.MYSQL_TYPE_LONG);
+        assertColumnType(actual.get(3), MySQLColumnType.MYSQL_TYPE_VAR_STRING);
+    }
+    
+    @Test
+    public void assertExecuteInsertWithParameterTypes() {
+        when(packet.getSql()).thenReturn("INSERT INTO t_order (user_id, order_id) VALUES (?, ?)");
+        List<DatabasePacket> actual = new ArrayList<>(new MySQLComStmtPrepareExecutor(packet, backendConnection).execute());
+        assertThat(actual.size(), is(4));
+        assertColumnType(actual.get(1), MySQLColumnType.MYSQL_TYPE_LONG);
+        assertColumnType(actual.get(2), MySQLColumnType.MYSQL_TYPE_LONGLONG);
+    }
+    
+    @Test
+    public void assertExecuteWithStatementIdPerConnection() {
+        when(packet.getSql()).thenReturn("SELECT * FROM t_order");
+        new MySQLComStmtPrepareExecutor(packet, backendConnection).execute();
+        new MySQLComStmtPrepareExecutor(packet, backendConnection).execute();
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(2).getSql(), is("SELECT * FROM t_order"));
+    }
+    
+    @Test
+    public void assertExecuteWithoutRegisteredConnection() {
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
+        List<DatabasePacket> actual = new ArrayList<>(new MySQLComStmtPrepareExecutor(packet, backendConnection).execute());
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), instanceOf(MySQLErrPacket.class));
+        assertThat(((MySQLErrPacket) actual.get(0)).getErrorCode(), is(MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getErrorCode()));
+    }
+    
+    private void assertColumnType(final DatabasePacket actual, final MySQLColumnType expected) {
+        assertThat(actual, instanceOf(MySQLColumnDefinition41Packet.class));
+        assertThat(((MySQLColumnDefinition41Packet) actual).getColumnType(), is(expected));
+    }
+}
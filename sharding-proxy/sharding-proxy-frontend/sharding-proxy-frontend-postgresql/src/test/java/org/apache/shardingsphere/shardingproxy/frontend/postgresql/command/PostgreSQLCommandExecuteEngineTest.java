@@ -17,16 +17,26 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.context.QueryDataFlowControl;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWriter;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -46,7 +56,51 @@ public class PostgreSQLCommandExecuteEngineTest {
         PostgreSQLCommandExecuteEngine postgreSQLCommandExecuteEngine = new PostgreSQLCommandExecuteEngine();
         when(queryCommandExecutor.isQuery()).thenReturn(false);
         when(queryCommandExecutor.isErrorResponse()).thenReturn(true);
-        postgreSQLCommandExecuteEngine.writeQueryData(channelHandlerContext, null, queryCommandExecutor, 0);
+        assertTrue(postgreSQLCommandExecuteEngine.writeQueryData(channelHandlerContext, queryCommandExecutor, null));
         verify(channelHandlerContext, times(1)).write(isA(PostgreSQLReadyForQueryPacket.class));
     }
+    
+    @Test
+    @SneakyThrows
+    public void assertWriteQueryDataWhenChannelNotWritable() {
+        Channel channel = mock(Channel.class);
+        when(channelHandlerContext.channel()).thenReturn(channel);
+        when(channel.isActive()).thenReturn(true);
+        when(queryCommandExecutor.isQuery()).thenReturn(true);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(channelHandlerContext, new QueryDataFlowControl(), 1, 128, 0);
+        assertFalse(new PostgreSQLCommandExecuteEngine().writeQueryData(channelHandlerContext, queryCommandExecutor, queryDataWriter));
+        verify(queryCommandExecutor, never()).next();
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertWriteQueryDataUntilMaxBufferedRows() {
+        Channel channel = mock(Channel.class);
+        when(channelHandlerContext.channel()).thenReturn(channel);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.isWritable()).thenReturn(true);
+        when(queryCommandExecutor.isQuery()).thenReturn(true);
+        when(queryCommandExecutor.next()).thenReturn(true);
+        QueryDataFlowControl flowControl = new QueryDataFlowControl();
+        QueryDataWriter queryDataWriter = new QueryDataWriter(channelHandlerContext, flowControl, 1, 128, 2);
+        assertFalse(new PostgreSQLCommandExecuteEngine().writeQueryData(channelHandlerContext, queryCommandExecutor, queryDataWriter));
+        assertThat(queryDataWriter.getWrittenRowsCount(), is(2));
+        assertThat(flowControl.getBufferedRowsCount(), is(2));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertWriteQueryDataCompleted() {
+        Channel channel = mock(Channel.class);
+        when(channelHandlerContext.channel()).thenReturn(channel);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.isWritable()).thenReturn(true);
+        when(queryCommandExecutor.isQuery()).thenReturn(true);
+        when(queryCommandExecutor.next()).thenReturn(true, false);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(channelHandlerContext, new QueryDataFlowControl(), 1, 128, 0);
+        assertTrue(new PostgreSQLCommandExecuteEngine().writeQueryData(channelHandlerContext, queryCommandExecutor, queryDataWriter));
+        assertThat(queryDataWriter.getWrittenRowsCount(), is(1));
+        verify(channelHandlerContext).write(isA(PostgreSQLCommandCompletePacket.class));
+        verify(channelHandlerContext).write(isA(PostgreSQLReadyForQueryPacket.class));
+    }
 }
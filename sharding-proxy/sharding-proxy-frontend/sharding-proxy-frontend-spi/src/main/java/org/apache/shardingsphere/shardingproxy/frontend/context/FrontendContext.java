@@ -30,4 +30,6 @@ public final class FrontendContext {
     private final boolean occupyThreadForPerConnection;
     
     private final boolean flushForPerCommandPacket;
+    
+    private final QueryDataFlowControl queryDataFlowControl = new QueryDataFlowControl();
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.context;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Flow control of query data written to client of a connection.
+ *
+ * <p>
+ * Writing of query data is suspended instead of blocking a thread when client cannot keep up,
+ * and it is resumed by event loop when channel becomes writable or buffered rows are sent out.
+ * </p>
+ */
+public final class QueryDataFlowControl {
+    
+    private final AtomicInteger bufferedRowsCount = new AtomicInteger();
+    
+    private final AtomicReference<Runnable> suspendedTask = new AtomicReference<>();
+    
+    private final AtomicLong throttledCount = new AtomicLong();
+    
+    private final AtomicLong throttledNanos = new AtomicLong();
+    
+    private volatile long suspendedNanoTime;
+    
+    /**
+     * Get count of rows written but not sent out yet.
+     *
+     * @return count of buffered rows
+     */
+    public int getBufferedRowsCount() {
+        return bufferedRowsCount.get();
+    }
+    
+    /**
+     * Increase count of rows written but not sent out yet.
+     */
+    public void increaseBufferedRowsCount() {
+        bufferedRowsCount.incrementAndGet();
+    }
+    
+    /**
+     * Release rows which are sent out.
+     *
+     * @param count count of rows sent out
+     * @return count of rows still buffered
+     */
+    public int releaseBufferedRows(final int count) {
+        return bufferedRowsCount.addAndGet(-count);
+    }
+    
+    /**
+     * Suspend writing query data.
+     *
+     * @param resumeTask task to run when writing is resumed
+     */
+    public void suspend(final Runnable resumeTask) {
+        suspendedNanoTime = System.nanoTime();
+        throttledCount.incrementAndGet();
+        suspendedTask.set(resumeTask);
+    }
+    
+    /**
+     * Resume writing query data if suspended.
+     *
+     * @return suspended or not
+     */
+    public boolean resume() {
+        Runnable resumeTask = suspendedTask.getAndSet(null);
+        if (null == resumeTask) {
+            return false;
+        }
+        throttledNanos.addAndGet(System.nanoTime() - suspendedNanoTime);
+        resumeTask.run();
+        return true;
+    }
+    
+    /**
+     * Get how many times writing query data was suspended.
+     *
+     * @return throttled count
+     */
+    public long getThrottledCount() {
+        return throttledCount.get();
+    }
+    
+    /**
+     * Get total time writing query data was suspended.
+     *
+     * @return throttled time in milliseconds
+     */
+    public long getThrottledMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(throttledNanos.get());
+    }
+}
@@ -73,11 +73,15 @@ public interface CommandExecuteEngine {
     /**
      * Write query data.
      *
+     * <p>
+     * Writing stops when query data writer is not writable, and it will be continued by calling this method again.
+     * </p>
+     *
      * @param context channel handler context
-     * @param backendConnection backend connection
      * @param queryCommandExecutor query command executor
-     * @param headerPackagesCount count of header packages
+     * @param queryDataWriter query data writer
+     * @return all query data are written or not
      * @throws SQLException SQL exception
      */
-    void writeQueryData(ChannelHandlerContext context, BackendConnection backendConnection, QueryCommandExecutor queryCommandExecutor, int headerPackagesCount) throws SQLException;
+    boolean writeQueryData(ChannelHandlerContext context, QueryCommandExecutor queryCommandExecutor, QueryDataWriter queryDataWriter) throws SQLException;
 }
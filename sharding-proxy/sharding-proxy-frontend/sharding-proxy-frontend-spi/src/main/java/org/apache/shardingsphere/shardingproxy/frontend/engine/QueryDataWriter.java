@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.engine;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.frontend.context.QueryDataFlowControl;
+
+/**
+ * Writer of query data for one query.
+ */
+@RequiredArgsConstructor
+public final class QueryDataWriter {
+    
+    private final ChannelHandlerContext context;
+    
+    private final QueryDataFlowControl flowControl;
+    
+    @Getter
+    private final int headerPackagesCount;
+    
+    private final int flushThreshold;
+    
+    private final int maxBufferedRowsCount;
+    
+    @Getter
+    private int writtenRowsCount;
+    
+    private int unflushedRowsCount;
+    
+    private ChannelFuture lastWriteFuture;
+    
+    /**
+     * Judge whether more query data can be written.
+     *
+     * @return can be written or not
+     */
+    public boolean isWritable() {
+        return context.channel().isWritable() && (maxBufferedRowsCount <= 0 || flowControl.getBufferedRowsCount() < maxBufferedRowsCount);
+    }
+    
+    /**
+     * Write a row of query data.
+     *
+     * @param packet database packet of query data
+     */
+    public void write(final DatabasePacket packet) {
+        lastWriteFuture = context.write(packet);
+        writtenRowsCount++;
+        unflushedRowsCount++;
+        if (maxBufferedRowsCount > 0) {
+            flowControl.increaseBufferedRowsCount();
+        }
+        if (flushThreshold == unflushedRowsCount) {
+            flush();
+        }
+    }
+    
+    /**
+     * Flush written query data.
+     */
+    public void flush() {
+        if (maxBufferedRowsCount > 0 && unflushedRowsCount > 0) {
+            int flushedRowsCount = unflushedRowsCount;
+            lastWriteFuture.addListener(future -> {
+                if (flowControl.releaseBufferedRows(flushedRowsCount) < maxBufferedRowsCount && context.channel().isWritable()) {
+                    flowControl.resume();
+                }
+            });
+        }
+        unflushedRowsCount = 0;
+        context.flush();
+    }
+}
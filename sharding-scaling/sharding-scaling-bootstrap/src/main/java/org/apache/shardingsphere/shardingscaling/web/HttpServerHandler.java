@@ -34,6 +34,7 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.netty.util.CharsetUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.shardingscaling.core.ShardingScalingJob;
+import org.apache.shardingsphere.shardingscaling.core.check.DataConsistencyCheckProgress;
 import org.apache.shardingsphere.shardingscaling.core.config.ScalingConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.config.utils.SyncConfigurationUtil;
@@ -56,7 +57,7 @@ import java.util.regex.Pattern;
 @Slf4j
 public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
     
-    private static final Pattern URL_PATTERN = Pattern.compile("(^/shardingscaling/job/(start|stop|list))|(^/shardingscaling/job/progress/\\d+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern URL_PATTERN = Pattern.compile("(^/shardingscaling/job/(start|stop|list))|(^/shardingscaling/job/(progress|check)/\\d+)", Pattern.CASE_INSENSITIVE);
     
     private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
     
@@ -88,6 +89,14 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
             stopJob(channelHandlerContext, requestBody);
             return;
         }
+        if (requestPath.contains("/shardingscaling/job/check/") && method.equals(HttpMethod.POST)) {
+            startCheck(channelHandlerContext, requestPath);
+            return;
+        }
+        if (requestPath.contains("/shardingscaling/job/check/") && method.equals(HttpMethod.GET)) {
+            getCheckProgress(channelHandlerContext, requestPath);
+            return;
+        }
         response(GSON.toJson(ResponseContentUtil.handleBadRequest("Not support request!")),
                 channelHandlerContext, HttpResponseStatus.BAD_REQUEST);
     }
@@ -142,6 +151,26 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
         response(GSON.toJson(ResponseContentUtil.success()), channelHandlerContext, HttpResponseStatus.OK);
     }
     
+    private void startCheck(final ChannelHandlerContext channelHandlerContext, final String requestPath) {
+        int jobId = Integer.parseInt(requestPath.split("/")[4]);
+        try {
+            SCALING_JOB_CONTROLLER.check(jobId);
+            response(GSON.toJson(ResponseContentUtil.success()), channelHandlerContext, HttpResponseStatus.OK);
+        } catch (ScalingJobNotFoundException e) {
+            response(GSON.toJson(ResponseContentUtil.handleBadRequest(e.getMessage())), channelHandlerContext, HttpResponseStatus.BAD_REQUEST);
+        }
+    }
+    
+    private void getCheckProgress(final ChannelHandlerContext channelHandlerContext, final String requestPath) {
+        int jobId = Integer.parseInt(requestPath.split("/")[4]);
+        try {
+            DataConsistencyCheckProgress checkProgress = SCALING_JOB_CONTROLLER.getCheckProgress(jobId);
+            response(GSON.toJson(ResponseContentUtil.build(checkProgress)), channelHandlerContext, HttpResponseStatus.OK);
+        } catch (ScalingJobNotFoundException e) {
+            response(GSON.toJson(ResponseContentUtil.handleBadRequest(e.getMessage())), channelHandlerContext, HttpResponseStatus.BAD_REQUEST);
+        }
+    }
+    
     private void response(final String content, final ChannelHandlerContext ctx, final HttpResponseStatus status) {
         FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status, Unpooled.copiedBuffer(content, CharsetUtil.UTF_8));
         response.headers().set(HttpHeaderNames.CONTENT_TYPE, "text/plain;charset=UTF-8");
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.check;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * Data consistency check progress of one scaling job.
+ */
+@Getter
+@Setter
+public final class DataConsistencyCheckProgress {
+    
+    private static final String RUNNING = "RUNNING";
+    
+    private volatile String status = RUNNING;
+    
+    private volatile Collection<DataConsistencyCheckResult> results = new LinkedList<>();
+    
+    /**
+     * Judge whether data consistency check is running.
+     *
+     * @return is running or not
+     */
+    public boolean isRunning() {
+        return RUNNING.equals(status);
+    }
+}
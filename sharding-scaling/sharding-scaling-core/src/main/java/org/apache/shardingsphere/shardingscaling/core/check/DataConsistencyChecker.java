@@ -0,0 +1,331 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.check;
+
+import com.google.common.base.Joiner;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.shardingscaling.core.config.DataSourceConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManager;
+import org.apache.shardingsphere.shardingscaling.core.exception.SyncTaskExecuteException;
+import org.apache.shardingsphere.shardingscaling.core.metadata.MetaDataManager;
+import org.apache.shardingsphere.shardingscaling.core.metadata.table.TableMetaData;
+
+import javax.sql.DataSource;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+/**
+ * Data consistency checker.
+ *
+ * <p>
+ * Compares row count of every logic table between all source actual tables and the target,
+ * then compares row count and CRC32 checksum of every primary key range in parallel.
+ * Primary key ranges are sized from row count, so every range holds about chunk size rows whatever the key density is,
+ * and only a bounded number of ranges are checked at the same time.
+ * Rows read from source and target are throttled by a rate limiter.
+ * </p>
+ */
+@Slf4j
+public final class DataConsistencyChecker {
+    
+    private static final int RATE_LIMIT_BATCH = 1000;
+    
+    private static final String WHOLE_TABLE_RANGE = "ALL";
+    
+    private static final int MAX_IN_FLIGHT_RANGES_PER_THREAD = 2;
+    
+    private final List<SyncConfiguration> syncConfigurations;
+    
+    private final long chunkSize;
+    
+    private final RateLimiter rateLimiter;
+    
+    private final int concurrency;
+    
+    public DataConsistencyChecker(final List<SyncConfiguration> syncConfigurations, final long chunkSize, final double rowsPerSecond) {
+        this.syncConfigurations = syncConfigurations;
+        this.chunkSize = chunkSize;
+        rateLimiter = RateLimiter.create(rowsPerSecond);
+        concurrency = getConcurrency();
+    }
+    
+    /**
+     * Check data consistency.
+     *
+     * @return check results of every logic table
+     */
+    public Collection<DataConsistencyCheckResult> check() {
+        DataSourceManager dataSourceManager = new DataSourceManager(syncConfigurations);
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrency);
+        try {
+            DataSource targetDataSource = dataSourceManager.getDataSource(syncConfigurations.get(0).getWriterConfiguration().getDataSourceConfiguration());
+            Collection<DataConsistencyCheckResult> result = new LinkedList<>();
+            for (Map.Entry<String, Collection<ActualTable>> entry : groupByLogicTable().entrySet()) {
+                result.add(checkTable(entry.getKey(), entry.getValue(), dataSourceManager, targetDataSource, executorService));
+            }
+            return result;
+        } finally {
+            executorService.shutdownNow();
+            dataSourceManager.close();
+        }
+    }
+    
+    private int getConcurrency() {
+        int result = 1;
+        for (SyncConfiguration each : syncConfigurations) {
+            result = Math.max(result, each.getConcurrency());
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<ActualTable>> groupByLogicTable() {
+        Map<String, Collection<ActualTable>> result = new LinkedHashMap<>();
+        for (SyncConfiguration each : syncConfigurations) {
+            for (Map.Entry<String, String> entry : each.getTableNameMap().entrySet()) {
+                if (!result.containsKey(entry.getValue())) {
+                    result.put(entry.getValue(), new LinkedList<ActualTable>());
+                }
+                result.get(entry.getValue()).add(new ActualTable(each.getReaderConfiguration().getDataSourceConfiguration(), entry.getKey()));
+            }
+        }
+        return result;
+    }
+    
+    private DataConsistencyCheckResult checkTable(final String logicTable, final Collection<ActualTable> actualTables,
+                                                  final DataSourceManager dataSourceManager, final DataSource targetDataSource, final ExecutorService executorService) {
+        ActualTable firstActualTable = actualTables.iterator().next();
+        TableMetaData tableMetaData = new MetaDataManager(dataSourceManager.getDataSource(firstActualTable.getDataSourceConfiguration())).getTableMetaData(firstActualTable.getTableName());
+        long sourceCount = 0;
+        for (ActualTable each : actualTables) {
+            sourceCount += count(dataSourceManager.getDataSource(each.getDataSourceConfiguration()), each.getTableName());
+        }
+        DataConsistencyCheckResult result = new DataConsistencyCheckResult(logicTable, sourceCount, count(targetDataSource, logicTable));
+        Queue<Future<String>> futures = new LinkedList<>();
+        RangeChecker rangeChecker = new RangeChecker(logicTable, actualTables, Joiner.on(",").join(tableMetaData.getColumnNames()),
+                getSplittablePrimaryKey(tableMetaData), dataSourceManager, targetDataSource);
+        if (null == rangeChecker.getPrimaryKey()) {
+            futures.add(executorService.submit(() -> rangeChecker.check(0, 0)));
+        } else {
+            long[] minMax = getMinMax(rangeChecker);
+            BigInteger max = BigInteger.valueOf(minMax[1]);
+            BigInteger span = max.subtract(BigInteger.valueOf(minMax[0])).add(BigInteger.ONE);
+            BigInteger rangeCount = calculateRangeCount(Math.max(result.getSourceCount(), result.getTargetCount()), span);
+            BigInteger step = span.add(rangeCount).subtract(BigInteger.ONE).divide(rangeCount);
+            for (BigInteger min = BigInteger.valueOf(minMax[0]); min.compareTo(max) <= 0; min = min.add(step)) {
+                final long rangeMin = min.longValue();
+                final long rangeMax = min.add(step).subtract(BigInteger.ONE).min(max).longValue();
+                if (futures.size() >= concurrency * MAX_IN_FLIGHT_RANGES_PER_THREAD) {
+                    collectMismatchedRange(futures.poll(), result);
+                }
+                futures.add(executorService.submit(() -> rangeChecker.check(rangeMin, rangeMax)));
+            }
+        }
+        while (!futures.isEmpty()) {
+            collectMismatchedRange(futures.poll(), result);
+        }
+        log.info("Data consistency check of table {} finished, source count: {}, target count: {}, mismatched ranges: {}",
+                logicTable, result.getSourceCount(), result.getTargetCount(), result.getMismatchedRanges());
+        return result;
+    }
+    
+    private BigInteger calculateRangeCount(final long rowCount, final BigInteger span) {
+        long result = Math.max(1L, rowCount / chunkSize + (0 == rowCount % chunkSize ? 0 : 1));
+        return BigInteger.valueOf(result).min(span.max(BigInteger.ONE));
+    }
+    
+    private String getSplittablePrimaryKey(final TableMetaData tableMetaData) {
+        if (1 != tableMetaData.getPrimaryKeyColumns().size()) {
+            return null;
+        }
+        String result = tableMetaData.getPrimaryKeyColumns().get(0);
+        int columnType = tableMetaData.getColumnMetaData(tableMetaData.findColumnIndex(result)).getColumnType();
+        return Types.INTEGER == columnType || Types.BIGINT == columnType || Types.SMALLINT == columnType || Types.TINYINT == columnType ? result : null;
+    }
+    
+    private long count(final DataSource dataSource, final String tableName) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(String.format("SELECT COUNT(*) FROM %s", tableName));
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (final SQLException ex) {
+            throw new SyncTaskExecuteException(String.format("count table %s error.", tableName), ex);
+        }
+    }
+    
+    private long[] getMinMax(final RangeChecker rangeChecker) {
+        long[] result = new long[]{Long.MAX_VALUE, Long.MIN_VALUE};
+        for (ActualTable each : rangeChecker.getActualTables()) {
+            mergeMinMax(rangeChecker.getDataSourceManager().getDataSource(each.getDataSourceConfiguration()), each.getTableName(), rangeChecker.getPrimaryKey(), result);
+        }
+        mergeMinMax(rangeChecker.getTargetDataSource(), rangeChecker.getLogicTable(), rangeChecker.getPrimaryKey(), result);
+        return result;
+    }
+    
+    private void mergeMinMax(final DataSource dataSource, final String tableName, final String primaryKey, final long[] minMax) {
+        String sql = String.format("SELECT MIN(%s),MAX(%s) FROM %s", primaryKey, primaryKey, tableName);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            resultSet.next();
+            long min = resultSet.getLong(1);
+            if (!resultSet.wasNull()) {
+                minMax[0] = Math.min(minMax[0], min);
+                minMax[1] = Math.max(minMax[1], resultSet.getLong(2));
+            }
+        } catch (final SQLException ex) {
+            throw new SyncTaskExecuteException(String.format("get primary key range of table %s error.", tableName), ex);
+        }
+    }
+    
+    private void collectMismatchedRange(final Future<String> future, final DataConsistencyCheckResult result) {
+        String mismatchedRange = getFutureResult(future);
+        if (null != mismatchedRange) {
+            result.getMismatchedRanges().add(mismatchedRange);
+        }
+    }
+    
+    private String getFutureResult(final Future<String> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SyncTaskExecuteException(ex);
+        } catch (final ExecutionException ex) {
+            throw new SyncTaskExecuteException(ex.getCause());
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ActualTable {
+        
+        private final DataSourceConfiguration dataSourceConfiguration;
+        
+        private final String tableName;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private final class RangeChecker {
+        
+        private final String logicTable;
+        
+        private final Collection<ActualTable> actualTables;
+        
+        private final String columns;
+        
+        private final String primaryKey;
+        
+        private final DataSourceManager dataSourceManager;
+        
+        private final DataSource targetDataSource;
+        
+        String check(final long min, final long max) {
+            Checksum sourceChecksum = new Checksum();
+            for (ActualTable each : actualTables) {
+                scan(dataSourceManager.getDataSource(each.getDataSourceConfiguration()), each.getTableName(), min, max, sourceChecksum);
+            }
+            Checksum targetChecksum = new Checksum();
+            scan(targetDataSource, logicTable, min, max, targetChecksum);
+            if (sourceChecksum.count == targetChecksum.count && sourceChecksum.value == targetChecksum.value) {
+                return null;
+            }
+            return null == primaryKey ? WHOLE_TABLE_RANGE : String.format("%s BETWEEN %d AND %d", primaryKey, min, max);
+        }
+        
+        private void scan(final DataSource dataSource, final String tableName, final long min, final long max, final Checksum checksum) {
+            String sql = String.format("SELECT %s FROM %s", columns, tableName);
+            if (null != primaryKey) {
+                sql = String.format("%s WHERE %s BETWEEN ? AND ?", sql, primaryKey);
+            }
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                if (null != primaryKey) {
+                    preparedStatement.setLong(1, min);
+                    preparedStatement.setLong(2, max);
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    int columnCount = resultSet.getMetaData().getColumnCount();
+                    int unthrottledRows = 0;
+                    while (resultSet.next()) {
+                        checksum.add(resultSet, columnCount);
+                        if (RATE_LIMIT_BATCH == ++unthrottledRows) {
+                            rateLimiter.acquire(RATE_LIMIT_BATCH);
+                            unthrottledRows = 0;
+                        }
+                    }
+                    if (0 < unthrottledRows) {
+                        rateLimiter.acquire(unthrottledRows);
+                    }
+                }
+            } catch (final SQLException ex) {
+                throw new SyncTaskExecuteException(String.format("check data consistency of table %s error.", tableName), ex);
+            }
+        }
+    }
+    
+    /**
+     * Order independent checksum, sum of CRC32 of every row.
+     */
+    private static final class Checksum {
+        
+        private final CRC32 crc32 = new CRC32();
+        
+        private long count;
+        
+        private long value;
+        
+        void add(final ResultSet resultSet, final int columnCount) throws SQLException {
+            crc32.reset();
+            for (int i = 1; i <= columnCount; i++) {
+                Object columnValue = resultSet.getObject(i);
+                if (null == columnValue) {
+                    crc32.update(0);
+                } else if (columnValue instanceof byte[]) {
+                    crc32.update((byte[]) columnValue);
+                } else {
+                    crc32.update(columnValue.toString().getBytes(StandardCharsets.UTF_8));
+                }
+                crc32.update(',');
+            }
+            count++;
+            value += crc32.getValue();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Properties;
+
+/**
+ * Checkpoint configuration.
+ */
+@Setter
+@Getter
+public final class CheckpointConfiguration {
+    
+    /**
+     * Type of checkpoint store, FILE or registry center type such as zookeeper.
+     */
+    private String type = "FILE";
+    
+    /**
+     * Root directory of checkpoint files, only used by FILE type.
+     */
+    private String path = "checkpoint";
+    
+    /**
+     * Server list of registry center.
+     */
+    private String serverLists;
+    
+    /**
+     * Namespace of registry center.
+     */
+    private String namespace = "sharding-scaling";
+    
+    /**
+     * Extra properties of registry center.
+     */
+    private Properties props = new Properties();
+    
+    /**
+     * Minimum interval in milliseconds between two realtime position persistence.
+     */
+    private long persistInterval = 1000;
+}
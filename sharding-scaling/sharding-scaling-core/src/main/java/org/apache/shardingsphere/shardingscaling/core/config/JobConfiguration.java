@@ -32,4 +32,10 @@ import lombok.Setter;
 public final class JobConfiguration {
     
     private int concurrency = 3;
+    
+    private long shardingSize = 10000000;
+    
+    private int batchSize = 1000;
+    
+    private int flushTimeout = 3;
 }
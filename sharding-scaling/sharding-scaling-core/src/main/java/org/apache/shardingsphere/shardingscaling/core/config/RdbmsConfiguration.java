@@ -40,8 +40,14 @@ public final class RdbmsConfiguration implements Cloneable {
     
     private int spiltNum;
     
+    private long shardingSize = 10000000;
+    
     private Map<String, String> tableNameMap;
     
+    private int batchSize = 1000;
+    
+    private int flushTimeout = 3;
+    
     /**
      * Clone to new rdbms configuration.
      *
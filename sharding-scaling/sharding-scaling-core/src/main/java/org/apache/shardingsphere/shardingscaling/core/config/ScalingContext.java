@@ -19,6 +19,9 @@ package org.apache.shardingsphere.shardingscaling.core.config;
 
 import org.apache.shardingsphere.shardingscaling.core.execute.engine.DefaultSyncTaskExecuteEngine;
 import org.apache.shardingsphere.shardingscaling.core.execute.engine.SyncTaskExecuteEngine;
+import org.apache.shardingsphere.shardingscaling.core.resume.CheckpointStore;
+import org.apache.shardingsphere.shardingscaling.core.resume.CheckpointStoreFactory;
+import org.apache.shardingsphere.shardingscaling.core.resume.NopCheckpointStore;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -36,6 +39,8 @@ public final class ScalingContext {
     private ServerConfiguration serverConfiguration;
     
     private SyncTaskExecuteEngine syncTaskExecuteEngine;
+    
+    private CheckpointStore checkpointStore = new NopCheckpointStore();
 
     /**
      * Get instance of Sharding-Scaling's context.
@@ -54,6 +59,7 @@ public final class ScalingContext {
     public void init(final ServerConfiguration serverConfiguration) {
         this.serverConfiguration = serverConfiguration;
         this.syncTaskExecuteEngine = new DefaultSyncTaskExecuteEngine(serverConfiguration.getWorkerThread());
+        this.checkpointStore = CheckpointStoreFactory.newInstance(serverConfiguration.getCheckpoint());
     }
 
 }
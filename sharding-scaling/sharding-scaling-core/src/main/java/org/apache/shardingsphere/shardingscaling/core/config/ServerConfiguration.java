@@ -36,4 +36,10 @@ public final class ServerConfiguration implements YamlConfiguration {
     private int pushTimeout = 1000;
     
     private int workerThread = 30;
+    
+    private long checkChunkSize = 10000;
+    
+    private double checkRateLimit = 100000;
+    
+    private CheckpointConfiguration checkpoint;
 }
@@ -52,6 +52,7 @@ public final class SyncConfigurationUtil {
         Map<String, Map<String, String>> dataSourceTableNameMap = toDataSourceTableNameMap(sourceRule, sourceDatasource.keySet());
         for (String each : dataSourceTableNameMap.keySet()) {
             RdbmsConfiguration readerConfiguration = createReaderConfiguration(sourceDatasource.get(each));
+            readerConfiguration.setShardingSize(scalingConfiguration.getJobConfiguration().getShardingSize());
             RdbmsConfiguration writerConfiguration = createWriterConfiguration(scalingConfiguration);
             Map<String, String> tableNameMap = dataSourceTableNameMap.get(each);
             result.add(new SyncConfiguration(scalingConfiguration.getJobConfiguration().getConcurrency(), tableNameMap, readerConfiguration, writerConfiguration));
@@ -117,6 +118,8 @@ public final class SyncConfigurationUtil {
                 scalingConfiguration.getRuleConfiguration().getDestinationDataSources().getUsername(),
                 scalingConfiguration.getRuleConfiguration().getDestinationDataSources().getPassword());
         result.setDataSourceConfiguration(writerDataSourceConfiguration);
+        result.setBatchSize(scalingConfiguration.getJobConfiguration().getBatchSize());
+        result.setFlushTimeout(scalingConfiguration.getJobConfiguration().getFlushTimeout());
         return result;
     }
 }
@@ -17,7 +17,13 @@
 
 package org.apache.shardingsphere.shardingscaling.core.controller;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.shardingscaling.core.ShardingScalingJob;
+import org.apache.shardingsphere.shardingscaling.core.check.DataConsistencyCheckProgress;
+import org.apache.shardingsphere.shardingscaling.core.check.DataConsistencyChecker;
+import org.apache.shardingsphere.shardingscaling.core.config.ScalingContext;
+import org.apache.shardingsphere.shardingscaling.core.config.ServerConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.controller.task.SyncTaskController;
 import org.apache.shardingsphere.shardingscaling.core.exception.ScalingJobNotFoundException;
@@ -26,16 +32,23 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Scaling job controller.
  */
+@Slf4j
 public final class ScalingJobController {
     
     private final ConcurrentMap<Integer, ShardingScalingJob> scalingJobMap = new ConcurrentHashMap<>();
     
     private final ConcurrentMap<Integer, List<SyncTaskController>> syncTaskControllerMaps = new ConcurrentHashMap<>();
     
+    private final ConcurrentMap<Integer, DataConsistencyCheckProgress> checkProgressMap = new ConcurrentHashMap<>();
+    
+    private final ExecutorService checkExecutorService = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingScaling-check-%d").build());
+    
     /**
      * Start data nodes migrate.
      *
@@ -95,4 +108,49 @@ public final class ScalingJobController {
     public List<ShardingScalingJob> listShardingScalingJobs() {
         return new LinkedList<>(scalingJobMap.values());
     }
+    
+    /**
+     * Start data consistency check of sharding scaling job.
+     *
+     * @param shardingScalingJobId sharding scaling job id
+     * @return data consistency check progress, the running one if check of this job is already in progress
+     */
+    public DataConsistencyCheckProgress check(final int shardingScalingJobId) {
+        if (!scalingJobMap.containsKey(shardingScalingJobId)) {
+            throw new ScalingJobNotFoundException(String.format("Can't find scaling job id %s", shardingScalingJobId));
+        }
+        final DataConsistencyCheckProgress checkProgress = new DataConsistencyCheckProgress();
+        DataConsistencyCheckProgress result = checkProgressMap.compute(shardingScalingJobId, (key, value) -> null != value && value.isRunning() ? value : checkProgress);
+        if (result != checkProgress) {
+            log.info("Data consistency check of scaling job {} is already running", shardingScalingJobId);
+            return result;
+        }
+        final List<SyncConfiguration> syncConfigurations = scalingJobMap.get(shardingScalingJobId).getSyncConfigurations();
+        checkExecutorService.execute(() -> {
+            try {
+                ServerConfiguration serverConfiguration = ScalingContext.getInstance().getServerConfiguration();
+                checkProgress.setResults(new DataConsistencyChecker(syncConfigurations, serverConfiguration.getCheckChunkSize(), serverConfiguration.getCheckRateLimit()).check());
+                checkProgress.setStatus("FINISHED");
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                log.error("Data consistency check of scaling job {} failed", shardingScalingJobId, ex);
+                checkProgress.setStatus("FAILURE");
+            }
+        });
+        return result;
+    }
+    
+    /**
+     * Get data consistency check progress of sharding scaling job.
+     *
+     * @param shardingScalingJobId sharding scaling job id
+     * @return data consistency check progress
+     */
+    public DataConsistencyCheckProgress getCheckProgress(final int shardingScalingJobId) {
+        if (!checkProgressMap.containsKey(shardingScalingJobId)) {
+            throw new ScalingJobNotFoundException(String.format("Can't find data consistency check of scaling job id %s", shardingScalingJobId));
+        }
+        return checkProgressMap.get(shardingScalingJobId);
+    }
 }
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.controller.SyncProgress;
 import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.shardingscaling.core.execute.EventType;
+import org.apache.shardingsphere.shardingscaling.core.resume.SyncTaskCheckpoint;
 import org.apache.shardingsphere.shardingscaling.core.synctask.DefaultSyncTaskFactory;
 import org.apache.shardingsphere.shardingscaling.core.synctask.SyncTask;
 import org.apache.shardingsphere.shardingscaling.core.synctask.SyncTaskFactory;
@@ -40,6 +41,8 @@ public final class SyncTaskController implements Runnable {
     
     private final DataSourceManager dataSourceManager = new DataSourceManager();
     
+    private final SyncTaskCheckpoint syncTaskCheckpoint;
+    
     private final String syncTaskId;
     
     private SyncTaskControlStatus syncTaskControlStatus;
@@ -47,8 +50,9 @@ public final class SyncTaskController implements Runnable {
     public SyncTaskController(final SyncConfiguration syncConfiguration) {
         SyncTaskFactory syncTaskFactory = new DefaultSyncTaskFactory();
         syncTaskId = generateSyncTaskId(syncConfiguration.getReaderConfiguration().getDataSourceConfiguration());
-        this.historyDataSyncTaskGroup = syncTaskFactory.createHistoryDataSyncTaskGroup(syncConfiguration, dataSourceManager);
-        this.realtimeDataSyncTask = syncTaskFactory.createRealtimeDataSyncTask(syncConfiguration, dataSourceManager);
+        syncTaskCheckpoint = new SyncTaskCheckpoint(syncConfiguration);
+        this.historyDataSyncTaskGroup = syncTaskFactory.createHistoryDataSyncTaskGroup(syncConfiguration, syncTaskCheckpoint, dataSourceManager);
+        this.realtimeDataSyncTask = syncTaskFactory.createRealtimeDataSyncTask(syncConfiguration, syncTaskCheckpoint, dataSourceManager);
         syncTaskControlStatus = SyncTaskControlStatus.PREPARING;
     }
     
@@ -108,13 +112,19 @@ public final class SyncTaskController implements Runnable {
     private void executeRealTimeSyncTask() {
         if (!SyncTaskControlStatus.MIGRATE_HISTORY_DATA.equals(syncTaskControlStatus)) {
             dataSourceManager.close();
+            syncTaskCheckpoint.delete();
             syncTaskControlStatus = SyncTaskControlStatus.STOPPED;
             return;
         }
         realtimeDataSyncTask.start(event -> {
             log.info("realtime data sync task {} finished, execute result: {}", syncTaskId, event.getEventType().name());
             dataSourceManager.close();
-            syncTaskControlStatus = EventType.FINISHED.equals(event.getEventType()) ? SyncTaskControlStatus.STOPPED : SyncTaskControlStatus.SYNCHRONIZE_REALTIME_DATA_FAILURE;
+            if (EventType.FINISHED.equals(event.getEventType())) {
+                syncTaskCheckpoint.delete();
+                syncTaskControlStatus = SyncTaskControlStatus.STOPPED;
+            } else {
+                syncTaskControlStatus = SyncTaskControlStatus.SYNCHRONIZE_REALTIME_DATA_FAILURE;
+            }
         });
         syncTaskControlStatus = SyncTaskControlStatus.SYNCHRONIZE_REALTIME_DATA;
     }
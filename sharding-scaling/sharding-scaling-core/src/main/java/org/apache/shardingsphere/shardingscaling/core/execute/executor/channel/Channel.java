@@ -36,6 +36,7 @@ public interface Channel {
     
     /**
      * fetch {@code Record} from channel, if the timeout also returns the record.
+     * Records already in channel are returned without waiting for batch size, waiting up to timeout only happens when channel is empty.
      *
      * @param batchSize record batch size
      * @param timeout value
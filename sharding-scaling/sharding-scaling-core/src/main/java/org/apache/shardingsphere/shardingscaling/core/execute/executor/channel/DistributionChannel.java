@@ -17,22 +17,26 @@
 
 package org.apache.shardingsphere.shardingscaling.core.execute.executor.channel;
 
-import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.LogPosition;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.DataRecord;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.FinishedRecord;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.PlaceholderRecord;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Realtime data execute channel.
@@ -41,54 +45,68 @@ public final class DistributionChannel implements Channel {
     
     private final int channelNumber;
     
-    /**
-     * key = channel id, value = channel.
-     */
-    private final Map<String, MemoryChannel> channels = new HashMap<>();
+    private final MemoryChannel[] channels;
     
     /**
-     * key = thread id, value = channel id.
+     * key = thread id, value = channel index.
      */
-    private final Map<String, String> channelAssignment = new HashMap<>();
+    private final Map<Long, Integer> channelAssignment = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger assignedChannelCount = new AtomicInteger();
     
     private final AckCallback ackCallback;
     
-    private Queue<Record> toBeAcknowledgeRecords = new ConcurrentLinkedQueue<>();
+    private final Queue<Record> toBeAcknowledgeRecords = new ConcurrentLinkedQueue<>();
     
-    private Map<LogPosition, Record> pendingAcknowledgeRecords = new ConcurrentHashMap<>();
+    private final Set<Record> pendingAcknowledgeRecords = Collections.newSetFromMap(new ConcurrentHashMap<>());
     
-    private ScheduledExecutorService scheduleAckRecordsExecutor;
+    private final AtomicInteger ackWorkInProgress = new AtomicInteger();
+    
+    private final Lock allAcknowledgedLock = new ReentrantLock();
+    
+    private final Condition allAcknowledgedCondition = allAcknowledgedLock.newCondition();
     
     public DistributionChannel(final int channelNumber, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
         this.ackCallback = ackCallback;
+        channels = new MemoryChannel[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
-            channels.put(Integer.toString(i), new MemoryChannel(new SingleChannelAckCallback()));
+            channels[i] = new MemoryChannel(new SingleChannelAckCallback());
         }
-        scheduleAckRecords();
-    }
-    
-    private void scheduleAckRecords() {
-        this.scheduleAckRecordsExecutor = Executors.newSingleThreadScheduledExecutor();
-        scheduleAckRecordsExecutor.scheduleAtFixedRate(this::ackRecords0, 5, 1, TimeUnit.SECONDS);
     }
     
+    /**
+     * Advance the acknowledged watermark.
+     * Only the thread which wins {@code ackWorkInProgress} drains, others just mark more work to do, so no thread blocks on acknowledging.
+     */
     private void ackRecords0() {
-        synchronized (DistributionChannel.this) {
+        if (0 != ackWorkInProgress.getAndIncrement()) {
+            return;
+        }
+        int missed = 1;
+        do {
             List<Record> result = new LinkedList<>();
-            while (!toBeAcknowledgeRecords.isEmpty()) {
-                Record record = toBeAcknowledgeRecords.peek();
-                if (pendingAcknowledgeRecords.containsKey(record.getLogPosition())) {
-                    result.add(record);
-                    toBeAcknowledgeRecords.poll();
-                    pendingAcknowledgeRecords.remove(record.getLogPosition());
-                } else {
-                    break;
-                }
+            Record record;
+            while (null != (record = toBeAcknowledgeRecords.peek()) && pendingAcknowledgeRecords.remove(record)) {
+                result.add(record);
+                toBeAcknowledgeRecords.poll();
             }
             if (result.size() > 0) {
                 ackCallback.onAck(result);
+                if (toBeAcknowledgeRecords.isEmpty()) {
+                    signalAllAcknowledged();
+                }
             }
+            missed = ackWorkInProgress.addAndGet(-missed);
+        } while (0 != missed);
+    }
+    
+    private void signalAllAcknowledged() {
+        allAcknowledgedLock.lock();
+        try {
+            allAcknowledgedCondition.signalAll();
+        } finally {
+            allAcknowledgedLock.unlock();
         }
     }
     
@@ -96,23 +114,66 @@ public final class DistributionChannel implements Channel {
     public void pushRecord(final Record record) throws InterruptedException {
         if (FinishedRecord.class.equals(record.getClass())) {
             // broadcast
-            for (Map.Entry<String, MemoryChannel> entry : channels.entrySet()) {
-                entry.getValue().pushRecord(record);
+            for (MemoryChannel each : channels) {
+                each.pushRecord(record);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
-            toBeAcknowledgeRecords.add(record);
-            // hash by table name
             DataRecord dataRecord = (DataRecord) record;
-            String index = Integer.toString(Math.abs(dataRecord.getTableName().hashCode()) % channelNumber);
-            channels.get(index).pushRecord(dataRecord);
+            if (isPrimaryKeyChanged(dataRecord)) {
+                waitUntilAllAcknowledged();
+            }
+            toBeAcknowledgeRecords.add(record);
+            channels[getChannelIndex(dataRecord)].pushRecord(dataRecord);
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
             toBeAcknowledgeRecords.add(record);
-            pendingAcknowledgeRecords.put(record.getLogPosition(), record);
+            pendingAcknowledgeRecords.add(record);
+            ackRecords0();
         } else {
             throw new RuntimeException("Not Support Record Type");
         }
     }
     
+    private boolean isPrimaryKeyChanged(final DataRecord dataRecord) {
+        if (!"UPDATE".equals(dataRecord.getType())) {
+            return false;
+        }
+        for (Column each : dataRecord.getColumns()) {
+            if (each.isPrimaryKey() && each.isUpdated()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * The old and new primary key of a record may hash to different channels,
+     * so all records pushed before must be written before the record is pushed.
+     */
+    private void waitUntilAllAcknowledged() throws InterruptedException {
+        allAcknowledgedLock.lockInterruptibly();
+        try {
+            while (!toBeAcknowledgeRecords.isEmpty()) {
+                allAcknowledgedCondition.await();
+            }
+        } finally {
+            allAcknowledgedLock.unlock();
+        }
+    }
+    
+    /**
+     * Hash by table name and primary key values, records of same primary key always go to same channel to keep their order.
+     * Records of table without primary key go to same channel.
+     */
+    private int getChannelIndex(final DataRecord dataRecord) {
+        int result = dataRecord.getTableName().hashCode();
+        for (Column each : dataRecord.getColumns()) {
+            if (each.isPrimaryKey()) {
+                result = 31 * result + (each.getValue() instanceof byte[] ? Arrays.hashCode((byte[]) each.getValue()) : Objects.hashCode(each.getValue()));
+            }
+        }
+        return Math.abs(result % channelNumber);
+    }
+    
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeout) {
         return findChannel().fetchRecords(batchSize, timeout);
@@ -125,44 +186,27 @@ public final class DistributionChannel implements Channel {
     
     @Override
     public void close() {
-        for (MemoryChannel each : channels.values()) {
+        for (MemoryChannel each : channels) {
             each.close();
         }
-        scheduleAckRecordsExecutor.shutdown();
         ackRecords0();
     }
     
     private Channel findChannel() {
-        String threadId = Long.toString(Thread.currentThread().getId());
-        checkAssignment(threadId);
-        return channels.get(channelAssignment.get(threadId));
-    }
-    
-    private void checkAssignment(final String threadId) {
-        if (!channelAssignment.containsKey(threadId)) {
-            synchronized (this) {
-                if (!channelAssignment.containsKey(threadId)) {
-                    assignmentChannel(threadId);
-                }
-            }
-        }
-    }
-    
-    private void assignmentChannel(final String threadId) {
-        for (Map.Entry<String, MemoryChannel> entry : channels.entrySet()) {
-            if (!channelAssignment.containsValue(entry.getKey())) {
-                channelAssignment.put(threadId, entry.getKey());
-            }
+        Long threadId = Thread.currentThread().getId();
+        Integer result = channelAssignment.get(threadId);
+        if (null == result) {
+            result = channelAssignment.computeIfAbsent(threadId, key -> assignedChannelCount.getAndIncrement() % channelNumber);
         }
+        return channels[result];
     }
     
     private class SingleChannelAckCallback implements AckCallback {
 
         @Override
         public void onAck(final List<Record> records) {
-            for (Record record : records) {
-                pendingAcknowledgeRecords.put(record.getLogPosition(), record);
-            }
+            pendingAcknowledgeRecords.addAll(records);
+            ackRecords0();
         }
     }
 }
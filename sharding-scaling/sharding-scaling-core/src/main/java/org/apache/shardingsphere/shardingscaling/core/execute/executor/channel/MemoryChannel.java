@@ -21,7 +21,6 @@ import org.apache.shardingsphere.shardingscaling.core.config.ScalingContext;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
@@ -39,7 +38,7 @@ public final class MemoryChannel implements Channel {
     
     private final AckCallback ackCallback;
     
-    private List<Record> toBeAcknowledgeRecords = new LinkedList<>();
+    private final List<Record> toBeAcknowledgeRecords = new ArrayList<>();
     
     public MemoryChannel(final AckCallback ackCallback) {
         this.ackCallback = ackCallback;
@@ -54,21 +53,20 @@ public final class MemoryChannel implements Channel {
     
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeout) {
-        List<Record> records = new ArrayList<>(batchSize);
-        long start = System.currentTimeMillis();
-        while (batchSize > queue.size()) {
-            if (timeout * 1000 <= System.currentTimeMillis() - start) {
-                break;
-            }
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException ignored) {
-                break;
+        List<Record> result = new ArrayList<>(batchSize);
+        try {
+            queue.drainTo(result, batchSize);
+            if (result.isEmpty()) {
+                Record record = queue.poll(timeout, TimeUnit.SECONDS);
+                if (null != record) {
+                    result.add(record);
+                    queue.drainTo(result, batchSize - 1);
+                }
             }
+        } catch (InterruptedException ignored) {
         }
-        queue.drainTo(records, batchSize);
-        toBeAcknowledgeRecords.addAll(records);
-        return records;
+        toBeAcknowledgeRecords.addAll(result);
+        return result;
     }
     
     @Override
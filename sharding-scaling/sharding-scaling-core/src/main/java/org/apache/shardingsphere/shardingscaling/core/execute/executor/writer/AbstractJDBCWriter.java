@@ -31,11 +31,13 @@ import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManag
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.RecordUtil;
 
 import javax.sql.DataSource;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -76,7 +78,7 @@ public abstract class AbstractJDBCWriter extends AbstractSyncExecutor implements
     public final void write() {
         try {
             while (isRunning()) {
-                List<Record> records = channel.fetchRecords(100, 3);
+                List<Record> records = channel.fetchRecords(rdbmsConfiguration.getBatchSize(), rdbmsConfiguration.getFlushTimeout());
                 if (null != records && records.size() > 0) {
                     flush(dataSourceManager.getDataSource(rdbmsConfiguration.getDataSourceConfiguration()), records);
                     if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
@@ -94,61 +96,97 @@ public abstract class AbstractJDBCWriter extends AbstractSyncExecutor implements
     private void flush(final DataSource dataSource, final List<Record> buffer) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
+            List<DataRecord> batchRecords = new LinkedList<>();
+            String batchSql = null;
             for (Record record : buffer) {
-                if (DataRecord.class.equals(record.getClass())) {
-                    DataRecord dataRecord = (DataRecord) record;
-                    switch (dataRecord.getType()) {
-                        case "BOOTSTRAP-INSERT":
-                        case "INSERT":
-                            executeInsert(connection, dataRecord);
-                            break;
-                        case "UPDATE":
-                            executeUpdate(connection, dataRecord);
-                            break;
-                        case "DELETE":
-                            executeDelete(connection, dataRecord);
-                            break;
-                        default:
-                            break;
-                    }
+                if (!DataRecord.class.equals(record.getClass())) {
+                    continue;
+                }
+                DataRecord dataRecord = (DataRecord) record;
+                String sql = buildSQL(dataRecord);
+                if (null == sql) {
+                    continue;
+                }
+                if (!sql.equals(batchSql)) {
+                    executeBatch(connection, batchSql, batchRecords);
+                    batchRecords.clear();
+                    batchSql = sql;
                 }
+                batchRecords.add(dataRecord);
             }
+            executeBatch(connection, batchSql, batchRecords);
             connection.commit();
         }
     }
     
-    private void executeInsert(final Connection connection, final DataRecord record) throws SQLException {
-        String insertSql = sqlBuilder.buildInsertSQL(record);
-        PreparedStatement ps = connection.prepareStatement(insertSql);
-        ps.setQueryTimeout(30);
-        try {
-            for (int i = 0; i < record.getColumnCount(); i++) {
-                ps.setObject(i + 1, record.getColumn(i).getValue());
+    private String buildSQL(final DataRecord dataRecord) {
+        switch (dataRecord.getType()) {
+            case "BOOTSTRAP-INSERT":
+            case "INSERT":
+                return sqlBuilder.buildInsertSQL(dataRecord);
+            case "UPDATE":
+                return sqlBuilder.buildUpdateSQL(dataRecord);
+            case "DELETE":
+                return sqlBuilder.buildDeleteSQL(dataRecord);
+            default:
+                return null;
+        }
+    }
+    
+    private void executeBatch(final Connection connection, final String sql, final List<DataRecord> records) throws SQLException {
+        if (records.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setQueryTimeout(30);
+            for (DataRecord each : records) {
+                setParameters(ps, extractParameters(each));
+                ps.addBatch();
             }
-            ps.execute();
-        } catch (SQLIntegrityConstraintViolationException ignored) {
+            ps.executeBatch();
+        } catch (BatchUpdateException ex) {
+            if (!isInsert(records.get(0))) {
+                throw ex;
+            }
+            log.warn("batch insert into {} failed, retry row by row and skip duplicated rows.", records.get(0).getTableName());
+            executeInsertOneByOne(connection, sql, records);
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
-        List<Column> values = new ArrayList<>();
-        values.addAll(RecordUtil.extractUpdatedColumns(record));
-        values.addAll(RecordUtil.extractPrimaryColumns(record));
-        String updateSql = sqlBuilder.buildUpdateSQL(record);
-        PreparedStatement ps = connection.prepareStatement(updateSql);
-        for (int i = 0; i < values.size(); i++) {
-            ps.setObject(i + 1, values.get(i).getValue());
+    private void executeInsertOneByOne(final Connection connection, final String sql, final List<DataRecord> records) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setQueryTimeout(30);
+            for (DataRecord each : records) {
+                setParameters(ps, each.getColumns());
+                try {
+                    ps.execute();
+                } catch (SQLIntegrityConstraintViolationException ignored) {
+                }
+            }
+        }
+    }
+    
+    private boolean isInsert(final DataRecord dataRecord) {
+        return "INSERT".equals(dataRecord.getType()) || "BOOTSTRAP-INSERT".equals(dataRecord.getType());
+    }
+    
+    private List<Column> extractParameters(final DataRecord dataRecord) {
+        switch (dataRecord.getType()) {
+            case "UPDATE":
+                List<Column> result = new ArrayList<>();
+                result.addAll(RecordUtil.extractUpdatedColumns(dataRecord));
+                result.addAll(RecordUtil.extractPrimaryColumns(dataRecord));
+                return result;
+            case "DELETE":
+                return RecordUtil.extractPrimaryColumns(dataRecord);
+            default:
+                return dataRecord.getColumns();
         }
-        ps.execute();
     }
     
-    private void executeDelete(final Connection connection, final DataRecord record) throws SQLException {
-        String deleteSql = sqlBuilder.buildDeleteSQL(record);
-        List<Column> primaryKeys = RecordUtil.extractPrimaryColumns(record);
-        PreparedStatement ps = connection.prepareStatement(deleteSql);
-        for (int i = 0; i < primaryKeys.size(); i++) {
-            ps.setObject(i + 1, primaryKeys.get(i).getValue());
+    private void setParameters(final PreparedStatement ps, final List<Column> values) throws SQLException {
+        for (int i = 0; i < values.size(); i++) {
+            ps.setObject(i + 1, values.get(i).getValue());
         }
-        ps.execute();
     }
 }
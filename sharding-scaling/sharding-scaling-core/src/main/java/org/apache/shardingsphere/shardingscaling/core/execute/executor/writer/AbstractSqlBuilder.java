@@ -61,11 +61,13 @@ public abstract class AbstractSqlBuilder {
      * @return insert SQL
      */
     public String buildInsertSQL(final DataRecord dataRecord) {
-        String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
-        if (!sqlCacheMap.containsKey(sqlCacheKey)) {
-            sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(dataRecord.getTableName(), dataRecord.getColumns()));
+        String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName() + toColumnsLiteral(dataRecord.getColumns());
+        String result = sqlCacheMap.get(sqlCacheKey);
+        if (null == result) {
+            result = buildInsertSQLInternal(dataRecord.getTableName(), dataRecord.getColumns());
+            sqlCacheMap.put(sqlCacheKey, result);
         }
-        return sqlCacheMap.get(sqlCacheKey);
+        return result;
     }
     
     private String buildInsertSQLInternal(final String tableName, final List<Column> columns) {
@@ -87,25 +89,29 @@ public abstract class AbstractSqlBuilder {
      * @return update SQL
      */
     public String buildUpdateSQL(final DataRecord dataRecord) {
-        String sqlCacheKey = UPDATE_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
-        if (!sqlCacheMap.containsKey(sqlCacheKey)) {
-            sqlCacheMap.put(sqlCacheKey, buildUpdateSQLInternal(dataRecord.getTableName(), RecordUtil.extractPrimaryColumns(dataRecord)));
+        Collection<Column> updatedColumns = extractUpdatedColumns(dataRecord.getColumns());
+        Collection<Column> primaryColumns = RecordUtil.extractPrimaryColumns(dataRecord);
+        String sqlCacheKey = UPDATE_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName() + toColumnsLiteral(updatedColumns) + toColumnsLiteral(primaryColumns);
+        String result = sqlCacheMap.get(sqlCacheKey);
+        if (null == result) {
+            result = buildUpdateSQLInternal(dataRecord.getTableName(), updatedColumns, primaryColumns);
+            sqlCacheMap.put(sqlCacheKey, result);
         }
+        return result;
+    }
+    
+    private String buildUpdateSQLInternal(final String tableName, final Collection<Column> updatedColumns, final Collection<Column> primaryColumns) {
         StringBuilder updatedColumnString = new StringBuilder();
-        for (Column each : extractUpdatedColumns(dataRecord.getColumns())) {
+        for (Column each : updatedColumns) {
             updatedColumnString.append(String.format("%s%s%s = ?,", getLeftIdentifierQuoteString(), each.getName(), getRightIdentifierQuoteString()));
         }
         updatedColumnString.setLength(updatedColumnString.length() - 1);
-        return String.format(sqlCacheMap.get(sqlCacheKey), updatedColumnString.toString());
-    }
-    
-    private String buildUpdateSQLInternal(final String tableName, final Collection<Column> extractPrimaryColumns) {
         StringBuilder where = new StringBuilder();
-        for (Column each : extractPrimaryColumns) {
+        for (Column each : primaryColumns) {
             where.append(String.format("%s%s%s = ?,", getLeftIdentifierQuoteString(), each.getName(), getRightIdentifierQuoteString()));
         }
         where.setLength(where.length() - 1);
-        return String.format("UPDATE %s%s%s SET %%s WHERE %s", getLeftIdentifierQuoteString(), tableName, getRightIdentifierQuoteString(), where.toString());
+        return String.format("UPDATE %s%s%s SET %s WHERE %s", getLeftIdentifierQuoteString(), tableName, getRightIdentifierQuoteString(), updatedColumnString.toString(), where.toString());
     }
     
     private Collection<Column> extractUpdatedColumns(final Collection<Column> columns) {
@@ -119,11 +125,14 @@ public abstract class AbstractSqlBuilder {
      * @return delete SQL
      */
     public String buildDeleteSQL(final DataRecord dataRecord) {
-        String sqlCacheKey = DELETE_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
-        if (!sqlCacheMap.containsKey(sqlCacheKey)) {
-            sqlCacheMap.put(sqlCacheKey, buildDeleteSQLInternal(dataRecord.getTableName(), RecordUtil.extractPrimaryColumns(dataRecord)));
+        Collection<Column> primaryColumns = RecordUtil.extractPrimaryColumns(dataRecord);
+        String sqlCacheKey = DELETE_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName() + toColumnsLiteral(primaryColumns);
+        String result = sqlCacheMap.get(sqlCacheKey);
+        if (null == result) {
+            result = buildDeleteSQLInternal(dataRecord.getTableName(), primaryColumns);
+            sqlCacheMap.put(sqlCacheKey, result);
         }
-        return sqlCacheMap.get(sqlCacheKey);
+        return result;
     }
     
     private String buildDeleteSQLInternal(final String tableName, final Collection<Column> primaryColumns) {
@@ -134,4 +143,12 @@ public abstract class AbstractSqlBuilder {
         where.setLength(where.length() - 1);
         return String.format("DELETE FROM %s%s%s WHERE %s", getLeftIdentifierQuoteString(), tableName, getRightIdentifierQuoteString(), where.toString());
     }
+    
+    private String toColumnsLiteral(final Collection<Column> columns) {
+        StringBuilder result = new StringBuilder("(");
+        for (Column each : columns) {
+            result.append(each.getName()).append(',');
+        }
+        return result.append(')').toString();
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.resume;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.orchestration.internal.registry.RegistryCenterServiceLoader;
+import org.apache.shardingsphere.shardingscaling.core.config.CheckpointConfiguration;
+import org.apache.shardingsphere.underlying.common.config.orchestration.CenterConfiguration;
+
+/**
+ * Checkpoint store factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CheckpointStoreFactory {
+    
+    private static final String FILE_TYPE = "FILE";
+    
+    /**
+     * New checkpoint store instance.
+     *
+     * @param checkpointConfiguration checkpoint configuration, null means checkpoint is disabled
+     * @return checkpoint store
+     */
+    public static CheckpointStore newInstance(final CheckpointConfiguration checkpointConfiguration) {
+        if (null == checkpointConfiguration) {
+            return new NopCheckpointStore();
+        }
+        if (FILE_TYPE.equalsIgnoreCase(checkpointConfiguration.getType())) {
+            return new FileSystemCheckpointStore(checkpointConfiguration.getPath());
+        }
+        CenterConfiguration centerConfiguration = new CenterConfiguration(checkpointConfiguration.getType(), checkpointConfiguration.getProps());
+        centerConfiguration.setServerLists(checkpointConfiguration.getServerLists());
+        centerConfiguration.setNamespace(checkpointConfiguration.getNamespace());
+        return new RegistryCenterCheckpointStore(new RegistryCenterServiceLoader().load(centerConfiguration));
+    }
+}
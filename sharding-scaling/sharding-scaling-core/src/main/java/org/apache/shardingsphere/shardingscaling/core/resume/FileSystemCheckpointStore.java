@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.resume;
+
+import org.apache.shardingsphere.shardingscaling.core.exception.SyncTaskExecuteException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * File system checkpoint store.
+ * 
+ * <p>
+ * Every key is stored as a file under root path, value is written to a temporary file first
+ * and then moved atomically, so a crash never leaves a half written checkpoint.
+ * </p>
+ */
+public final class FileSystemCheckpointStore implements CheckpointStore {
+    
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    
+    private final Path rootPath;
+    
+    public FileSystemCheckpointStore(final String rootPath) {
+        this.rootPath = Paths.get(rootPath).toAbsolutePath();
+    }
+    
+    @Override
+    public String get(final String key) {
+        Path path = resolve(key);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        } catch (final IOException ex) {
+            throw new SyncTaskExecuteException(String.format("read checkpoint %s error.", key), ex);
+        }
+    }
+    
+    @Override
+    public void persist(final String key, final String value) {
+        Path path = resolve(key);
+        Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.write(temporaryPath, value.getBytes(StandardCharsets.UTF_8));
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            throw new SyncTaskExecuteException(String.format("persist checkpoint %s error.", key), ex);
+        }
+    }
+    
+    @Override
+    public void delete(final String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (final IOException ex) {
+            throw new SyncTaskExecuteException(String.format("delete checkpoint %s error.", key), ex);
+        }
+    }
+    
+    private Path resolve(final String key) {
+        return rootPath.resolve(key.startsWith("/") ? key.substring(1) : key);
+    }
+    
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.resume;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.orchestration.center.RegistryCenterRepository;
+
+/**
+ * Registry center checkpoint store.
+ *
+ * <p>
+ * Registry center repository can not remove keys, so deleted checkpoint is persisted as empty value and read as absent.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class RegistryCenterCheckpointStore implements CheckpointStore {
+    
+    private final RegistryCenterRepository registryCenterRepository;
+    
+    @Override
+    public String get(final String key) {
+        String result = registryCenterRepository.get(key);
+        return Strings.isNullOrEmpty(result) ? null : result;
+    }
+    
+    @Override
+    public void persist(final String key, final String value) {
+        registryCenterRepository.persist(key, value);
+    }
+    
+    @Override
+    public void delete(final String key) {
+        if (null != registryCenterRepository.get(key)) {
+            registryCenterRepository.persist(key, "");
+        }
+    }
+    
+    @Override
+    public void close() {
+        registryCenterRepository.close();
+    }
+}
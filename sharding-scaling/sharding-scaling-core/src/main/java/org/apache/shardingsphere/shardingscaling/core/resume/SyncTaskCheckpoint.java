@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.resume;
+
+import com.google.common.base.Joiner;
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import org.apache.shardingsphere.shardingscaling.core.config.CheckpointConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.DataSourceConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.ScalingContext;
+import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.exception.SyncTaskExecuteException;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.LogPosition;
+import org.apache.shardingsphere.spi.database.metadata.DataSourceMetaData;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Sync task checkpoint, persists history data positions and realtime log position of one data source in one scaling job.
+ *
+ * <p>
+ * Checkpoints are stored under source data source and a hash of target data source and table names, which stay the same after restart,
+ * together with a fingerprint of sync configuration.
+ * Checkpoint with different fingerprint was persisted by other sync configuration of the same source and target, and is ignored.
+ * </p>
+ */
+public final class SyncTaskCheckpoint {
+    
+    private static final Gson GSON = new Gson();
+    
+    private static final String HISTORY_KEY = "history";
+    
+    private static final String REALTIME_KEY = "realtime";
+    
+    private static final String FINGERPRINT_KEY = "fingerprint";
+    
+    private static final String POSITION_CLASS = "class";
+    
+    private static final String POSITION_VALUE = "value";
+    
+    private final CheckpointStore checkpointStore;
+    
+    private final String rootKey;
+    
+    private final String fingerprint;
+    
+    private final long persistIntervalMillis;
+    
+    private volatile long lastPersistTimeMillis;
+    
+    private volatile boolean fingerprintPersisted;
+    
+    public SyncTaskCheckpoint(final SyncConfiguration syncConfiguration) {
+        this(ScalingContext.getInstance().getCheckpointStore(), syncConfiguration, getPersistIntervalMillis());
+    }
+    
+    public SyncTaskCheckpoint(final CheckpointStore checkpointStore, final SyncConfiguration syncConfiguration, final long persistIntervalMillis) {
+        this.checkpointStore = checkpointStore;
+        this.persistIntervalMillis = persistIntervalMillis;
+        String tables = null == syncConfiguration.getTableNameMap() ? "" : Joiner.on(',').withKeyValueSeparator("=").join(new TreeMap<>(syncConfiguration.getTableNameMap()));
+        String target = null == syncConfiguration.getWriterConfiguration().getDataSourceConfiguration()
+                ? "" : generateDataSourceKey(syncConfiguration.getWriterConfiguration().getDataSourceConfiguration());
+        rootKey = String.format("%s/%s", generateDataSourceKey(syncConfiguration.getReaderConfiguration().getDataSourceConfiguration()), hash(String.format("%s|%s", tables, target)));
+        fingerprint = hash(String.format("%s|%s|%d", tables, target, syncConfiguration.getReaderConfiguration().getShardingSize()));
+    }
+    
+    private static long getPersistIntervalMillis() {
+        if (null == ScalingContext.getInstance().getServerConfiguration()) {
+            return 0;
+        }
+        CheckpointConfiguration checkpointConfiguration = ScalingContext.getInstance().getServerConfiguration().getCheckpoint();
+        return null == checkpointConfiguration ? 0 : checkpointConfiguration.getPersistInterval();
+    }
+    
+    private static String generateDataSourceKey(final DataSourceConfiguration dataSourceConfiguration) {
+        DataSourceMetaData dataSourceMetaData = dataSourceConfiguration.getDataSourceMetaData();
+        return String.format("/%s-%s-%s", dataSourceMetaData.getHostName(), dataSourceMetaData.getPort(),
+                null != dataSourceMetaData.getCatalog() ? dataSourceMetaData.getCatalog() : dataSourceMetaData.getSchema());
+    }
+    
+    private static String hash(final String value) {
+        return Hashing.md5().hashString(value, StandardCharsets.UTF_8).toString();
+    }
+    
+    /**
+     * Load history data positions.
+     *
+     * @return history data positions, null if never persisted
+     */
+    public List<HistoryDataPosition> loadHistoryDataPositions() {
+        String value = isFingerprintMatched() ? checkpointStore.get(getKey(HISTORY_KEY)) : null;
+        return null == value ? null : GSON.<List<HistoryDataPosition>>fromJson(value, new TypeToken<List<HistoryDataPosition>>() { }.getType());
+    }
+    
+    /**
+     * Persist history data positions.
+     *
+     * @param historyDataPositions history data positions
+     */
+    public synchronized void persistHistoryDataPositions(final Collection<HistoryDataPosition> historyDataPositions) {
+        persistFingerprint();
+        checkpointStore.persist(getKey(HISTORY_KEY), GSON.toJson(historyDataPositions));
+    }
+    
+    /**
+     * Load realtime log position.
+     *
+     * @return realtime log position, null if never persisted
+     */
+    public LogPosition loadRealtimePosition() {
+        String value = isFingerprintMatched() ? checkpointStore.get(getKey(REALTIME_KEY)) : null;
+        if (null == value) {
+            return null;
+        }
+        JsonObject jsonObject = GSON.fromJson(value, JsonObject.class);
+        try {
+            return (LogPosition) GSON.fromJson(jsonObject.get(POSITION_VALUE), Class.forName(jsonObject.get(POSITION_CLASS).getAsString()));
+        } catch (final ClassNotFoundException ex) {
+            throw new SyncTaskExecuteException("load realtime position error.", ex);
+        }
+    }
+    
+    /**
+     * Persist realtime log position, skipped if last persistence is within persist interval.
+     *
+     * @param logPosition log position
+     * @param force persist regardless of persist interval
+     */
+    public void persistRealtimePosition(final LogPosition logPosition, final boolean force) {
+        long currentTimeMillis = System.currentTimeMillis();
+        if (!force && currentTimeMillis - lastPersistTimeMillis < persistIntervalMillis) {
+            return;
+        }
+        lastPersistTimeMillis = currentTimeMillis;
+        persistFingerprint();
+        JsonObject jsonObject = new JsonObject();
+        jsonObject.addProperty(POSITION_CLASS, logPosition.getClass().getName());
+        jsonObject.add(POSITION_VALUE, GSON.toJsonTree(logPosition));
+        checkpointStore.persist(getKey(REALTIME_KEY), GSON.toJson(jsonObject));
+    }
+    
+    /**
+     * Delete checkpoint, invoked when sync task is finished or stopped.
+     */
+    public synchronized void delete() {
+        checkpointStore.delete(getKey(HISTORY_KEY));
+        checkpointStore.delete(getKey(REALTIME_KEY));
+        checkpointStore.delete(getKey(FINGERPRINT_KEY));
+        fingerprintPersisted = false;
+    }
+    
+    private boolean isFingerprintMatched() {
+        return fingerprint.equals(checkpointStore.get(getKey(FINGERPRINT_KEY)));
+    }
+    
+    private synchronized void persistFingerprint() {
+        if (fingerprintPersisted) {
+            return;
+        }
+        if (!isFingerprintMatched()) {
+            checkpointStore.delete(getKey(HISTORY_KEY));
+            checkpointStore.delete(getKey(REALTIME_KEY));
+            checkpointStore.persist(getKey(FINGERPRINT_KEY), fingerprint);
+        }
+        fingerprintPersisted = true;
+    }
+    
+    private String getKey(final String name) {
+        return String.format("%s/%s", rootKey, name);
+    }
+}
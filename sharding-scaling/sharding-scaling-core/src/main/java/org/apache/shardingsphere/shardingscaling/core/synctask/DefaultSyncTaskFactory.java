@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingscaling.core.synctask;
 
 import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.resume.SyncTaskCheckpoint;
 import org.apache.shardingsphere.shardingscaling.core.synctask.history.HistoryDataSyncTask;
 import org.apache.shardingsphere.shardingscaling.core.synctask.history.HistoryDataSyncTaskGroup;
 import org.apache.shardingsphere.shardingscaling.core.synctask.realtime.RealtimeDataSyncTask;
@@ -29,8 +30,8 @@ import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManag
 public final class DefaultSyncTaskFactory implements SyncTaskFactory {
     
     @Override
-    public HistoryDataSyncTaskGroup createHistoryDataSyncTaskGroup(final SyncConfiguration syncConfiguration, final DataSourceManager dataSourceManager) {
-        return new HistoryDataSyncTaskGroup(syncConfiguration, dataSourceManager);
+    public HistoryDataSyncTaskGroup createHistoryDataSyncTaskGroup(final SyncConfiguration syncConfiguration, final SyncTaskCheckpoint syncTaskCheckpoint, final DataSourceManager dataSourceManager) {
+        return new HistoryDataSyncTaskGroup(syncConfiguration, syncTaskCheckpoint, dataSourceManager);
     }
     
     @Override
@@ -39,7 +40,7 @@ public final class DefaultSyncTaskFactory implements SyncTaskFactory {
     }
     
     @Override
-    public RealtimeDataSyncTask createRealtimeDataSyncTask(final SyncConfiguration syncConfiguration, final DataSourceManager dataSourceManager) {
-        return new RealtimeDataSyncTask(syncConfiguration, dataSourceManager);
+    public RealtimeDataSyncTask createRealtimeDataSyncTask(final SyncConfiguration syncConfiguration, final SyncTaskCheckpoint syncTaskCheckpoint, final DataSourceManager dataSourceManager) {
+        return new RealtimeDataSyncTask(syncConfiguration, syncTaskCheckpoint, dataSourceManager);
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingscaling.core.synctask;
 
 import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.resume.SyncTaskCheckpoint;
 import org.apache.shardingsphere.shardingscaling.core.synctask.history.HistoryDataSyncTask;
 import org.apache.shardingsphere.shardingscaling.core.synctask.history.HistoryDataSyncTaskGroup;
 import org.apache.shardingsphere.shardingscaling.core.synctask.realtime.RealtimeDataSyncTask;
@@ -32,10 +33,11 @@ public interface SyncTaskFactory {
      * Create history data sync task group.
      *
      * @param syncConfiguration sync configuration
+     * @param syncTaskCheckpoint sync task checkpoint
      * @param dataSourceManager  data source factory
      * @return history data sync task group
      */
-    HistoryDataSyncTaskGroup createHistoryDataSyncTaskGroup(SyncConfiguration syncConfiguration, DataSourceManager dataSourceManager);
+    HistoryDataSyncTaskGroup createHistoryDataSyncTaskGroup(SyncConfiguration syncConfiguration, SyncTaskCheckpoint syncTaskCheckpoint, DataSourceManager dataSourceManager);
     
     /**
      * Create history data sync task.
@@ -50,8 +52,9 @@ public interface SyncTaskFactory {
      * Create realtime data sync task.
      *
      * @param syncConfiguration sync configuration
+     * @param syncTaskCheckpoint sync task checkpoint
      * @param dataSourceManager  data source factory
      * @return realtime data sync task
      */
-    RealtimeDataSyncTask createRealtimeDataSyncTask(SyncConfiguration syncConfiguration, DataSourceManager dataSourceManager);
+    RealtimeDataSyncTask createRealtimeDataSyncTask(SyncConfiguration syncConfiguration, SyncTaskCheckpoint syncTaskCheckpoint, DataSourceManager dataSourceManager);
 }
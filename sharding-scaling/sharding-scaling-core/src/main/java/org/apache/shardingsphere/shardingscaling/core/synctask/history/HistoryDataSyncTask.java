@@ -59,6 +59,10 @@ public final class HistoryDataSyncTask implements SyncTask {
     
     private AtomicLong syncedRows = new AtomicLong();
     
+    private long startTimeMillis;
+    
+    private volatile long lastAckTimeMillis;
+    
     private Reader reader;
     
     public HistoryDataSyncTask(final SyncConfiguration syncConfiguration, final DataSourceManager dataSourceManager) {
@@ -67,7 +71,7 @@ public final class HistoryDataSyncTask implements SyncTask {
         syncTaskId = generateSyncTaskId(syncConfiguration.getReaderConfiguration());
     }
     
-    private String generateSyncTaskId(final RdbmsConfiguration readerConfiguration) {
+    static String generateSyncTaskId(final RdbmsConfiguration readerConfiguration) {
         DataSourceMetaData dataSourceMetaData = readerConfiguration.getDataSourceConfiguration().getDataSourceMetaData();
         String result = String.format("history-%s-%s", null != dataSourceMetaData.getCatalog() ? dataSourceMetaData.getCatalog() : dataSourceMetaData.getSchema(), readerConfiguration.getTableName());
         return null == readerConfiguration.getWhereCondition() ? result : result + "#" + readerConfiguration.getSpiltNum();
@@ -80,6 +84,8 @@ public final class HistoryDataSyncTask implements SyncTask {
     @Override
     public void start(final ReportCallback callback) {
         getEstimatedRows();
+        startTimeMillis = System.currentTimeMillis();
+        lastAckTimeMillis = startTimeMillis;
         SyncExecutorGroup syncExecutorGroup = new SyncExecutorGroup(new SyncTaskExecuteCallback(this.getClass().getSimpleName(), syncTaskId, callback));
         instanceSyncExecutors(syncExecutorGroup);
         ScalingContext.getInstance().getSyncTaskExecuteEngine().submitGroup(syncExecutorGroup);
@@ -120,6 +126,7 @@ public final class HistoryDataSyncTask implements SyncTask {
                 }
             }
             syncedRows.addAndGet(count);
+            lastAckTimeMillis = System.currentTimeMillis();
         });
     }
     
@@ -133,6 +140,11 @@ public final class HistoryDataSyncTask implements SyncTask {
     
     @Override
     public SyncProgress getProgress() {
-        return new HistoryDataSyncTaskProgress(syncTaskId, estimatedRows, syncedRows.get());
+        return new HistoryDataSyncTaskProgress(syncTaskId, estimatedRows, syncedRows.get(), getThroughput());
+    }
+    
+    private long getThroughput() {
+        long elapsedMillis = lastAckTimeMillis - startTimeMillis;
+        return 0 >= elapsedMillis ? 0 : syncedRows.get() * 1000 / elapsedMillis;
     }
 }
@@ -25,6 +25,8 @@ import org.apache.shardingsphere.shardingscaling.core.exception.SyncTaskExecuteE
 import org.apache.shardingsphere.shardingscaling.core.execute.Event;
 import org.apache.shardingsphere.shardingscaling.core.execute.EventType;
 import org.apache.shardingsphere.shardingscaling.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.shardingscaling.core.resume.HistoryDataPosition;
+import org.apache.shardingsphere.shardingscaling.core.resume.SyncTaskCheckpoint;
 import org.apache.shardingsphere.shardingscaling.core.synctask.DefaultSyncTaskFactory;
 import org.apache.shardingsphere.shardingscaling.core.synctask.SyncTask;
 import org.apache.shardingsphere.shardingscaling.core.synctask.SyncTaskFactory;
@@ -35,14 +37,17 @@ import org.apache.shardingsphere.spi.database.metadata.DataSourceMetaData;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.sql.DataSource;
+import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -53,6 +58,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 @Slf4j
 public final class HistoryDataSyncTaskGroup implements SyncTask {
     
+    private static final int MAX_RANGE_COUNT = 10000;
+    
     private final SyncConfiguration syncConfiguration;
     
     private final DataSourceManager dataSourceManager;
@@ -63,8 +70,15 @@ public final class HistoryDataSyncTaskGroup implements SyncTask {
     
     private final Queue<SyncTask> submitFailureTasks = new LinkedList<>();
     
-    public HistoryDataSyncTaskGroup(final SyncConfiguration syncConfiguration, final DataSourceManager dataSourceManager) {
+    private final SyncTaskCheckpoint syncTaskCheckpoint;
+    
+    private final Map<String, HistoryDataPosition> historyDataPositions = new LinkedHashMap<>();
+    
+    private volatile boolean stopped;
+    
+    public HistoryDataSyncTaskGroup(final SyncConfiguration syncConfiguration, final SyncTaskCheckpoint syncTaskCheckpoint, final DataSourceManager dataSourceManager) {
         this.syncConfiguration = syncConfiguration;
+        this.syncTaskCheckpoint = syncTaskCheckpoint;
         this.dataSourceManager = dataSourceManager;
         DataSourceMetaData dataSourceMetaData = syncConfiguration.getReaderConfiguration().getDataSourceConfiguration().getDataSourceMetaData();
         syncTaskId = String.format("historyGroup-%s", null != dataSourceMetaData.getCatalog() ? dataSourceMetaData.getCatalog() : dataSourceMetaData.getSchema());
@@ -72,15 +86,44 @@ public final class HistoryDataSyncTaskGroup implements SyncTask {
     
     @Override
     public void prepare() {
-        List<SyncConfiguration> tableSliceConfigurations = split(syncConfiguration);
+        List<SyncConfiguration> tableSliceConfigurations = loadOrSplit();
         SyncTaskFactory syncTaskFactory = new DefaultSyncTaskFactory();
         for (SyncConfiguration each : tableSliceConfigurations) {
+            if (historyDataPositions.get(HistoryDataSyncTask.generateSyncTaskId(each.getReaderConfiguration())).isFinished()) {
+                continue;
+            }
             SyncTask syncTask = syncTaskFactory.createHistoryDataSyncTask(each, dataSourceManager);
             syncTask.prepare();
             syncTasks.add(syncTask);
         }
     }
     
+    private List<SyncConfiguration> loadOrSplit() {
+        List<HistoryDataPosition> persistedPositions = syncTaskCheckpoint.loadHistoryDataPositions();
+        if (null == persistedPositions) {
+            List<SyncConfiguration> result = split(syncConfiguration);
+            for (SyncConfiguration each : result) {
+                RdbmsConfiguration readerConfiguration = each.getReaderConfiguration();
+                historyDataPositions.put(HistoryDataSyncTask.generateSyncTaskId(readerConfiguration),
+                        new HistoryDataPosition(readerConfiguration.getTableName(), readerConfiguration.getWhereCondition(), readerConfiguration.getSpiltNum(), false));
+            }
+            syncTaskCheckpoint.persistHistoryDataPositions(historyDataPositions.values());
+            return result;
+        }
+        log.info("Resume history data sync task group {} from {} persisted ranges", syncTaskId, persistedPositions.size());
+        List<SyncConfiguration> result = new LinkedList<>();
+        for (HistoryDataPosition each : persistedPositions) {
+            RdbmsConfiguration readerConfiguration = RdbmsConfiguration.clone(syncConfiguration.getReaderConfiguration());
+            readerConfiguration.setTableName(each.getTableName());
+            readerConfiguration.setWhereCondition(each.getWhereCondition());
+            readerConfiguration.setSpiltNum(each.getSpiltNum());
+            historyDataPositions.put(HistoryDataSyncTask.generateSyncTaskId(readerConfiguration), each);
+            result.add(new SyncConfiguration(syncConfiguration.getConcurrency(), syncConfiguration.getTableNameMap(),
+                    readerConfiguration, RdbmsConfiguration.clone(syncConfiguration.getWriterConfiguration())));
+        }
+        return result;
+    }
+    
     private List<SyncConfiguration> split(final SyncConfiguration syncConfiguration) {
         List<SyncConfiguration> result = new LinkedList<>();
         DataSource dataSource = dataSourceManager.getDataSource(syncConfiguration.getReaderConfiguration().getDataSourceConfiguration());
@@ -130,37 +173,51 @@ public final class HistoryDataSyncTaskGroup implements SyncTask {
     }
     
     private Collection<SyncConfiguration> splitByPrimaryKeyRange(final SyncConfiguration syncConfiguration, final MetaDataManager metaDataManager, final DataSource dataSource) {
-        int concurrency = syncConfiguration.getConcurrency();
         Collection<SyncConfiguration> result = new LinkedList<>();
         RdbmsConfiguration readerConfiguration = syncConfiguration.getReaderConfiguration();
         String primaryKey = metaDataManager.getTableMetaData(readerConfiguration.getTableName()).getPrimaryKeyColumns().get(0);
-        try (Connection connection = dataSource.getConnection()) {
-            PreparedStatement ps = connection.prepareStatement(String.format("SELECT MIN(%s),MAX(%s) FROM %s LIMIT 1", primaryKey, primaryKey, readerConfiguration.getTableName()));
-            ResultSet rs = ps.executeQuery();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(String.format("SELECT MIN(%s),MAX(%s),COUNT(*) FROM %s", primaryKey, primaryKey, readerConfiguration.getTableName()));
+             ResultSet rs = ps.executeQuery()) {
             rs.next();
-            int min = rs.getInt(1);
-            int max = rs.getInt(2);
-            int step = (max - min) / concurrency;
-            for (int i = 0; i < concurrency; i++) {
+            long min = rs.getLong(1);
+            if (rs.wasNull()) {
+                log.info("Skip split range for table {}, reason: table is empty", readerConfiguration.getTableName());
+                result.add(syncConfiguration);
+                return result;
+            }
+            BigInteger rangeMin = BigInteger.valueOf(min);
+            BigInteger max = BigInteger.valueOf(rs.getLong(2));
+            BigInteger span = max.subtract(rangeMin).add(BigInteger.ONE);
+            int rangeCount = calculateRangeCount(span, rs.getLong(3), syncConfiguration.getConcurrency(), readerConfiguration.getShardingSize());
+            BigInteger step = span.add(BigInteger.valueOf(rangeCount - 1)).divide(BigInteger.valueOf(rangeCount));
+            for (int i = 0; i < rangeCount && rangeMin.compareTo(max) <= 0; i++) {
+                BigInteger rangeMax = rangeMin.add(step).subtract(BigInteger.ONE).min(max);
                 RdbmsConfiguration splitReaderConfig = RdbmsConfiguration.clone(readerConfiguration);
-                if (i < concurrency - 1) {
-                    splitReaderConfig.setWhereCondition(String.format("WHERE %s BETWEEN %d AND %d", primaryKey, min, min + step));
-                    min = min + step + 1;
-                } else {
-                    splitReaderConfig.setWhereCondition(String.format("WHERE %s BETWEEN %d AND %d", primaryKey, min, max));
-                }
+                splitReaderConfig.setWhereCondition(String.format("WHERE %s BETWEEN %d AND %d", primaryKey, rangeMin, rangeMax));
                 splitReaderConfig.setSpiltNum(i);
-                result.add(new SyncConfiguration(concurrency, syncConfiguration.getTableNameMap(),
+                result.add(new SyncConfiguration(syncConfiguration.getConcurrency(), syncConfiguration.getTableNameMap(),
                         splitReaderConfig, RdbmsConfiguration.clone(syncConfiguration.getWriterConfiguration())));
+                rangeMin = rangeMax.add(BigInteger.ONE);
             }
         } catch (SQLException e) {
-            throw new RuntimeException("getTableNames error", e);
+            throw new SyncTaskExecuteException("split primary key range error.", e);
         }
         return result;
     }
     
+    private int calculateRangeCount(final BigInteger span, final long rowCount, final int concurrency, final long shardingSize) {
+        long result = Math.max(rowCount / shardingSize + (0 == rowCount % shardingSize ? 0 : 1), concurrency);
+        result = Math.min(result, MAX_RANGE_COUNT);
+        return span.compareTo(BigInteger.valueOf(result)) < 0 ? span.intValue() : (int) result;
+    }
+    
     @Override
     public void start(final ReportCallback callback) {
+        if (syncTasks.isEmpty()) {
+            callback.report(new Event(syncTaskId, EventType.FINISHED));
+            return;
+        }
         final AtomicInteger finishedTask = new AtomicInteger();
         for (final SyncTask each : syncTasks) {
             try {
@@ -169,6 +226,7 @@ public final class HistoryDataSyncTaskGroup implements SyncTask {
                     @Override
                     public void report(final Event event) {
                         if (EventType.FINISHED == event.getEventType()) {
+                            markFinished(event.getTaskId());
                             finishedTask.incrementAndGet();
                         } else {
                             callback.report(new Event(syncTaskId, EventType.EXCEPTION_EXIT));
@@ -191,8 +249,18 @@ public final class HistoryDataSyncTaskGroup implements SyncTask {
         }
     }
     
+    private void markFinished(final String taskId) {
+        HistoryDataPosition historyDataPosition = historyDataPositions.get(taskId);
+        // A stopped reader also reports finished, its range must be synchronized again on resume.
+        if (!stopped && null != historyDataPosition) {
+            historyDataPosition.setFinished(true);
+            syncTaskCheckpoint.persistHistoryDataPositions(historyDataPositions.values());
+        }
+    }
+    
     @Override
     public void stop() {
+        stopped = true;
         for (SyncTask each : syncTasks) {
             each.stop();
         }
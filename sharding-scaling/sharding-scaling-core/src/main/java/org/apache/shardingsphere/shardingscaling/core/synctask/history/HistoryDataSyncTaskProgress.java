@@ -33,4 +33,9 @@ public final class HistoryDataSyncTaskProgress implements SyncProgress {
     private final long estimatedRows;
     
     private final long syncedRows;
+    
+    /**
+     * Synced rows per second.
+     */
+    private final long throughput;
 }
@@ -35,4 +35,11 @@ public final class RealTimeDataSyncTaskProgress implements SyncProgress {
     private final long delayMillisecond;
     
     private final LogPosition logPosition;
+    
+    private final long syncedRows;
+    
+    /**
+     * Synced rows per second.
+     */
+    private final long throughput;
 }
@@ -26,18 +26,22 @@ import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManag
 import org.apache.shardingsphere.shardingscaling.core.execute.engine.SyncTaskExecuteCallback;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.SyncExecutorGroup;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.channel.DistributionChannel;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.LogPosition;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.LogPositionManager;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.LogPositionManagerFactory;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.reader.Reader;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.reader.ReaderFactory;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.DataRecord;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.writer.Writer;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.writer.WriterFactory;
+import org.apache.shardingsphere.shardingscaling.core.resume.SyncTaskCheckpoint;
 import org.apache.shardingsphere.shardingscaling.core.synctask.SyncTask;
 import org.apache.shardingsphere.spi.database.metadata.DataSourceMetaData;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Realtime data execute task.
@@ -51,14 +55,23 @@ public final class RealtimeDataSyncTask implements SyncTask {
     
     private final String syncTaskId;
     
+    private final AtomicLong syncedRows = new AtomicLong();
+    
+    private final SyncTaskCheckpoint syncTaskCheckpoint;
+    
     private LogPositionManager logPositionManager;
     
     private Reader reader;
     
     private long delayMillisecond;
     
-    public RealtimeDataSyncTask(final SyncConfiguration syncConfiguration, final DataSourceManager dataSourceManager) {
+    private long startTimeMillis;
+    
+    private volatile long lastAckTimeMillis;
+    
+    public RealtimeDataSyncTask(final SyncConfiguration syncConfiguration, final SyncTaskCheckpoint syncTaskCheckpoint, final DataSourceManager dataSourceManager) {
         this.syncConfiguration = syncConfiguration;
+        this.syncTaskCheckpoint = syncTaskCheckpoint;
         this.dataSourceManager = dataSourceManager;
         DataSourceMetaData dataSourceMetaData = syncConfiguration.getReaderConfiguration().getDataSourceConfiguration().getDataSourceMetaData();
         syncTaskId = String.format("realtime-%s", null != dataSourceMetaData.getCatalog() ? dataSourceMetaData.getCatalog() : dataSourceMetaData.getSchema());
@@ -67,7 +80,13 @@ public final class RealtimeDataSyncTask implements SyncTask {
     @Override
     public void prepare() {
         this.logPositionManager = instanceLogPositionManager();
-        logPositionManager.getCurrentPosition();
+        LogPosition resumedPosition = syncTaskCheckpoint.loadRealtimePosition();
+        if (null != resumedPosition) {
+            log.info("Resume realtime data sync task {} from position {}", syncTaskId, resumedPosition);
+            logPositionManager.updateCurrentPosition(resumedPosition);
+            return;
+        }
+        syncTaskCheckpoint.persistRealtimePosition(logPositionManager.getCurrentPosition(), true);
     }
     
     private LogPositionManager instanceLogPositionManager() {
@@ -79,6 +98,8 @@ public final class RealtimeDataSyncTask implements SyncTask {
     @Override
     public void start(final ReportCallback callback) {
         syncConfiguration.getReaderConfiguration().setTableNameMap(syncConfiguration.getTableNameMap());
+        startTimeMillis = System.currentTimeMillis();
+        lastAckTimeMillis = startTimeMillis;
         SyncExecutorGroup syncExecutorGroup = new SyncExecutorGroup(new SyncTaskExecuteCallback(this.getClass().getSimpleName(), syncTaskId, callback));
         instanceSyncExecutors(syncExecutorGroup);
         ScalingContext.getInstance().getSyncTaskExecuteEngine().submitGroup(syncExecutorGroup);
@@ -109,7 +130,16 @@ public final class RealtimeDataSyncTask implements SyncTask {
         return new DistributionChannel(writers.size(), records -> {
             Record lastHandledRecord = records.get(records.size() - 1);
             logPositionManager.updateCurrentPosition(lastHandledRecord.getLogPosition());
+            syncTaskCheckpoint.persistRealtimePosition(lastHandledRecord.getLogPosition(), false);
             delayMillisecond = System.currentTimeMillis() - lastHandledRecord.getCommitTime();
+            int count = 0;
+            for (Record each : records) {
+                if (DataRecord.class.equals(each.getClass())) {
+                    count++;
+                }
+            }
+            syncedRows.addAndGet(count);
+            lastAckTimeMillis = System.currentTimeMillis();
         });
     }
     
@@ -119,10 +149,18 @@ public final class RealtimeDataSyncTask implements SyncTask {
             reader.stop();
             reader = null;
         }
+        if (null != logPositionManager) {
+            syncTaskCheckpoint.persistRealtimePosition(logPositionManager.getCurrentPosition(), true);
+        }
     }
     
     @Override
     public SyncProgress getProgress() {
-        return new RealTimeDataSyncTaskProgress(syncTaskId, delayMillisecond, logPositionManager.getCurrentPosition());
+        return new RealTimeDataSyncTaskProgress(syncTaskId, delayMillisecond, logPositionManager.getCurrentPosition(), syncedRows.get(), getThroughput());
+    }
+    
+    private long getThroughput() {
+        long elapsedMillis = lastAckTimeMillis - startTimeMillis;
+        return 0 >= elapsedMillis ? 0 : syncedRows.get() * 1000 / elapsedMillis;
     }
 }
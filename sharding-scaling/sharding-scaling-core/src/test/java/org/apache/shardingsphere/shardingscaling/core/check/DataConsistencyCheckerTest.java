@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.check;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.shardingscaling.core.config.JDBCDataSourceConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.RdbmsConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataConsistencyCheckerTest {
+    
+    private static final String SOURCE_URL = "jdbc:h2:mem:check_source_db;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    private static final String TARGET_URL = "jdbc:h2:mem:check_target_db;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    private List<SyncConfiguration> syncConfigurations;
+    
+    private DataSourceManager dataSourceManager;
+    
+    @Before
+    public void setUp() {
+        RdbmsConfiguration readerConfiguration = new RdbmsConfiguration();
+        readerConfiguration.setDataSourceConfiguration(new JDBCDataSourceConfiguration(SOURCE_URL, "root", "password"));
+        RdbmsConfiguration writerConfiguration = new RdbmsConfiguration();
+        writerConfiguration.setDataSourceConfiguration(new JDBCDataSourceConfiguration(TARGET_URL, "root", "password"));
+        Map<String, String> tableNameMap = new HashMap<>();
+        tableNameMap.put("t_order_0", "t_order");
+        tableNameMap.put("t_order_1", "t_order");
+        syncConfigurations = Collections.singletonList(new SyncConfiguration(2, tableNameMap, readerConfiguration, writerConfiguration));
+        dataSourceManager = new DataSourceManager(syncConfigurations);
+        execute(readerConfiguration, "DROP TABLE IF EXISTS t_order_0", "DROP TABLE IF EXISTS t_order_1",
+                "CREATE TABLE t_order_0 (id INT PRIMARY KEY, user_id VARCHAR(12))", "CREATE TABLE t_order_1 (id INT PRIMARY KEY, user_id VARCHAR(12))",
+                "INSERT INTO t_order_0 (id, user_id) VALUES (2, 'a'), (4, 'b'), (16, 'c')", "INSERT INTO t_order_1 (id, user_id) VALUES (1, 'd'), (13, 'e')");
+        execute(writerConfiguration, "DROP TABLE IF EXISTS t_order", "CREATE TABLE t_order (id INT PRIMARY KEY, user_id VARCHAR(12))",
+                "INSERT INTO t_order (id, user_id) VALUES (1, 'd'), (2, 'a'), (4, 'b'), (13, 'e'), (16, 'c')");
+    }
+    
+    @After
+    public void tearDown() {
+        dataSourceManager.close();
+    }
+    
+    @Test
+    public void assertCheckConsistent() {
+        Collection<DataConsistencyCheckResult> actual = new DataConsistencyChecker(syncConfigurations, 5, 10000).check();
+        assertThat(actual.size(), is(1));
+        DataConsistencyCheckResult result = actual.iterator().next();
+        assertThat(result.getTableName(), is("t_order"));
+        assertThat(result.getSourceCount(), is(5L));
+        assertThat(result.getTargetCount(), is(5L));
+        assertTrue(result.isConsistent());
+    }
+    
+    @Test
+    public void assertCheckMismatchedRange() {
+        execute(syncConfigurations.get(0).getWriterConfiguration(), "UPDATE t_order SET user_id = 'x' WHERE id = 13");
+        Collection<DataConsistencyCheckResult> actual = new DataConsistencyChecker(syncConfigurations, 2, 10000).check();
+        DataConsistencyCheckResult result = actual.iterator().next();
+        assertFalse(result.isConsistent());
+        assertThat(result.getSourceCount(), is(result.getTargetCount()));
+        assertThat(result.getMismatchedRanges(), is(Collections.singletonList("id BETWEEN 13 AND 16")));
+    }
+    
+    @Test
+    public void assertCheckMissingRow() {
+        execute(syncConfigurations.get(0).getWriterConfiguration(), "DELETE FROM t_order WHERE id = 2");
+        DataConsistencyCheckResult result = new DataConsistencyChecker(syncConfigurations, 2, 10000).check().iterator().next();
+        assertFalse(result.isConsistent());
+        assertThat(result.getTargetCount(), is(4L));
+        assertThat(result.getMismatchedRanges(), is(Collections.singletonList("id BETWEEN 1 AND 6")));
+    }
+    
+    @Test
+    public void assertCheckSparsePrimaryKey() {
+        execute(syncConfigurations.get(0).getReaderConfiguration(), "INSERT INTO t_order_0 (id, user_id) VALUES (2147483647, 'f')");
+        execute(syncConfigurations.get(0).getWriterConfiguration(), "INSERT INTO t_order (id, user_id) VALUES (2147483647, 'x')");
+        DataConsistencyCheckResult result = new DataConsistencyChecker(syncConfigurations, 1, 10000).check().iterator().next();
+        assertFalse(result.isConsistent());
+        assertThat(result.getSourceCount(), is(6L));
+        assertThat(result.getMismatchedRanges(), is(Collections.singletonList("id BETWEEN 1789569711 AND 2147483647")));
+    }
+    
+    @SneakyThrows
+    private void execute(final RdbmsConfiguration rdbmsConfiguration, final String... sqls) {
+        try (Connection connection = dataSourceManager.getDataSource(rdbmsConfiguration.getDataSourceConfiguration()).getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String each : sqls) {
+                statement.execute(each);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.controller;
+
+import org.apache.shardingsphere.shardingscaling.core.ShardingScalingJob;
+import org.apache.shardingsphere.shardingscaling.core.check.DataConsistencyCheckProgress;
+import org.apache.shardingsphere.shardingscaling.core.exception.ScalingJobNotFoundException;
+import org.apache.shardingsphere.shardingscaling.core.util.ReflectionUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class ScalingJobControllerTest {
+    
+    private ScalingJobController scalingJobController;
+    
+    private ShardingScalingJob shardingScalingJob;
+    
+    @Before
+    public void setUp() {
+        scalingJobController = new ScalingJobController();
+        shardingScalingJob = new ShardingScalingJob("test_job");
+        scalingJobController.start(shardingScalingJob);
+    }
+    
+    @Test(expected = ScalingJobNotFoundException.class)
+    public void assertCheckWithUnknownJob() {
+        scalingJobController.check(-1);
+    }
+    
+    @Test
+    public void assertCheckFailure() throws InterruptedException {
+        DataConsistencyCheckProgress actual = scalingJobController.check(shardingScalingJob.getJobId());
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (actual.isRunning() && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertThat(actual.getStatus(), is("FAILURE"));
+        assertThat(scalingJobController.getCheckProgress(shardingScalingJob.getJobId()), sameInstance(actual));
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertCheckWhileRunning() throws NoSuchFieldException, IllegalAccessException {
+        DataConsistencyCheckProgress runningProgress = new DataConsistencyCheckProgress();
+        ReflectionUtil.getFieldValueFromClass(scalingJobController, "checkProgressMap", Map.class).put(shardingScalingJob.getJobId(), runningProgress);
+        assertThat(scalingJobController.check(shardingScalingJob.getJobId()), sameInstance(runningProgress));
+        assertThat(runningProgress.getStatus(), is("RUNNING"));
+    }
+}
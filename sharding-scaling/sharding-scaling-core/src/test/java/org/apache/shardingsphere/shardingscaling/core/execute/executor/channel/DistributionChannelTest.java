@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.channel;
+
+import org.apache.shardingsphere.shardingscaling.core.config.ScalingContext;
+import org.apache.shardingsphere.shardingscaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.NopLogPosition;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Column;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.PlaceholderRecord;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DistributionChannelTest {
+    
+    private final List<Record> acknowledgedRecords = new CopyOnWriteArrayList<>();
+    
+    private final ExecutorService anotherWriter = Executors.newSingleThreadExecutor();
+    
+    private DistributionChannel distributionChannel;
+    
+    @Before
+    public void setUp() {
+        ScalingContext.getInstance().init(new ServerConfiguration());
+        distributionChannel = new DistributionChannel(2, acknowledgedRecords::addAll);
+    }
+    
+    @After
+    public void tearDown() {
+        anotherWriter.shutdownNow();
+    }
+    
+    @Test
+    public void assertRecordsOfSamePrimaryKeyGoToSameChannel() throws Exception {
+        distributionChannel.pushRecord(createDataRecord("INSERT", 1, false));
+        distributionChannel.pushRecord(createDataRecord("UPDATE", 1, false));
+        distributionChannel.pushRecord(createDataRecord("DELETE", 1, false));
+        List<Record> actual = distributionChannel.fetchRecords(100, 0);
+        if (actual.isEmpty()) {
+            actual = anotherWriter.submit(() -> distributionChannel.fetchRecords(100, 0)).get();
+        }
+        assertThat(actual.size(), is(3));
+        assertThat(((DataRecord) actual.get(0)).getType(), is("INSERT"));
+        assertThat(((DataRecord) actual.get(2)).getType(), is("DELETE"));
+    }
+    
+    @Test
+    public void assertRecordsOfDifferentPrimaryKeysGoToDifferentChannels() throws Exception {
+        distributionChannel.pushRecord(createDataRecord("INSERT", 1, false));
+        distributionChannel.pushRecord(createDataRecord("INSERT", 2, false));
+        assertThat(distributionChannel.fetchRecords(100, 0).size(), is(1));
+        assertThat(anotherWriter.submit(() -> distributionChannel.fetchRecords(100, 0)).get().size(), is(1));
+    }
+    
+    @Test
+    public void assertAckOnlyAfterAllPreviousRecordsAcknowledged() throws Exception {
+        DataRecord first = createDataRecord("INSERT", 1, false);
+        DataRecord second = createDataRecord("INSERT", 2, false);
+        PlaceholderRecord placeholder = new PlaceholderRecord(new NopLogPosition());
+        distributionChannel.pushRecord(first);
+        distributionChannel.pushRecord(second);
+        distributionChannel.pushRecord(placeholder);
+        List<Record> fetched = distributionChannel.fetchRecords(100, 0);
+        boolean firstFetchedByAnotherWriter = second == fetched.get(0);
+        Future<?> anotherWriterFetched = anotherWriter.submit(() -> distributionChannel.fetchRecords(100, 0));
+        anotherWriterFetched.get();
+        if (firstFetchedByAnotherWriter) {
+            distributionChannel.ack();
+            assertTrue(acknowledgedRecords.isEmpty());
+            anotherWriter.submit(() -> distributionChannel.ack()).get();
+        } else {
+            anotherWriter.submit(() -> distributionChannel.ack()).get();
+            assertTrue(acknowledgedRecords.isEmpty());
+            distributionChannel.ack();
+        }
+        assertThat(acknowledgedRecords.size(), is(3));
+        assertThat(acknowledgedRecords.get(0), sameInstance((Record) first));
+        assertThat(acknowledgedRecords.get(1), sameInstance((Record) second));
+        assertThat(acknowledgedRecords.get(2), sameInstance((Record) placeholder));
+    }
+    
+    @Test
+    public void assertPrimaryKeyChangedRecordWaitForPreviousRecords() throws Exception {
+        distributionChannel.pushRecord(createDataRecord("INSERT", 1, false));
+        Future<?> pushed = anotherWriter.submit(() -> {
+            distributionChannel.pushRecord(createDataRecord("UPDATE", 2, true));
+            return null;
+        });
+        Thread.sleep(100);
+        assertFalse(pushed.isDone());
+        List<Record> fetched = distributionChannel.fetchRecords(100, 0);
+        if (fetched.isEmpty()) {
+            Thread writer = new Thread(() -> {
+                distributionChannel.fetchRecords(100, 0);
+                distributionChannel.ack();
+            });
+            writer.start();
+            writer.join();
+        } else {
+            distributionChannel.ack();
+        }
+        pushed.get();
+        assertThat(acknowledgedRecords.size(), is(1));
+    }
+    
+    private DataRecord createDataRecord(final String type, final int id, final boolean primaryKeyUpdated) {
+        DataRecord result = new DataRecord(new NopLogPosition(), 2);
+        result.setType(type);
+        result.setTableName("t_order");
+        result.addColumn(new Column("id", id, primaryKeyUpdated, true));
+        result.addColumn(new Column("user_id", id, true, false));
+        return result;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.channel;
+
+import org.apache.shardingsphere.shardingscaling.core.config.ScalingContext;
+import org.apache.shardingsphere.shardingscaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.NopLogPosition;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.FinishedRecord;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MemoryChannelTest {
+    
+    private final List<Record> acknowledgedRecords = new LinkedList<>();
+    
+    private MemoryChannel memoryChannel;
+    
+    @Before
+    public void setUp() {
+        ScalingContext.getInstance().init(new ServerConfiguration());
+        memoryChannel = new MemoryChannel(acknowledgedRecords::addAll);
+    }
+    
+    @Test
+    public void assertFetchRecordsWhenBatchSizeReached() throws InterruptedException {
+        memoryChannel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+        memoryChannel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+        memoryChannel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+        assertThat(memoryChannel.fetchRecords(2, 10).size(), is(2));
+        assertThat(memoryChannel.fetchRecords(2, 0).size(), is(1));
+    }
+    
+    @Test
+    public void assertFetchRecordsReturnImmediatelyWhenFinished() throws InterruptedException {
+        memoryChannel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+        memoryChannel.pushRecord(new FinishedRecord(new NopLogPosition()));
+        long startTime = System.currentTimeMillis();
+        List<Record> actual = memoryChannel.fetchRecords(100, 10);
+        assertTrue(System.currentTimeMillis() - startTime < 5000);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(1), instanceOf(FinishedRecord.class));
+    }
+    
+    @Test
+    public void assertFetchRecordsReturnWithoutWaitingForBatchSize() throws InterruptedException {
+        memoryChannel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+        long startTime = System.currentTimeMillis();
+        List<Record> actual = memoryChannel.fetchRecords(100, 10);
+        assertTrue(System.currentTimeMillis() - startTime < 1000);
+        assertThat(actual.size(), is(1));
+    }
+    
+    @Test
+    public void assertFetchRecordsWakeUpWhenRecordPushed() throws InterruptedException {
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                memoryChannel.pushRecord(new FinishedRecord(new NopLogPosition()));
+            } catch (final InterruptedException ignored) {
+            }
+        });
+        producer.start();
+        long startTime = System.currentTimeMillis();
+        List<Record> actual = memoryChannel.fetchRecords(100, 10);
+        assertTrue(System.currentTimeMillis() - startTime < 5000);
+        assertThat(actual.size(), is(1));
+        producer.join();
+    }
+    
+    @Test
+    public void assertAck() throws InterruptedException {
+        memoryChannel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+        memoryChannel.fetchRecords(1, 0);
+        memoryChannel.ack();
+        assertThat(acknowledgedRecords.size(), is(1));
+    }
+}
@@ -32,13 +32,17 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import javax.sql.DataSource;
 
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,12 +100,40 @@ public final class AbstractJDBCWriterTest {
         DataRecord insertRecord = getDataRecord("INSERT");
         when(sqlBuilder.buildInsertSQL(insertRecord)).thenReturn(INSERT_SQL);
         when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
-        when(channel.fetchRecords(100, 3)).thenReturn(mockRecords(insertRecord));
+        when(channel.fetchRecords(1000, 3)).thenReturn(mockRecords(insertRecord));
         jdbcWriter.run();
         verify(preparedStatement).setObject(1, 1);
         verify(preparedStatement).setObject(2, 10);
         verify(preparedStatement).setObject(3, "INSERT");
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    public void assertWriteConsecutiveInsertDataRecordsInOneBatch() throws SQLException {
+        DataRecord insertRecord1 = getDataRecord("INSERT");
+        DataRecord insertRecord2 = getDataRecord("INSERT");
+        when(sqlBuilder.buildInsertSQL(insertRecord1)).thenReturn(INSERT_SQL);
+        when(sqlBuilder.buildInsertSQL(insertRecord2)).thenReturn(INSERT_SQL);
+        when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
+        when(channel.fetchRecords(1000, 3)).thenReturn(mockRecords(insertRecord1, insertRecord2));
+        jdbcWriter.run();
+        verify(connection).prepareStatement(INSERT_SQL);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    public void assertWriteInsertDataRecordRetryOneByOneWhenBatchFailed() throws SQLException {
+        DataRecord insertRecord = getDataRecord("INSERT");
+        when(sqlBuilder.buildInsertSQL(insertRecord)).thenReturn(INSERT_SQL);
+        when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenThrow(new BatchUpdateException());
+        when(preparedStatement.execute()).thenThrow(new SQLIntegrityConstraintViolationException());
+        when(channel.fetchRecords(1000, 3)).thenReturn(mockRecords(insertRecord));
+        jdbcWriter.run();
         verify(preparedStatement).execute();
+        verify(connection).commit();
     }
     
     @Test
@@ -109,10 +141,11 @@ public final class AbstractJDBCWriterTest {
         DataRecord deleteRecord = getDataRecord("DELETE");
         when(sqlBuilder.buildDeleteSQL(deleteRecord)).thenReturn(DELETE_SQL);
         when(connection.prepareStatement(DELETE_SQL)).thenReturn(preparedStatement);
-        when(channel.fetchRecords(100, 3)).thenReturn(mockRecords(deleteRecord));
+        when(channel.fetchRecords(1000, 3)).thenReturn(mockRecords(deleteRecord));
         jdbcWriter.run();
         verify(preparedStatement).setObject(1, 1);
-        verify(preparedStatement).execute();
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
     }
     
     @Test
@@ -120,17 +153,17 @@ public final class AbstractJDBCWriterTest {
         DataRecord updateRecord = getDataRecord("UPDATE");
         when(sqlBuilder.buildUpdateSQL(updateRecord)).thenReturn(UPDATE_SQL);
         when(connection.prepareStatement(UPDATE_SQL)).thenReturn(preparedStatement);
-        when(channel.fetchRecords(100, 3)).thenReturn(mockRecords(updateRecord));
+        when(channel.fetchRecords(1000, 3)).thenReturn(mockRecords(updateRecord));
         jdbcWriter.run();
         verify(preparedStatement).setObject(1, 10);
         verify(preparedStatement).setObject(2, "UPDATE");
         verify(preparedStatement).setObject(3, 1);
-        verify(preparedStatement).execute();
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
     }
     
-    private List<Record> mockRecords(final DataRecord dataRecord) {
-        List<Record> result = new LinkedList<>();
-        result.add(dataRecord);
+    private List<Record> mockRecords(final DataRecord... dataRecords) {
+        List<Record> result = new LinkedList<>(Arrays.asList(dataRecords));
         result.add(new FinishedRecord(new NopLogPosition()));
         return result;
     }
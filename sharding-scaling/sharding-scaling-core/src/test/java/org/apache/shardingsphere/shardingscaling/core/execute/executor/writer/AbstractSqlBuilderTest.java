@@ -60,6 +60,18 @@ public class AbstractSqlBuilderTest {
         assertThat(actual, is("UPDATE `t2` SET `c1` = ?,`c2` = ?,`c3` = ? WHERE `id` = ?"));
     }
     
+    @Test
+    public void assertBuildUpdateSqlWithDifferentUpdatedColumns() {
+        DataRecord dataRecord = new DataRecord(new NopLogPosition(), 4);
+        dataRecord.setTableName("t2");
+        dataRecord.addColumn(new Column("id", "", false, true));
+        dataRecord.addColumn(new Column("c1", "", false, false));
+        dataRecord.addColumn(new Column("c2", "", true, false));
+        dataRecord.addColumn(new Column("c3", "", false, false));
+        sqlBuilder.buildUpdateSQL(mockDataRecord("t2"));
+        assertThat(sqlBuilder.buildUpdateSQL(dataRecord), is("UPDATE `t2` SET `c2` = ? WHERE `id` = ?"));
+    }
+    
     @Test
     public void assertBuildDeleteSql() {
         String actual = sqlBuilder.buildDeleteSQL(mockDataRecord("t3"));
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.resume;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class FileSystemCheckpointStoreTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private FileSystemCheckpointStore checkpointStore;
+    
+    @Before
+    public void setUp() {
+        checkpointStore = new FileSystemCheckpointStore(temporaryFolder.getRoot().getAbsolutePath());
+    }
+    
+    @Test
+    public void assertGetAbsentKey() {
+        assertNull(checkpointStore.get("/absent/key"));
+    }
+    
+    @Test
+    public void assertPersistAndGet() {
+        checkpointStore.persist("/test_db/history", "value");
+        assertThat(checkpointStore.get("/test_db/history"), is("value"));
+    }
+    
+    @Test
+    public void assertPersistOverwrite() {
+        checkpointStore.persist("/test_db/realtime", "old");
+        checkpointStore.persist("/test_db/realtime", "new");
+        assertThat(checkpointStore.get("/test_db/realtime"), is("new"));
+        assertThat(temporaryFolder.getRoot().toPath().resolve("test_db").toFile().list().length, is(1));
+    }
+    
+    @Test
+    public void assertDelete() {
+        checkpointStore.persist("/test_db/history", "value");
+        checkpointStore.delete("/test_db/history");
+        assertNull(checkpointStore.get("/test_db/history"));
+        checkpointStore.delete("/test_db/history");
+    }
+}
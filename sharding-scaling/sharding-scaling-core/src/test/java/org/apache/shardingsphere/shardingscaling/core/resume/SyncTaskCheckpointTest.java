@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.resume;
+
+import org.apache.shardingsphere.shardingscaling.core.config.JDBCDataSourceConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.RdbmsConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.LogPosition;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.NopLogPosition;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SyncTaskCheckpointTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private FileSystemCheckpointStore checkpointStore;
+    
+    private SyncConfiguration syncConfiguration;
+    
+    @Before
+    public void setUp() {
+        checkpointStore = new FileSystemCheckpointStore(temporaryFolder.getRoot().getAbsolutePath());
+        syncConfiguration = createSyncConfiguration(10000, "target_db");
+    }
+    
+    private SyncConfiguration createSyncConfiguration(final long shardingSize, final String targetDatabaseName) {
+        RdbmsConfiguration readerConfig = new RdbmsConfiguration();
+        readerConfig.setDataSourceConfiguration(new JDBCDataSourceConfiguration("jdbc:h2:mem:test_db;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", "root", "password"));
+        readerConfig.setShardingSize(shardingSize);
+        RdbmsConfiguration writerConfig = new RdbmsConfiguration();
+        writerConfig.setDataSourceConfiguration(new JDBCDataSourceConfiguration("jdbc:h2:mem:" + targetDatabaseName + ";DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", "root", "password"));
+        return new SyncConfiguration(3, Collections.singletonMap("t_order", "t_order"), readerConfig, writerConfig);
+    }
+    
+    @Test
+    public void assertLoadWithoutCheckpoint() {
+        SyncTaskCheckpoint syncTaskCheckpoint = new SyncTaskCheckpoint(checkpointStore, syncConfiguration, 0);
+        assertNull(syncTaskCheckpoint.loadHistoryDataPositions());
+        assertNull(syncTaskCheckpoint.loadRealtimePosition());
+    }
+    
+    @Test
+    public void assertPersistAndLoadHistoryDataPositions() {
+        SyncTaskCheckpoint syncTaskCheckpoint = new SyncTaskCheckpoint(checkpointStore, syncConfiguration, 0);
+        syncTaskCheckpoint.persistHistoryDataPositions(Collections.singletonList(new HistoryDataPosition("t_order", "WHERE id BETWEEN 1 AND 10", 0, true)));
+        List<HistoryDataPosition> actual = new SyncTaskCheckpoint(checkpointStore, syncConfiguration, 0).loadHistoryDataPositions();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getTableName(), is("t_order"));
+        assertThat(actual.get(0).getWhereCondition(), is("WHERE id BETWEEN 1 AND 10"));
+        assertThat(actual.get(0).getSpiltNum(), is(0));
+        assertTrue(actual.get(0).isFinished());
+    }
+    
+    @Test
+    public void assertPersistAndLoadRealtimePosition() {
+        SyncTaskCheckpoint syncTaskCheckpoint = new SyncTaskCheckpoint(checkpointStore, syncConfiguration, 0);
+        syncTaskCheckpoint.persistRealtimePosition(new NopLogPosition(), false);
+        LogPosition actual = new SyncTaskCheckpoint(checkpointStore, syncConfiguration, 0).loadRealtimePosition();
+        assertThat(actual, instanceOf(NopLogPosition.class));
+    }
+    
+    @Test
+    public void assertPersistRealtimePositionWithinInterval() {
+        SyncTaskCheckpoint syncTaskCheckpoint = new SyncTaskCheckpoint(checkpointStore, syncConfiguration, 60000);
+        syncTaskCheckpoint.persistRealtimePosition(new NopLogPosition(), true);
+        syncTaskCheckpoint.persistRealtimePosition(null, false);
+        assertThat(syncTaskCheckpoint.loadRealtimePosition(), instanceOf(NopLogPosition.class));
+    }
+    
+    @Test
+    public void assertLoadAfterRestartWithJobsSubmittedInReverseOrder() {
+        SyncConfiguration otherSyncConfiguration = createSyncConfiguration(10000, "other_target_db");
+        new SyncTaskCheckpoint(checkpointStore, syncConfiguration, 0).persistRealtimePosition(new NopLogPosition(), true);
+        new SyncTaskCheckpoint(checkpointStore, otherSyncConfiguration, 0).persistHistoryDataPositions(
+                Collections.singletonList(new HistoryDataPosition("t_order", "WHERE id BETWEEN 1 AND 10", 0, true)));
+        SyncTaskCheckpoint restartedOtherSyncTaskCheckpoint = new SyncTaskCheckpoint(checkpointStore, otherSyncConfiguration, 0);
+        restartedOtherSyncTaskCheckpoint.persistRealtimePosition(new NopLogPosition(), true);
+        SyncTaskCheckpoint restartedSyncTaskCheckpoint = new SyncTaskCheckpoint(checkpointStore, syncConfiguration, 0);
+        restartedSyncTaskCheckpoint.persistHistoryDataPositions(Collections.emptyList());
+        assertThat(restartedSyncTaskCheckpoint.loadRealtimePosition(), instanceOf(NopLogPosition.class));
+        assertTrue(restartedSyncTaskCheckpoint.loadHistoryDataPositions().isEmpty());
+        assertThat(restartedOtherSyncTaskCheckpoint.loadRealtimePosition(), instanceOf(NopLogPosition.class));
+        assertThat(restartedOtherSyncTaskCheckpoint.loadHistoryDataPositions().size(), is(1));
+    }
+    
+    @Test
+    public void assertLoadWithMismatchedFingerprint() {
+        SyncTaskCheckpoint syncTaskCheckpoint = new SyncTaskCheckpoint(checkpointStore, syncConfiguration, 0);
+        syncTaskCheckpoint.persistRealtimePosition(new NopLogPosition(), true);
+        syncTaskCheckpoint.persistHistoryDataPositions(Collections.singletonList(new HistoryDataPosition("t_order", "WHERE id BETWEEN 1 AND 10", 0, true)));
+        SyncTaskCheckpoint changedSyncTaskCheckpoint = new SyncTaskCheckpoint(checkpointStore, createSyncConfiguration(100, "target_db"), 0);
+        assertNull(changedSyncTaskCheckpoint.loadRealtimePosition());
+        assertNull(changedSyncTaskCheckpoint.loadHistoryDataPositions());
+        changedSyncTaskCheckpoint.persistRealtimePosition(new NopLogPosition(), true);
+        assertNull(changedSyncTaskCheckpoint.loadHistoryDataPositions());
+    }
+    
+    @Test
+    public void assertDelete() {
+        SyncTaskCheckpoint syncTaskCheckpoint = new SyncTaskCheckpoint(checkpointStore, syncConfiguration, 0);
+        syncTaskCheckpoint.persistRealtimePosition(new NopLogPosition(), true);
+        syncTaskCheckpoint.persistHistoryDataPositions(Collections.singletonList(new HistoryDataPosition("t_order", "WHERE id BETWEEN 1 AND 10", 0, true)));
+        syncTaskCheckpoint.delete();
+        assertNull(syncTaskCheckpoint.loadRealtimePosition());
+        assertNull(syncTaskCheckpoint.loadHistoryDataPositions());
+    }
+}
@@ -25,11 +25,18 @@ import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.controller.SyncProgress;
 import org.apache.shardingsphere.shardingscaling.core.controller.task.ReportCallback;
 import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManager;
+import org.apache.shardingsphere.shardingscaling.core.execute.EventType;
+import org.apache.shardingsphere.shardingscaling.core.resume.FileSystemCheckpointStore;
+import org.apache.shardingsphere.shardingscaling.core.resume.HistoryDataPosition;
+import org.apache.shardingsphere.shardingscaling.core.resume.NopCheckpointStore;
+import org.apache.shardingsphere.shardingscaling.core.resume.SyncTaskCheckpoint;
 import org.apache.shardingsphere.shardingscaling.core.synctask.SyncTask;
 import org.apache.shardingsphere.shardingscaling.core.util.ReflectionUtil;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -38,6 +45,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -55,10 +63,15 @@ public final class HistoryDataSyncTaskGroupTest {
     
     private static String password = "password";
     
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
     private SyncConfiguration syncConfiguration;
     
     private DataSourceManager dataSourceManager;
     
+    private SyncTaskCheckpoint nopSyncTaskCheckpoint;
+    
     @Before
     public void setUp() {
         RdbmsConfiguration readerConfig = mockReaderConfig();
@@ -68,6 +81,7 @@ public final class HistoryDataSyncTaskGroupTest {
         syncConfiguration = new SyncConfiguration(3, tableMap,
                 readerConfig, writerConfig);
         dataSourceManager = new DataSourceManager();
+        nopSyncTaskCheckpoint = new SyncTaskCheckpoint(new NopCheckpointStore(), syncConfiguration, 0);
     }
     
     @After
@@ -78,17 +92,77 @@ public final class HistoryDataSyncTaskGroupTest {
     @Test
     public void assertPrepareWithIntPrimaryRangeSplit() throws NoSuchFieldException, IllegalAccessException {
         initIntPrimaryEnvironment(syncConfiguration.getReaderConfiguration());
-        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, dataSourceManager);
+        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, nopSyncTaskCheckpoint, dataSourceManager);
+        historyDataSyncTaskGroup.prepare();
+        List<SyncTask> syncTasks = ReflectionUtil.getFieldValueFromClass(historyDataSyncTaskGroup, "syncTasks", List.class);
+        assertNotNull(syncTasks);
+        assertThat(syncTasks.size(), is(3));
+    }
+    
+    @Test
+    public void assertPrepareWithIntPrimaryRangeSplitByShardingSize() throws NoSuchFieldException, IllegalAccessException {
+        initThousandRowsIntPrimaryEnvironment(syncConfiguration.getReaderConfiguration());
+        syncConfiguration.getReaderConfiguration().setShardingSize(100);
+        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, nopSyncTaskCheckpoint, dataSourceManager);
+        historyDataSyncTaskGroup.prepare();
+        List<SyncTask> syncTasks = ReflectionUtil.getFieldValueFromClass(historyDataSyncTaskGroup, "syncTasks", List.class);
+        assertNotNull(syncTasks);
+        assertThat(syncTasks.size(), is(10));
+    }
+    
+    @Test
+    public void assertPrepareWithSparsePrimaryRangeSplitBoundedByRowCount() throws NoSuchFieldException, IllegalAccessException {
+        initIntPrimaryEnvironment(syncConfiguration.getReaderConfiguration());
+        syncConfiguration.getReaderConfiguration().setShardingSize(1);
+        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, nopSyncTaskCheckpoint, dataSourceManager);
         historyDataSyncTaskGroup.prepare();
         List<SyncTask> syncTasks = ReflectionUtil.getFieldValueFromClass(historyDataSyncTaskGroup, "syncTasks", List.class);
         assertNotNull(syncTasks);
         assertThat(syncTasks.size(), is(3));
     }
     
+    @Test
+    public void assertPrepareWithSignedExtremePrimaryRangeSplit() throws NoSuchFieldException, IllegalAccessException {
+        initSignedExtremePrimaryEnvironment(syncConfiguration.getReaderConfiguration());
+        syncConfiguration.getReaderConfiguration().setShardingSize(1);
+        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, nopSyncTaskCheckpoint, dataSourceManager);
+        historyDataSyncTaskGroup.prepare();
+        List<SyncTask> syncTasks = ReflectionUtil.getFieldValueFromClass(historyDataSyncTaskGroup, "syncTasks", List.class);
+        assertNotNull(syncTasks);
+        assertThat(syncTasks.size(), is(3));
+    }
+    
+    @Test
+    public void assertPrepareWithEmptyTableRangeSplit() throws NoSuchFieldException, IllegalAccessException {
+        initEmptyIntPrimaryEnvironment(syncConfiguration.getReaderConfiguration());
+        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, nopSyncTaskCheckpoint, dataSourceManager);
+        historyDataSyncTaskGroup.prepare();
+        List<SyncTask> syncTasks = ReflectionUtil.getFieldValueFromClass(historyDataSyncTaskGroup, "syncTasks", List.class);
+        assertNotNull(syncTasks);
+        assertThat(syncTasks.size(), is(1));
+    }
+    
+    @Test
+    public void assertPrepareResumeWithFinishedRanges() throws NoSuchFieldException, IllegalAccessException {
+        initIntPrimaryEnvironment(syncConfiguration.getReaderConfiguration());
+        SyncTaskCheckpoint syncTaskCheckpoint = new SyncTaskCheckpoint(new FileSystemCheckpointStore(temporaryFolder.getRoot().getAbsolutePath()), syncConfiguration, 0);
+        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, syncTaskCheckpoint, dataSourceManager);
+        historyDataSyncTaskGroup.prepare();
+        List<HistoryDataPosition> historyDataPositions = syncTaskCheckpoint.loadHistoryDataPositions();
+        assertThat(historyDataPositions.size(), is(3));
+        historyDataPositions.get(0).setFinished(true);
+        syncTaskCheckpoint.persistHistoryDataPositions(historyDataPositions);
+        initEmptyIntPrimaryEnvironment(syncConfiguration.getReaderConfiguration());
+        HistoryDataSyncTaskGroup resumedHistoryDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, syncTaskCheckpoint, dataSourceManager);
+        resumedHistoryDataSyncTaskGroup.prepare();
+        List<SyncTask> syncTasks = ReflectionUtil.getFieldValueFromClass(resumedHistoryDataSyncTaskGroup, "syncTasks", List.class);
+        assertThat(syncTasks.size(), is(2));
+    }
+    
     @Test
     public void assertPrepareWithCharPrimaryRangeSplit() throws NoSuchFieldException, IllegalAccessException {
         initCharPrimaryEnvironment(syncConfiguration.getReaderConfiguration());
-        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, dataSourceManager);
+        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, nopSyncTaskCheckpoint, dataSourceManager);
         historyDataSyncTaskGroup.prepare();
         List<SyncTask> syncTasks = ReflectionUtil.getFieldValueFromClass(historyDataSyncTaskGroup, "syncTasks", List.class);
         assertNotNull(syncTasks);
@@ -98,7 +172,7 @@ public final class HistoryDataSyncTaskGroupTest {
     @Test
     public void assertPrepareWithUnionPrimaryRangeSplit() throws NoSuchFieldException, IllegalAccessException {
         initUnionPrimaryEnvironment(syncConfiguration.getReaderConfiguration());
-        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, dataSourceManager);
+        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, nopSyncTaskCheckpoint, dataSourceManager);
         historyDataSyncTaskGroup.prepare();
         List<SyncTask> syncTasks = ReflectionUtil.getFieldValueFromClass(historyDataSyncTaskGroup, "syncTasks", List.class);
         assertNotNull(syncTasks);
@@ -108,7 +182,7 @@ public final class HistoryDataSyncTaskGroupTest {
     @Test
     public void assertPrepareWithoutPrimaryRangeSplit() throws NoSuchFieldException, IllegalAccessException {
         initNoPrimaryEnvironment(syncConfiguration.getReaderConfiguration());
-        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, dataSourceManager);
+        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, nopSyncTaskCheckpoint, dataSourceManager);
         historyDataSyncTaskGroup.prepare();
         List<SyncTask> syncTasks = ReflectionUtil.getFieldValueFromClass(historyDataSyncTaskGroup, "syncTasks", List.class);
         assertNotNull(syncTasks);
@@ -118,7 +192,7 @@ public final class HistoryDataSyncTaskGroupTest {
     @Test
     public void assertStart() throws NoSuchFieldException, IllegalAccessException {
         SyncTask syncTask = mock(SyncTask.class);
-        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, dataSourceManager);
+        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, nopSyncTaskCheckpoint, dataSourceManager);
         List<SyncTask> syncTasks = new LinkedList<>();
         syncTasks.add(syncTask);
         ReflectionUtil.setFieldValueToClass(historyDataSyncTaskGroup, "syncTasks", syncTasks);
@@ -126,10 +200,18 @@ public final class HistoryDataSyncTaskGroupTest {
         verify(syncTask).start(any(ReportCallback.class));
     }
     
+    @Test
+    public void assertStartWithoutSyncTasks() {
+        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, nopSyncTaskCheckpoint, dataSourceManager);
+        AtomicReference<EventType> eventType = new AtomicReference<>();
+        historyDataSyncTaskGroup.start(event -> eventType.set(event.getEventType()));
+        assertThat(eventType.get(), is(EventType.FINISHED));
+    }
+    
     @Test
     public void assertStop() throws NoSuchFieldException, IllegalAccessException {
         SyncTask syncTask = mock(SyncTask.class);
-        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, dataSourceManager);
+        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, nopSyncTaskCheckpoint, dataSourceManager);
         List<SyncTask> syncTasks = new LinkedList<>();
         syncTasks.add(syncTask);
         ReflectionUtil.setFieldValueToClass(historyDataSyncTaskGroup, "syncTasks", syncTasks);
@@ -139,7 +221,7 @@ public final class HistoryDataSyncTaskGroupTest {
     
     @Test
     public void assertGetProgress() {
-        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, dataSourceManager);
+        HistoryDataSyncTaskGroup historyDataSyncTaskGroup = new HistoryDataSyncTaskGroup(syncConfiguration, nopSyncTaskCheckpoint, dataSourceManager);
         assertThat(historyDataSyncTaskGroup.getProgress(), instanceOf(SyncProgress.class));
     }
     
@@ -154,6 +236,38 @@ public final class HistoryDataSyncTaskGroupTest {
         }
     }
     
+    @SneakyThrows
+    private void initThousandRowsIntPrimaryEnvironment(final RdbmsConfiguration readerConfig) {
+        DataSource dataSource = dataSourceManager.getDataSource(readerConfig.getDataSourceConfiguration());
+        try (Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (id INT PRIMARY KEY, user_id VARCHAR(12))");
+            statement.execute("INSERT INTO t_order (id, user_id) SELECT X, 'xxx' FROM SYSTEM_RANGE(1, 1000)");
+        }
+    }
+    
+    @SneakyThrows
+    private void initSignedExtremePrimaryEnvironment(final RdbmsConfiguration readerConfig) {
+        DataSource dataSource = dataSourceManager.getDataSource(readerConfig.getDataSourceConfiguration());
+        try (Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (id BIGINT PRIMARY KEY, user_id VARCHAR(12))");
+            statement.execute(String.format("INSERT INTO t_order (id, user_id) VALUES (%d, 'xxx'), (%d, 'yyy')", Long.MIN_VALUE, Long.MAX_VALUE));
+        }
+    }
+    
+    @SneakyThrows
+    private void initEmptyIntPrimaryEnvironment(final RdbmsConfiguration readerConfig) {
+        DataSource dataSource = dataSourceManager.getDataSource(readerConfig.getDataSourceConfiguration());
+        try (Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (id INT PRIMARY KEY, user_id VARCHAR(12))");
+        }
+    }
+    
     @SneakyThrows
     private void initCharPrimaryEnvironment(final RdbmsConfiguration readerConfig) {
         DataSource dataSource = dataSourceManager.getDataSource(readerConfig.getDataSourceConfiguration());
@@ -40,9 +40,11 @@ import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.DeleteRowsEv
 import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.XidEvent;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import java.io.Serializable;
+import java.util.Objects;
 
 /**
  * MySQL binlog reader.
@@ -56,11 +58,18 @@ public final class MySQLBinlogReader extends AbstractSyncExecutor implements Log
     
     private final MetaDataManager metaDataManager;
     
+    /**
+     * Position after last committed transaction, which is carried by all records until next transaction is committed.
+     * Resuming from the middle of a transaction would lose table map events of its rows events.
+     */
+    private BinlogPosition committedPosition;
+    
     @Setter
     private Channel channel;
     
     public MySQLBinlogReader(final RdbmsConfiguration rdbmsConfiguration, final LogPosition binlogPosition) {
         this.binlogPosition = (BinlogPosition) binlogPosition;
+        committedPosition = this.binlogPosition;
         if (!JDBCDataSourceConfiguration.class.equals(rdbmsConfiguration.getDataSourceConfiguration().getClass())) {
             throw new UnsupportedOperationException("MySQLBinlogReader only support JDBCDataSourceConfiguration");
         }
@@ -90,19 +99,26 @@ public final class MySQLBinlogReader extends AbstractSyncExecutor implements Log
                 }
                 continue;
             }
-            if (event instanceof WriteRowsEvent) {
-                handleWriteRowsEvent(channel, uri, (WriteRowsEvent) event);
-            } else if (event instanceof UpdateRowsEvent) {
-                handleUpdateRowsEvent(channel, uri, (UpdateRowsEvent) event);
-            } else if (event instanceof DeleteRowsEvent) {
-                handleDeleteRowsEvent(channel, uri, (DeleteRowsEvent) event);
-            } else if (event instanceof PlaceholderEvent) {
-                createPlaceholderRecord(channel, event);
-            }
+            handleEvent(channel, uri, event);
         }
         pushRecord(channel, new FinishedRecord(new NopLogPosition()));
     }
     
+    private void handleEvent(final Channel channel, final JdbcUri uri, final AbstractBinlogEvent event) {
+        if (event instanceof WriteRowsEvent) {
+            handleWriteRowsEvent(channel, uri, (WriteRowsEvent) event);
+        } else if (event instanceof UpdateRowsEvent) {
+            handleUpdateRowsEvent(channel, uri, (UpdateRowsEvent) event);
+        } else if (event instanceof DeleteRowsEvent) {
+            handleDeleteRowsEvent(channel, uri, (DeleteRowsEvent) event);
+        } else if (event instanceof XidEvent) {
+            committedPosition = new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId());
+            createPlaceholderRecord(channel, event);
+        } else if (event instanceof PlaceholderEvent) {
+            createPlaceholderRecord(channel, event);
+        }
+    }
+    
     private void handleWriteRowsEvent(final Channel channel, final JdbcUri uri, final WriteRowsEvent event) {
         if (filter(uri.getDatabase(), event.getSchemaName(), event.getTableName())) {
             createPlaceholderRecord(channel, event);
@@ -133,7 +149,7 @@ public final class MySQLBinlogReader extends AbstractSyncExecutor implements Log
             for (int j = 0; j < beforeValues.length; j++) {
                 Object oldValue = beforeValues[j];
                 Object newValue = afterValues[j];
-                record.addColumn(new Column(tableMetaData.getColumnMetaData(j).getColumnName(), newValue, !newValue.equals(oldValue), tableMetaData.isPrimaryKey(j)));
+                record.addColumn(new Column(tableMetaData.getColumnMetaData(j).getColumnName(), newValue, !Objects.equals(newValue, oldValue), tableMetaData.isPrimaryKey(j)));
             }
             pushRecord(channel, record);
         }
@@ -156,14 +172,14 @@ public final class MySQLBinlogReader extends AbstractSyncExecutor implements Log
     }
     
     private DataRecord createDataRecord(final AbstractRowsEvent rowsEvent, final int columnCount) {
-        DataRecord result = new DataRecord(new BinlogPosition(rowsEvent.getFileName(), rowsEvent.getPosition(), rowsEvent.getServerId()), columnCount);
+        DataRecord result = new DataRecord(committedPosition, columnCount);
         result.setTableName(rdbmsConfiguration.getTableNameMap().get(rowsEvent.getTableName()));
         result.setCommitTime(rowsEvent.getTimestamp() * 1000);
         return result;
     }
     
     private void createPlaceholderRecord(final Channel channel, final AbstractBinlogEvent event) {
-        PlaceholderRecord record = new PlaceholderRecord(new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId()));
+        PlaceholderRecord record = new PlaceholderRecord(committedPosition);
         record.setCommitTime(event.getTimestamp() * 1000);
         pushRecord(channel, record);
     }
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.DeleteRowsEv
 import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.XidEvent;
 import org.apache.shardingsphere.shardingscaling.mysql.binlog.packet.binlog.EventTypes;
 import org.apache.shardingsphere.shardingscaling.mysql.binlog.packet.binlog.FormatDescriptionEventPacket;
 import org.apache.shardingsphere.shardingscaling.mysql.binlog.packet.binlog.RotateEventPacket;
@@ -76,6 +77,10 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
             case EventTypes.DELETE_ROWS_EVENT_V2:
                 out.add(decodeDeleteRowsEventV2(binlogEventHeader, in));
                 break;
+            case EventTypes.XID_EVENT:
+                out.add(createXidEvent(binlogEventHeader));
+                DataTypesCodec.skipBytes(in.readableBytes(), in);
+                break;
             default:
                 out.add(createPlaceholderEvent(binlogEventHeader));
                 DataTypesCodec.skipBytes(in.readableBytes(), in);
@@ -160,7 +165,17 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         return result;
     }
     
+    private XidEvent createXidEvent(final BinlogEventHeader binlogEventHeader) {
+        XidEvent result = new XidEvent();
+        result.setFileName(binlogContext.getFileName());
+        result.setPosition(binlogEventHeader.getEndLogPos());
+        result.setTimestamp(binlogEventHeader.getTimeStamp());
+        result.setServerId(binlogEventHeader.getServerId());
+        return result;
+    }
+    
     private void decodeTableMapEvent(final ByteBuf in) {
+        // table id may be reused by another table or definition, so table map event is always parsed again.
         TableMapEventPacket tableMapLogEvent = new TableMapEventPacket();
         tableMapLogEvent.parsePostHeader(in);
         tableMapLogEvent.parsePayload(in);
@@ -171,5 +186,6 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         FormatDescriptionEventPacket formatDescriptionEventPacket = new FormatDescriptionEventPacket();
         formatDescriptionEventPacket.parse(in);
         binlogContext.setChecksumLength(formatDescriptionEventPacket.getChecksumLength());
+        binlogContext.getTableMap().clear();
     }
 }
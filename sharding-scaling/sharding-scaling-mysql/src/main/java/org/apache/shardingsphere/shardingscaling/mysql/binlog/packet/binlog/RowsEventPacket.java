@@ -27,6 +27,7 @@ import io.netty.buffer.ByteBuf;
 import lombok.Getter;
 
 import java.io.Serializable;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
@@ -92,32 +93,31 @@ public final class RowsEventPacket {
             columnsPresentBitmap2 = DataTypesCodec.readBitmap(columnsLength, in);
         }
         ColumnDef[] columnDefs = binlogContext.getColumnDefs(tableId);
+        boolean isUpdateRowsEvent = EventTypes.UPDATE_ROWS_EVENT_V1 == binlogEventHeader.getTypeCode() || EventTypes.UPDATE_ROWS_EVENT_V2 == binlogEventHeader.getTypeCode();
         while (in.isReadable()) {
             //TODO support minimal binlog row image
-            BitSet nullBitmap = DataTypesCodec.readBitmap(columnsLength, in);
-            Serializable[] row = new Serializable[columnsLength];
-            for (int i = 0; i < columnsLength; i++) {
-                if (!nullBitmap.get(i)) {
-                    row[i] = decodeColumnValue(columnDefs[i], in);
-                } else {
-                    row[i] = null;
-                }
+            rows1.add(decodeRow(columnDefs, columnsLength, in));
+            if (isUpdateRowsEvent) {
+                rows2.add(decodeRow(columnDefs, columnsLength, in));
             }
-            rows1.add(row);
-            if (EventTypes.UPDATE_ROWS_EVENT_V1 == binlogEventHeader.getTypeCode()
-                    || EventTypes.UPDATE_ROWS_EVENT_V2 == binlogEventHeader.getTypeCode()) {
-                nullBitmap = DataTypesCodec.readBitmap(columnsLength, in);
-                row = new Serializable[columnsLength];
-                for (int i = 0; i < columnsLength; i++) {
-                    if (!nullBitmap.get(i)) {
-                        row[i] = decodeColumnValue(columnDefs[i], in);
-                    } else {
-                        row[i] = null;
-                    }
-                }
-                rows2.add(row);
+        }
+    }
+    
+    private Serializable[] decodeRow(final ColumnDef[] columnDefs, final int columnsLength, final ByteBuf in) {
+        // null bitmap is tested in place rather than copied into a BitSet for every row
+        int nullBitmapIndex = in.readerIndex();
+        in.skipBytes((columnsLength + 7) / 8);
+        Serializable[] result = new Serializable[columnsLength];
+        for (int i = 0; i < columnsLength; i++) {
+            if (!isNullColumn(nullBitmapIndex, i, in)) {
+                result[i] = decodeColumnValue(columnDefs[i], in);
             }
         }
+        return result;
+    }
+    
+    private boolean isNullColumn(final int nullBitmapIndex, final int columnIndex, final ByteBuf in) {
+        return 0 != (in.getByte(nullBitmapIndex + (columnIndex >> 3)) & (1 << (columnIndex & 7)));
     }
     
     private Serializable decodeColumnValue(final ColumnDef columnDef, final ByteBuf in) {
@@ -214,7 +214,7 @@ public final class RowsEventPacket {
         } else {
             length = DataTypesCodec.readUnsignedInt2LE(in);
         }
-        return new String(DataTypesCodec.readBytes(length, in));
+        return in.readCharSequence(length, Charset.defaultCharset()).toString();
     }
     
     private Serializable decodeString(final int meta, final ByteBuf in) {
@@ -226,7 +226,7 @@ public final class RowsEventPacket {
                 return in.readByte();
             case ColumnTypes.MYSQL_TYPE_STRING:
                 int length = DataTypesCodec.readUnsignedInt1(in);
-                return new String(DataTypesCodec.readBytes(length, in));
+                return in.readCharSequence(length, Charset.defaultCharset()).toString();
             default:
                 throw new UnsupportedOperationException();
         }
@@ -253,7 +253,7 @@ public final class RowsEventPacket {
         if (0 == length) {
             return "";
         } else {
-            return JsonValueDecoder.decode(in.readBytes(length));
+            return JsonValueDecoder.decode(in.readSlice(length));
         }
     }
 }
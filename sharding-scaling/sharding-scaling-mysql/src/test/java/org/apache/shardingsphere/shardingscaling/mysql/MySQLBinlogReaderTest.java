@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.mysql;
+
+import org.apache.shardingsphere.shardingscaling.core.config.JDBCDataSourceConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.RdbmsConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.channel.Channel;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.PlaceholderRecord;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
+import org.apache.shardingsphere.shardingscaling.core.metadata.JdbcUri;
+import org.apache.shardingsphere.shardingscaling.core.metadata.MetaDataManager;
+import org.apache.shardingsphere.shardingscaling.core.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.shardingscaling.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.AbstractBinlogEvent;
+import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.PlaceholderEvent;
+import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.XidEvent;
+import org.apache.shardingsphere.shardingscaling.utils.ReflectionUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public final class MySQLBinlogReaderTest {
+    
+    private static final String URL = "jdbc:mysql://127.0.0.1:3306/test_db";
+    
+    private static final String FILE_NAME = "binlog-000001";
+    
+    private final List<Record> records = new LinkedList<>();
+    
+    private MySQLBinlogReader mySQLBinlogReader;
+    
+    private Channel channel;
+    
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        RdbmsConfiguration rdbmsConfiguration = new RdbmsConfiguration();
+        rdbmsConfiguration.setDataSourceConfiguration(new JDBCDataSourceConfiguration(URL, "root", "password"));
+        rdbmsConfiguration.setTableNameMap(Collections.singletonMap("t_order", "t_order"));
+        mySQLBinlogReader = new MySQLBinlogReader(rdbmsConfiguration, new BinlogPosition(FILE_NAME, 4L, 1L));
+        MetaDataManager metaDataManager = ReflectionUtil.getFieldValueFromClass(mySQLBinlogReader, "metaDataManager", MetaDataManager.class);
+        ReflectionUtil.getFieldValueFromClass(metaDataManager, "tableMetaDataMap", Map.class).put("t_order", createTableMetaData());
+        channel = mock(Channel.class);
+        doAnswer(invocation -> records.add(invocation.getArgument(0))).when(channel).pushRecord(any(Record.class));
+    }
+    
+    private TableMetaData createTableMetaData() {
+        TableMetaData result = new TableMetaData();
+        ColumnMetaData columnMetaData = new ColumnMetaData();
+        columnMetaData.setColumnName("order_id");
+        result.addAllColumnMetaData(Collections.singletonList(columnMetaData));
+        result.addAllPrimaryKey(Collections.singletonList("order_id"));
+        return result;
+    }
+    
+    @Test
+    public void assertRecordsOfUncommittedTransactionCarryLastCommittedPosition() throws ReflectiveOperationException {
+        handleEvent(createPlaceholderEvent(200L));
+        handleEvent(createWriteRowsEvent(400L));
+        handleEvent(createXidEvent(500L));
+        handleEvent(createWriteRowsEvent(700L));
+        assertThat(records.size(), is(4));
+        assertThat(records.get(0), instanceOf(PlaceholderRecord.class));
+        assertPosition(records.get(0), 4L);
+        assertThat(records.get(1), instanceOf(DataRecord.class));
+        assertPosition(records.get(1), 4L);
+        assertThat(records.get(2), instanceOf(PlaceholderRecord.class));
+        assertPosition(records.get(2), 500L);
+        assertPosition(records.get(3), 500L);
+    }
+    
+    private void handleEvent(final AbstractBinlogEvent event) throws ReflectiveOperationException {
+        Method method = MySQLBinlogReader.class.getDeclaredMethod("handleEvent", Channel.class, JdbcUri.class, AbstractBinlogEvent.class);
+        method.setAccessible(true);
+        method.invoke(mySQLBinlogReader, channel, new JdbcUri(URL), event);
+    }
+    
+    private PlaceholderEvent createPlaceholderEvent(final long position) {
+        PlaceholderEvent result = new PlaceholderEvent();
+        initBinlogEvent(result, position);
+        return result;
+    }
+    
+    private WriteRowsEvent createWriteRowsEvent(final long position) {
+        WriteRowsEvent result = new WriteRowsEvent();
+        initBinlogEvent(result, position);
+        result.setSchemaName("test_db");
+        result.setTableName("t_order");
+        result.setAfterRows(Collections.singletonList(new Serializable[]{1L}));
+        return result;
+    }
+    
+    private XidEvent createXidEvent(final long position) {
+        XidEvent result = new XidEvent();
+        initBinlogEvent(result, position);
+        return result;
+    }
+    
+    private void initBinlogEvent(final AbstractBinlogEvent event, final long position) {
+        event.setFileName(FILE_NAME);
+        event.setPosition(position);
+        event.setServerId(1L);
+    }
+    
+    private void assertPosition(final Record record, final long expected) {
+        BinlogPosition actual = (BinlogPosition) record.getLogPosition();
+        assertThat(actual.getFilename(), is(FILE_NAME));
+        assertThat(actual.getPosition(), is(expected));
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.shardingscaling.mysql.binlog.BinlogContext;
 import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.DeleteRowsEvent;
 import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.XidEvent;
 import org.apache.shardingsphere.shardingscaling.mysql.binlog.packet.binlog.EventTypes;
 import org.apache.shardingsphere.shardingscaling.mysql.binlog.packet.binlog.TableMapEventPacket;
 import org.apache.shardingsphere.shardingscaling.utils.ReflectionUtil;
@@ -36,7 +37,10 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -95,6 +99,24 @@ public final class MySQLBinlogEventPacketDecoderTest {
         assertThat(binlogContext.getTableMap().get(0L), instanceOf(TableMapEventPacket.class));
     }
     
+    @Test
+    public void assertDecodeFormatDescriptionEventWithKnownTableId() {
+        when(byteBuf.readUnsignedByte()).thenReturn((short) 0, EventTypes.FORMAT_DESCRIPTION_EVENT);
+        binlogContext.getTableMap().put(0L, new TableMapEventPacket());
+        binlogEventPacketDecoder.decode(null, byteBuf, new ArrayList<>());
+        assertTrue(binlogContext.getTableMap().isEmpty());
+    }
+    
+    @Test
+    public void assertDecodeTableMapEventWithKnownTableId() {
+        when(byteBuf.readUnsignedByte()).thenReturn((short) 0, EventTypes.TABLE_MAP_EVENT);
+        TableMapEventPacket tableMapEventPacket = new TableMapEventPacket();
+        binlogContext.getTableMap().put(0L, tableMapEventPacket);
+        binlogEventPacketDecoder.decode(null, byteBuf, new ArrayList<>());
+        assertThat(binlogContext.getTableMap().size(), is(1));
+        assertThat(binlogContext.getTableMap().get(0L), not(sameInstance(tableMapEventPacket)));
+    }
+    
     @Test
     public void assertDecodeWriteRowEvent() {
         when(byteBuf.readUnsignedByte()).thenReturn((short) 0, EventTypes.WRITE_ROWS_EVENT_V2);
@@ -127,4 +149,13 @@ public final class MySQLBinlogEventPacketDecoderTest {
         assertThat(decodedEvents.size(), is(1));
         assertThat(decodedEvents.get(0), instanceOf(DeleteRowsEvent.class));
     }
+    
+    @Test
+    public void assertDecodeXidEvent() {
+        when(byteBuf.readUnsignedByte()).thenReturn((short) 0, EventTypes.XID_EVENT);
+        List<Object> decodedEvents = new ArrayList<>();
+        binlogEventPacketDecoder.decode(null, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(1));
+        assertThat(decodedEvents.get(0), instanceOf(XidEvent.class));
+    }
 }
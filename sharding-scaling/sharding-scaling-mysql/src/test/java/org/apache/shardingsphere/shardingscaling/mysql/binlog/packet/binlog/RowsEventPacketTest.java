@@ -35,6 +35,7 @@ import java.util.HashMap;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -715,6 +716,31 @@ public final class RowsEventPacketTest {
         assertColumnValue(actual.getRows2(), value2);
     }
     
+    @Test
+    public void assertParsePayloadWithNullBitmapAcrossBytes() {
+        binlogEventHeader.setTypeCode(EventTypes.WRITE_ROWS_EVENT_V2);
+        ColumnDef[] columnDefs = new ColumnDef[9];
+        for (int i = 0; i < columnDefs.length; i++) {
+            columnDefs[i] = new ColumnDef();
+            columnDefs[i].setType(ColumnTypes.MYSQL_TYPE_TINY);
+        }
+        TableMapEventPacket tableMapEventPacket = mock(TableMapEventPacket.class);
+        when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+        binlogContext.getTableMap().put(0L, tableMapEventPacket);
+        ByteBuf byteBuf = Unpooled.buffer();
+        byteBuf.writeBytes(new byte[]{9, (byte) 0xff, 0x01});
+        byteBuf.writeBytes(new byte[]{0x02, 0x00});
+        byteBuf.writeBytes(new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        RowsEventPacket actual = new RowsEventPacket(binlogEventHeader);
+        actual.parsePayload(binlogContext, byteBuf);
+        assertThat(actual.getRows1().size(), is(1));
+        Serializable[] row = actual.getRows1().get(0);
+        assertNull(row[1]);
+        assertThat(row[0], is((Serializable) (byte) 1));
+        assertThat(row[7], is((Serializable) (byte) 7));
+        assertThat(row[8], is((Serializable) (byte) 8));
+    }
+    
     private void assertColumnValue(final List<Serializable[]> actual, final Serializable value) {
         assertThat(actual.size(), is(1));
         assertThat(actual.get(0).length, is(1));
@@ -123,7 +123,9 @@ public final class WalEventConverter {
     
     private void putColumnsIntoDataRecord(final DataRecord dataRecord, final TableMetaData tableMetaData, final List<Object> values) {
         for (int i = 0; i < values.size(); i++) {
-            dataRecord.addColumn(new Column(tableMetaData.getColumnMetaData(i).getColumnName(), values.get(i), true, tableMetaData.isPrimaryKey(i)));
+            // test_decoding does not carry old key of update, so primary key is treated as not changed
+            boolean updated = !"UPDATE".equals(dataRecord.getType()) || !tableMetaData.isPrimaryKey(i);
+            dataRecord.addColumn(new Column(tableMetaData.getColumnMetaData(i).getColumnName(), values.get(i), updated, tableMetaData.isPrimaryKey(i)));
         }
     }
 }
@@ -18,41 +18,93 @@
 package org.apache.shardingsphere.database.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.database.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Database packet codec for MySQL.
+ * 
+ * <p>Payloads of {@code 0xFFFFFF} bytes or more are split into several packets on encoding and reassembled on decoding.</p>
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/sending-more-than-16mbyte.html">Sending More Than 16Mbyte</a>
  */
 public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<MySQLPacket> {
     
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    private static final int HEADER_LENGTH = MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+    
+    private final List<ByteBuf> pendingMessages = new ArrayList<>();
+    
+    private int sequenceIdOffset;
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
-        return readableBytes > MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+        return readableBytes >= HEADER_LENGTH;
     }
     
     @Override
     public void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out, final int readableBytes) {
-        int payloadLength = in.markReaderIndex().readMediumLE();
-        int realPacketLength = payloadLength + MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+        int payloadLength = in.markReaderIndex().readUnsignedMediumLE();
+        int realPacketLength = payloadLength + HEADER_LENGTH;
         if (readableBytes < realPacketLength) {
             in.resetReaderIndex();
             return;
         }
-        out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+        ByteBuf message = pendingMessages.isEmpty() ? in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH) : in.skipBytes(MySQLPacket.SEQUENCE_LENGTH).readRetainedSlice(payloadLength);
+        if (MAX_PAYLOAD_LENGTH == payloadLength) {
+            pendingMessages.add(message);
+            return;
+        }
+        // response continues sequence ID after the last fragment of command
+        sequenceIdOffset = pendingMessages.size();
+        out.add(pendingMessages.isEmpty() ? message : aggregatePendingMessages(context, message));
+    }
+    
+    private ByteBuf aggregatePendingMessages(final ChannelHandlerContext context, final ByteBuf lastMessage) {
+        CompositeByteBuf result = context.alloc().compositeBuffer(pendingMessages.size() + 1);
+        result.addComponents(true, pendingMessages);
+        result.addComponent(true, lastMessage);
+        pendingMessages.clear();
+        return result;
     }
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
+        int headerIndex = out.writerIndex();
+        out.writeZero(HEADER_LENGTH);
+        message.write(new MySQLPacketPayload(out));
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        int sequenceId = message.getSequenceId() + sequenceIdOffset;
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            out.setMediumLE(headerIndex, payloadLength);
+            out.setByte(headerIndex + MySQLPacket.PAYLOAD_LENGTH, sequenceId);
+            return;
+        }
+        sequenceIdOffset += splitLargePacket(out, headerIndex, payloadLength, sequenceId);
+    }
+    
+    private int splitLargePacket(final ByteBuf out, final int headerIndex, final int payloadLength, final int sequenceId) {
+        ByteBuf payload = out.copy(headerIndex + HEADER_LENGTH, payloadLength);
+        try {
+            out.writerIndex(headerIndex);
+            int packetCount = 0;
+            int length;
+            do {
+                length = Math.min(payload.readableBytes(), MAX_PAYLOAD_LENGTH);
+                out.writeMediumLE(length);
+                out.writeByte(sequenceId + packetCount++);
+                out.writeBytes(payload, length);
+            } while (MAX_PAYLOAD_LENGTH == length);
+            return packetCount - 1;
+        } finally {
+            payload.release();
         }
     }
     
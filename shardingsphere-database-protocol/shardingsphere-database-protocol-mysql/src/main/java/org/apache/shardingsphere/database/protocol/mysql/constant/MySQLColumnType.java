@@ -96,6 +96,8 @@ public enum MySQLColumnType {
     
     private static final Map<Integer, MySQLColumnType> JDBC_TYPE_AND_COLUMN_TYPE_MAP = new HashMap<>(MySQLColumnType.values().length, 1);
     
+    private static final Map<String, MySQLColumnType> TYPE_NAME_AND_COLUMN_TYPE_MAP = new HashMap<>(64, 1);
+    
     private final int value;
     
     static {
@@ -120,6 +122,40 @@ public enum MySQLColumnType {
         JDBC_TYPE_AND_COLUMN_TYPE_MAP.put(Types.LONGVARBINARY, MYSQL_TYPE_VAR_STRING);
         JDBC_TYPE_AND_COLUMN_TYPE_MAP.put(Types.NULL, MYSQL_TYPE_NULL);
         JDBC_TYPE_AND_COLUMN_TYPE_MAP.put(Types.BLOB, MYSQL_TYPE_BLOB);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("BIT", MYSQL_TYPE_BIT);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("BOOL", MYSQL_TYPE_TINY);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("BOOLEAN", MYSQL_TYPE_TINY);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("TINYINT", MYSQL_TYPE_TINY);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("SMALLINT", MYSQL_TYPE_SHORT);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("MEDIUMINT", MYSQL_TYPE_INT24);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("INT", MYSQL_TYPE_LONG);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("INTEGER", MYSQL_TYPE_LONG);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("BIGINT", MYSQL_TYPE_LONGLONG);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("FLOAT", MYSQL_TYPE_FLOAT);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("REAL", MYSQL_TYPE_DOUBLE);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("DOUBLE", MYSQL_TYPE_DOUBLE);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("NUMERIC", MYSQL_TYPE_NEWDECIMAL);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("DECIMAL", MYSQL_TYPE_NEWDECIMAL);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("DATE", MYSQL_TYPE_DATE);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("TIME", MYSQL_TYPE_TIME);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("DATETIME", MYSQL_TYPE_DATETIME);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("TIMESTAMP", MYSQL_TYPE_TIMESTAMP);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("YEAR", MYSQL_TYPE_YEAR);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("CHAR", MYSQL_TYPE_STRING);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("BINARY", MYSQL_TYPE_STRING);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("ENUM", MYSQL_TYPE_STRING);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("SET", MYSQL_TYPE_STRING);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("VARCHAR", MYSQL_TYPE_VAR_STRING);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("VARBINARY", MYSQL_TYPE_VAR_STRING);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("TINYTEXT", MYSQL_TYPE_BLOB);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("TEXT", MYSQL_TYPE_BLOB);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("MEDIUMTEXT", MYSQL_TYPE_BLOB);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("LONGTEXT", MYSQL_TYPE_BLOB);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("TINYBLOB", MYSQL_TYPE_BLOB);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("BLOB", MYSQL_TYPE_BLOB);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("MEDIUMBLOB", MYSQL_TYPE_BLOB);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("LONGBLOB", MYSQL_TYPE_BLOB);
+        TYPE_NAME_AND_COLUMN_TYPE_MAP.put("GEOMETRY", MYSQL_TYPE_GEOMETRY);
     }
     
     /**
@@ -135,6 +171,19 @@ public enum MySQLColumnType {
         throw new IllegalArgumentException(String.format("Cannot find JDBC type '%s' in column type", jdbcType));
     }
     
+    /**
+     * Value of column type name.
+     * 
+     * <p>Unknown type names are described as {@code MYSQL_TYPE_VAR_STRING}.</p>
+     *
+     * @param typeName column type name, such as {@code INT UNSIGNED} or {@code VARCHAR(32)}
+     * @return column type enum
+     */
+    public static MySQLColumnType valueOfTypeName(final String typeName) {
+        String baseTypeName = typeName.trim().toUpperCase().split("[\\s(]", 2)[0];
+        return TYPE_NAME_AND_COLUMN_TYPE_MAP.getOrDefault(baseTypeName, MYSQL_TYPE_VAR_STRING);
+    }
+    
     /**
      * Value of.
      * 
@@ -58,6 +58,7 @@ public final class MySQLColumnDefinition41Packet implements MySQLPacket {
     
     private final int columnLength;
     
+    @Getter
     private final MySQLColumnType columnType;
     
     private final int decimals;
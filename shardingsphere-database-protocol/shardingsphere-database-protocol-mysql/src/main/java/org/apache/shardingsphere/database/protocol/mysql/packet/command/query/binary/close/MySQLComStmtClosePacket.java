@@ -22,6 +22,7 @@ import lombok.ToString;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.MySQLConnectionScopeBinaryStatementRegistry;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 
 /**
@@ -41,9 +42,14 @@ public final class MySQLComStmtClosePacket extends MySQLCommandPacket {
     }
     
     /**
-     * Remove cached statement.
+     * Remove cached statement, nothing to do if connection is already unregistered.
+     *
+     * @param connectionId connection ID
      */
-    public void removeCachedStatement() {
-        MySQLBinaryStatementRegistry.getInstance().remove(statementId);
+    public void removeCachedStatement(final int connectionId) {
+        MySQLConnectionScopeBinaryStatementRegistry registry = MySQLBinaryStatementRegistry.getInstance().get(connectionId);
+        if (null != registry) {
+            registry.remove(statementId);
+        }
     }
 }
@@ -22,11 +22,13 @@ import lombok.Getter;
 import lombok.ToString;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLColumnType;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLNewParametersBoundFlag;
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.MySQLBinaryStatement;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementParameterType;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.MySQLConnectionScopeBinaryStatementRegistry;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
@@ -64,10 +66,10 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     @Getter
     private final List<Object> parameters;
     
-    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload) throws SQLException {
+    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload, final int connectionId) throws SQLException {
         super(MySQLCommandPacketType.COM_STMT_EXECUTE);
         statementId = payload.readInt4();
-        binaryStatement = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(statementId);
+        binaryStatement = getBinaryStatement(connectionId);
         flags = payload.readInt1();
         Preconditions.checkArgument(ITERATION_COUNT == payload.readInt4());
         int parametersCount = binaryStatement.getParametersCount();
@@ -89,6 +91,16 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
         }
     }
     
+    private MySQLBinaryStatement getBinaryStatement(final int connectionId) throws SQLException {
+        MySQLConnectionScopeBinaryStatementRegistry registry = MySQLBinaryStatementRegistry.getInstance().get(connectionId);
+        MySQLBinaryStatement result = null == registry ? null : registry.getBinaryStatement(statementId);
+        if (null == result) {
+            MySQLServerErrorCode errorCode = MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER;
+            throw new SQLException(String.format(errorCode.getErrorMessage(), statementId, "mysqld_stmt_execute"), errorCode.getSqlState(), errorCode.getErrorCode());
+        }
+        return result;
+    }
+    
     private List<MySQLBinaryStatementParameterType> getParameterTypes(final MySQLPacketPayload payload, final int parametersCount) {
         List<MySQLBinaryStatementParameterType> result = new ArrayList<>(parametersCount);
         for (int parameterIndex = 0; parameterIndex < parametersCount; parameterIndex++) {
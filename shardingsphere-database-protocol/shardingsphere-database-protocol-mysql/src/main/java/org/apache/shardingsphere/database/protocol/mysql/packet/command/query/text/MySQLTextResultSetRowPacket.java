@@ -58,12 +58,16 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
             } else {
                 if (each instanceof byte[]) {
                     payload.writeBytesLenenc((byte[]) each);
+                } else if (each instanceof Long || each instanceof Integer || each instanceof Short || each instanceof Byte) {
+                    payload.writeStringLenenc(((Number) each).longValue());
                 } else if ((each instanceof Timestamp) && (0 == ((Timestamp) each).getNanos())) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
+                    String timestamp = each.toString();
+                    payload.writeStringLenenc(timestamp.substring(0, timestamp.indexOf('.')));
                 } else if (each instanceof BigDecimal) {
                     payload.writeStringLenenc(((BigDecimal) each).toPlainString());
                 } else if (each instanceof Boolean) {
-                    payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
+                    payload.writeInt1(1);
+                    payload.writeInt1((Boolean) each ? 1 : 0);
                 } else {
                     payload.writeStringLenenc(each.toString());
                 }
@@ -205,12 +205,12 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte((int) value);
             return;
         }
-        if (value < Math.pow(2, 16)) {
+        if (value < 1 << 16) {
             byteBuf.writeByte(0xfc);
             byteBuf.writeShortLE((int) value);
             return;
         }
-        if (value < Math.pow(2, 24)) {
+        if (value < 1 << 24) {
             byteBuf.writeByte(0xfd);
             byteBuf.writeMediumLE((int) value);
             return;
@@ -259,8 +259,38 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte(0);
             return;
         }
-        writeIntLenenc(value.getBytes().length);
-        byteBuf.writeBytes(value.getBytes());
+        byte[] bytes = value.getBytes();
+        writeIntLenenc(bytes.length);
+        byteBuf.writeBytes(bytes);
+    }
+    
+    /**
+     * Write lenenc string of integer to byte buffers.
+     * 
+     * <p>The decimal digits are written directly without creating an intermediate string.</p>
+     *
+     * @param value integer value
+     */
+    public void writeStringLenenc(final long value) {
+        if (Long.MIN_VALUE == value) {
+            writeStringLenenc(Long.toString(value));
+            return;
+        }
+        long remaining = Math.abs(value);
+        int digitCount = 1;
+        for (long each = remaining / 10; each > 0; each /= 10) {
+            digitCount++;
+        }
+        byteBuf.writeByte(value < 0 ? digitCount + 1 : digitCount);
+        if (value < 0) {
+            byteBuf.writeByte('-');
+        }
+        int startIndex = byteBuf.writerIndex();
+        byteBuf.writeZero(digitCount);
+        for (int i = startIndex + digitCount - 1; i >= startIndex; i--) {
+            byteBuf.setByte(i, '0' + (int) (remaining % 10));
+            remaining /= 10;
+        }
     }
     
     /**
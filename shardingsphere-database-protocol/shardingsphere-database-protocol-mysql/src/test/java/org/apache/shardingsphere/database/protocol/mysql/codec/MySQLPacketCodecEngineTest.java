@@ -18,12 +18,13 @@
 package org.apache.shardingsphere.database.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -34,13 +35,16 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class MySQLPacketCodecEngineTest {
     
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
     @Mock
     private ChannelHandlerContext context;
     
@@ -60,7 +64,7 @@ public final class MySQLPacketCodecEngineTest {
     @Test
     public void assertDecode() {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(50);
         when(byteBuf.readRetainedSlice(51)).thenReturn(byteBuf);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 54);
@@ -70,26 +74,142 @@ public final class MySQLPacketCodecEngineTest {
     @Test
     public void assertDecodeWithStickyPacket() {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(50);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 40);
         assertTrue(out.isEmpty());
     }
     
+    @Test
+    public void assertDecodeWithLargePacket() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf in = Unpooled.buffer();
+        writePacket(in, MAX_PAYLOAD_LENGTH, 0, (byte) 'a');
+        writePacket(in, 2, 1, (byte) 'b');
+        writePacket(in, 1, 0, (byte) 'c');
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        List<Object> out = new LinkedList<>();
+        engine.decode(context, in, out, in.readableBytes());
+        assertTrue(out.isEmpty());
+        engine.decode(context, in, out, in.readableBytes());
+        engine.decode(context, in, out, in.readableBytes());
+        assertThat(out.size(), is(2));
+        ByteBuf actual = (ByteBuf) out.get(0);
+        assertThat(actual.readableBytes(), is(MAX_PAYLOAD_LENGTH + 3));
+        assertThat(actual.getByte(0), is((byte) 0));
+        assertThat(actual.getByte(MAX_PAYLOAD_LENGTH), is((byte) 'a'));
+        assertThat(actual.getByte(MAX_PAYLOAD_LENGTH + 1), is((byte) 'b'));
+        assertThat(((ByteBuf) out.get(1)).readableBytes(), is(2));
+        actual.release();
+        ((ByteBuf) out.get(1)).release();
+        in.release();
+    }
+    
+    @Test
+    public void assertDecodeWithExactMultipleOfMaxPayloadLength() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf in = Unpooled.buffer();
+        writePacket(in, MAX_PAYLOAD_LENGTH, 0, (byte) 'a');
+        writePacket(in, 0, 1, (byte) 'b');
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        List<Object> out = new LinkedList<>();
+        engine.decode(context, in, out, in.readableBytes());
+        assertTrue(out.isEmpty());
+        assertTrue(engine.isValidHeader(in.readableBytes()));
+        engine.decode(context, in, out, in.readableBytes());
+        assertThat(out.size(), is(1));
+        ByteBuf actual = (ByteBuf) out.get(0);
+        assertThat(actual.readableBytes(), is(MAX_PAYLOAD_LENGTH + 1));
+        assertThat(actual.getByte(0), is((byte) 0));
+        assertThat(actual.getByte(MAX_PAYLOAD_LENGTH), is((byte) 'a'));
+        assertThat(in.readableBytes(), is(0));
+        actual.release();
+        in.release();
+    }
+    
+    @Test
+    public void assertEncodeAfterDecodeLargePacket() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf in = Unpooled.buffer();
+        writePacket(in, MAX_PAYLOAD_LENGTH, 0, (byte) 'a');
+        writePacket(in, MAX_PAYLOAD_LENGTH, 1, (byte) 'b');
+        writePacket(in, 2, 2, (byte) 'c');
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        List<Object> decoded = new LinkedList<>();
+        for (int i = 0; i < 3; i++) {
+            engine.decode(context, in, decoded, in.readableBytes());
+        }
+        assertThat(decoded.size(), is(1));
+        ByteBuf out = Unpooled.buffer();
+        engine.encode(context, createPacket(1, 10), out);
+        assertThat(out.readUnsignedMediumLE(), is(10));
+        assertThat(out.readByte(), is((byte) 3));
+        out.skipBytes(10);
+        writePacket(in, 1, 0, (byte) 'd');
+        engine.decode(context, in, decoded, in.readableBytes());
+        engine.encode(context, createPacket(1, 10), out);
+        assertThat(out.readUnsignedMediumLE(), is(10));
+        assertThat(out.readByte(), is((byte) 1));
+        for (Object each : decoded) {
+            ((ByteBuf) each).release();
+        }
+        out.release();
+        in.release();
+    }
+    
+    private void writePacket(final ByteBuf in, final int payloadLength, final int sequenceId, final byte value) {
+        in.writeMediumLE(payloadLength);
+        in.writeByte(sequenceId);
+        for (int i = 0; i < payloadLength; i++) {
+            in.writeByte(value);
+        }
+    }
+    
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
-        MySQLPacket actualMessage = mock(MySQLPacket.class);
-        when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        ByteBuf out = Unpooled.buffer();
+        out.writeByte(0xff);
+        new MySQLPacketCodecEngine().encode(context, createPacket(1, 50), out);
+        assertThat(out.readableBytes(), is(55));
+        out.skipBytes(1);
+        assertThat(out.readUnsignedMediumLE(), is(50));
+        assertThat(out.readByte(), is((byte) 1));
+        out.release();
+    }
+    
+    @Test
+    public void assertEncodeWithLargePacket() {
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        ByteBuf out = Unpooled.buffer();
+        engine.encode(context, createPacket(1, MAX_PAYLOAD_LENGTH + 10), out);
+        assertThat(out.readUnsignedMediumLE(), is(MAX_PAYLOAD_LENGTH));
+        assertThat(out.readByte(), is((byte) 1));
+        out.skipBytes(MAX_PAYLOAD_LENGTH);
+        assertThat(out.readUnsignedMediumLE(), is(10));
+        assertThat(out.readByte(), is((byte) 2));
+        out.skipBytes(10);
+        engine.encode(context, createPacket(2, 1), out);
+        assertThat(out.readUnsignedMediumLE(), is(1));
+        assertThat(out.readByte(), is((byte) 3));
+        out.release();
+    }
+    
+    @Test
+    public void assertEncodeWithExactMultipleOfMaxPayloadLength() {
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, createPacket(1, MAX_PAYLOAD_LENGTH), out);
+        assertThat(out.readableBytes(), is(MAX_PAYLOAD_LENGTH + 8));
+        out.skipBytes(MAX_PAYLOAD_LENGTH + 4);
+        assertThat(out.readUnsignedMediumLE(), is(0));
+        assertThat(out.readByte(), is((byte) 2));
+        out.release();
+    }
+    
+    private MySQLPacket createPacket(final int sequenceId, final int payloadLength) {
+        MySQLPacket result = mock(MySQLPacket.class);
+        when(result.getSequenceId()).thenReturn(sequenceId);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(payloadLength)).when(result).write(any(MySQLPacketPayload.class));
+        return result;
     }
     
     @Test
@@ -56,6 +56,22 @@ public final class MySQLColumnTypeTest {
         MySQLColumnType.valueOfJDBCType(9999);
     }
     
+    @Test
+    public void assertValueOfTypeName() {
+        assertThat(MySQLColumnType.valueOfTypeName("INT"), is(MySQLColumnType.MYSQL_TYPE_LONG));
+        assertThat(MySQLColumnType.valueOfTypeName("int unsigned"), is(MySQLColumnType.MYSQL_TYPE_LONG));
+        assertThat(MySQLColumnType.valueOfTypeName("BIGINT"), is(MySQLColumnType.MYSQL_TYPE_LONGLONG));
+        assertThat(MySQLColumnType.valueOfTypeName("varchar(32)"), is(MySQLColumnType.MYSQL_TYPE_VAR_STRING));
+        assertThat(MySQLColumnType.valueOfTypeName("DECIMAL"), is(MySQLColumnType.MYSQL_TYPE_NEWDECIMAL));
+        assertThat(MySQLColumnType.valueOfTypeName("DATETIME"), is(MySQLColumnType.MYSQL_TYPE_DATETIME));
+        assertThat(MySQLColumnType.valueOfTypeName("TEXT"), is(MySQLColumnType.MYSQL_TYPE_BLOB));
+    }
+    
+    @Test
+    public void assertValueOfUnknownTypeName() {
+        assertThat(MySQLColumnType.valueOfTypeName("UNKNOWN"), is(MySQLColumnType.MYSQL_TYPE_VAR_STRING));
+    }
+    
     @Test
     public void assertValueOf() {
         assertThat(MySQLColumnType.valueOf(MySQLColumnType.MYSQL_TYPE_DECIMAL.getValue()), is(MySQLColumnType.MYSQL_TYPE_DECIMAL));
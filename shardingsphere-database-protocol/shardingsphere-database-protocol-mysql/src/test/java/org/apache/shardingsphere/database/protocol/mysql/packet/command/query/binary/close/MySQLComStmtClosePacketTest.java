@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.close;
 
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -24,6 +25,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -50,7 +52,18 @@ public final class MySQLComStmtClosePacketTest {
     @Test
     public void assertRemoveCachedStatement() {
         when(payload.readInt4()).thenReturn(1);
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        MySQLBinaryStatementRegistry.getInstance().get(1).register("SELECT * FROM tbl", 0);
         MySQLComStmtClosePacket actual = new MySQLComStmtClosePacket(payload);
-        actual.removeCachedStatement();
+        actual.removeCachedStatement(1);
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(1));
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
+    }
+    
+    @Test
+    public void assertRemoveCachedStatementWithUnregisteredConnection() {
+        when(payload.readInt4()).thenReturn(1);
+        new MySQLComStmtClosePacket(payload).removeCachedStatement(2);
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(2));
     }
 }
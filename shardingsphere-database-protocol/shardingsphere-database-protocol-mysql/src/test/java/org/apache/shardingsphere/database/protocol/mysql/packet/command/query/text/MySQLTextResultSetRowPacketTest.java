@@ -64,6 +64,17 @@ public final class MySQLTextResultSetRowPacketTest {
         }
     }
     
+    @Test
+    public void assertWriteIntegerAndBoolean() {
+        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(1, Arrays.asList(1L, 2, (short) 3, (byte) 4, true));
+        actual.write(payload);
+        verify(payload).writeStringLenenc(1L);
+        verify(payload).writeStringLenenc(2L);
+        verify(payload).writeStringLenenc(3L);
+        verify(payload).writeStringLenenc(4L);
+        verify(payload, times(2)).writeInt1(1);
+    }
+    
     @Test
     public void assertTimestampWithoutNanos() {
         long now = System.currentTimeMillis() / 1000 * 1000;
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.database.protocol.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -190,6 +191,23 @@ public final class MySQLPacketPayloadTest {
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @Test
+    public void assertWriteStringLenencWithLong() {
+        assertWriteStringLenencWithLong(0L);
+        assertWriteStringLenencWithLong(7L);
+        assertWriteStringLenencWithLong(1234567890L);
+        assertWriteStringLenencWithLong(-42L);
+        assertWriteStringLenencWithLong(Long.MAX_VALUE);
+        assertWriteStringLenencWithLong(Long.MIN_VALUE);
+    }
+    
+    private void assertWriteStringLenencWithLong(final long value) {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer());
+        payload.writeStringLenenc(value);
+        assertThat(payload.readStringLenenc(), is(Long.toString(value)));
+        payload.close();
+    }
+    
     @Test
     public void assertWriteBytesLenencWithEmpty() {
         new MySQLPacketPayload(byteBuf).writeBytesLenenc("".getBytes());
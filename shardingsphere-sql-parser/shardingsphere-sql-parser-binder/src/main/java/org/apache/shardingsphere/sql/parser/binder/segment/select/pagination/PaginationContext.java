@@ -143,6 +143,19 @@ public final class PaginationContext {
         return rowCountSegment instanceof LimitValueSegment ? actualOffset + actualRowCount : actualRowCount;
     }
     
+    /**
+     * Get count of merged rows needed by pagination, including rows to be skipped by offset.
+     *
+     * @return count of merged rows needed by pagination, empty if all rows are needed
+     */
+    public Optional<Long> getMergedRowCount() {
+        if (null == rowCountSegment) {
+            return Optional.empty();
+        }
+        long result = rowCountSegment instanceof LimitValueSegment ? getActualOffset() + getActualRowCount().get() : getActualRowCount().get();
+        return Optional.of(Math.max(result, 0L));
+    }
+    
     private boolean isMaxRowCount(final SelectStatementContext shardingStatement) {
         return (!shardingStatement.getGroupByContext().getItems().isEmpty()
                 || !shardingStatement.getProjectionsContext().getAggregationProjections().isEmpty()) && !shardingStatement.isSameGroupByAndOrderByItems();
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegme
 import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -55,9 +56,10 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
     }
     
     private List<InsertValueContext> getInsertValueContexts(final List<Object> parameters) {
-        List<InsertValueContext> result = new LinkedList<>();
+        List<List<ExpressionSegment>> allValueExpressions = getSqlStatement().getAllValueExpressions();
+        List<InsertValueContext> result = new ArrayList<>(allValueExpressions.size());
         int parametersOffset = 0;
-        for (Collection<ExpressionSegment> each : getSqlStatement().getAllValueExpressions()) {
+        for (Collection<ExpressionSegment> each : allValueExpressions) {
             InsertValueContext insertValueContext = new InsertValueContext(each, parameters, parametersOffset);
             result.add(insertValueContext);
             parametersOffset += insertValueContext.getParametersCount();
@@ -80,7 +82,7 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
      * @return grouped parameters
      */
     public List<List<Object>> getGroupedParameters() {
-        List<List<Object>> result = new LinkedList<>();
+        List<List<Object>> result = new ArrayList<>(insertValueContexts.size());
         for (InsertValueContext each : insertValueContexts) {
             result.add(each.getParameters());
         }
@@ -34,6 +34,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -125,6 +126,16 @@ public final class PaginationContextTest {
         assertThat(new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters()).getRevisedOffset(), is(0L));
     }
     
+    @Test
+    public void assertGetMergedRowCount() {
+        assertThat(new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters()).getMergedRowCount().orElse(null), is(50L));
+    }
+    
+    @Test
+    public void assertGetMergedRowCountWithNullRowCountSegment() {
+        assertFalse(new PaginationContext(getOffsetSegment(), null, getParameters()).getMergedRowCount().isPresent());
+    }
+    
     @Test
     public void getRevisedRowCount() {
         SelectStatement selectStatement = new SelectStatement();
@@ -17,27 +17,41 @@
 
 package org.apache.shardingsphere.sql.parser;
 
-import lombok.RequiredArgsConstructor;
+import com.google.common.cache.CacheStats;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCache;
+import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCacheOption;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.constant.RuleName;
 import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserStatistics;
 import org.apache.shardingsphere.sql.parser.core.visitor.ParseTreeVisitorFactory;
 import org.apache.shardingsphere.sql.parser.hook.ParsingHook;
 import org.apache.shardingsphere.sql.parser.hook.SPIParsingHook;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
+import java.util.Collection;
 import java.util.Optional;
 
 /**
  * SQL parser engine.
  */
-@RequiredArgsConstructor
 public final class SQLParserEngine {
     
     private final String databaseTypeName;
     
-    private final SQLParseResultCache cache = new SQLParseResultCache();
+    private final SQLParseResultCache cache;
+    
+    private final SQLParserStatistics statistics = new SQLParserStatistics();
+    
+    public SQLParserEngine(final String databaseTypeName) {
+        this(databaseTypeName, SQLParseResultCacheOption.DEFAULT);
+    }
+    
+    public SQLParserEngine(final String databaseTypeName, final SQLParseResultCacheOption cacheOption) {
+        this.databaseTypeName = databaseTypeName;
+        cache = new SQLParseResultCache(cacheOption);
+    }
     
     /**
      * Parse SQL.
@@ -68,11 +82,50 @@ public final class SQLParserEngine {
                 return cachedSQLStatement.get();
             }
         }
-        ParseTree parseTree = new SQLParserExecutor(databaseTypeName, sql).execute();
+        ParseTree parseTree = new SQLParserExecutor(databaseTypeName, sql, statistics).execute();
         SQLStatement result = (SQLStatement) ParseTreeVisitorFactory.newInstance(databaseTypeName, RuleName.valueOf(parseTree.getClass())).visit(parseTree);
         if (useCache) {
             cache.put(sql, result);
         }
         return result;
     }
+    
+    /**
+     * Warm up parser by SQLs.
+     * 
+     * <p>Prediction DFA of ANTLR is shared by all parsers of the same database type, parsing representative SQLs in advance avoids slow first parsing of online SQLs.
+     * Parse results are not cached, and SQLs which cannot be parsed are skipped.</p>
+     *
+     * @param sqls SQLs to be parsed
+     * @return count of SQLs parsed successfully
+     */
+    public int warmUp(final Collection<String> sqls) {
+        int result = 0;
+        for (String each : sqls) {
+            try {
+                new SQLParserExecutor(databaseTypeName, each, statistics).execute();
+                result++;
+            } catch (final SQLParsingException ignored) {
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get statistics of SQL parser, such as count of falling back to LL prediction mode.
+     *
+     * @return statistics of SQL parser
+     */
+    public SQLParserStatistics getParserStatistics() {
+        return statistics;
+    }
+    
+    /**
+     * Get statistics of parse result cache.
+     *
+     * @return statistics of parse result cache
+     */
+    public CacheStats getCacheStats() {
+        return cache.getStats();
+    }
 }
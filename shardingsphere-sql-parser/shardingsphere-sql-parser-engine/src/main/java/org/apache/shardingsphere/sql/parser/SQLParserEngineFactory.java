@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.sql.parser;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCacheOption;
 
 /**
  * SQL parser engine factory.
@@ -29,7 +32,13 @@ import java.util.concurrent.ConcurrentHashMap;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserEngineFactory {
     
-    private static final Map<String, SQLParserEngine> ENGINES = new ConcurrentHashMap<>();
+    private static final LoadingCache<EngineKey, SQLParserEngine> ENGINES = CacheBuilder.newBuilder().weakValues().build(new CacheLoader<EngineKey, SQLParserEngine>() {
+        
+        @Override
+        public SQLParserEngine load(final EngineKey key) {
+            return new SQLParserEngine(key.databaseTypeName, key.cacheOption);
+        }
+    });
     
     /**
      * Get SQL parser engine.
@@ -38,16 +47,28 @@ public final class SQLParserEngineFactory {
      * @return SQL parser engine
      */
     public static SQLParserEngine getSQLParserEngine(final String databaseTypeName) {
-        if (ENGINES.containsKey(databaseTypeName)) {
-            return ENGINES.get(databaseTypeName);
-        }
-        synchronized (ENGINES) {
-            if (ENGINES.containsKey(databaseTypeName)) {
-                return ENGINES.get(databaseTypeName);
-            }
-            SQLParserEngine result = new SQLParserEngine(databaseTypeName);
-            ENGINES.put(databaseTypeName, result);
-            return result;
-        }
+        return getSQLParserEngine(databaseTypeName, SQLParseResultCacheOption.DEFAULT);
+    }
+    
+    /**
+     * Get SQL parser engine.
+     * 
+     * <p>Engine is shared by database type and cache option, and released once no runtime context references it any more.</p>
+     *
+     * @param databaseTypeName name of database type
+     * @param cacheOption option of parse result cache
+     * @return SQL parser engine
+     */
+    public static SQLParserEngine getSQLParserEngine(final String databaseTypeName, final SQLParseResultCacheOption cacheOption) {
+        return ENGINES.getUnchecked(new EngineKey(databaseTypeName, cacheOption));
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class EngineKey {
+        
+        private final String databaseTypeName;
+        
+        private final SQLParseResultCacheOption cacheOption;
     }
 }
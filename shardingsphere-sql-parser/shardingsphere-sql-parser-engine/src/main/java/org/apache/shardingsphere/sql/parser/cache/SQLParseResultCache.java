@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sql.parser.cache;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 import java.util.Optional;
@@ -28,7 +29,26 @@ import java.util.Optional;
  */
 public final class SQLParseResultCache {
     
-    private final Cache<String, SQLStatement> cache = CacheBuilder.newBuilder().softValues().initialCapacity(2000).maximumSize(65535).build();
+    private final Cache<String, SQLStatement> cache;
+    
+    public SQLParseResultCache() {
+        this(SQLParseResultCacheOption.DEFAULT);
+    }
+    
+    public SQLParseResultCache(final SQLParseResultCacheOption option) {
+        cache = createCache(option);
+    }
+    
+    private Cache<String, SQLStatement> createCache(final SQLParseResultCacheOption option) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().initialCapacity(option.getInitialCapacity()).recordStats();
+        if (option.isSoftValues()) {
+            builder.softValues();
+        }
+        if (0 < option.getMaximumWeight()) {
+            return builder.maximumWeight(option.getMaximumWeight()).<String, SQLStatement>weigher((sql, sqlStatement) -> sql.length()).build();
+        }
+        return builder.maximumSize(option.getMaximumSize()).build();
+    }
     
     /**
      * Put SQL and parse result into cache.
@@ -50,6 +70,15 @@ public final class SQLParseResultCache {
         return Optional.ofNullable(cache.getIfPresent(sql));
     }
     
+    /**
+     * Get cache statistics, such as hit count and miss count.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
     /**
      * Clear cache.
      */
@@ -38,6 +38,8 @@ public final class SQLParserExecutor {
     
     private final String sql;
     
+    private final SQLParserStatistics statistics;
+    
     /**
      * Execute to parse SQL.
      *
@@ -52,12 +54,22 @@ public final class SQLParserExecutor {
     }
     
     private ParseTree towPhaseParse() {
-        SQLParser sqlParser = SQLParserFactory.newInstance(databaseTypeName, sql);
+        SQLParser sqlParser = SQLParserFactory.getInstance(databaseTypeName, sql);
+        try {
+            return towPhaseParse(sqlParser);
+        } finally {
+            SQLParserFactory.release(sqlParser);
+        }
+    }
+    
+    private ParseTree towPhaseParse(final SQLParser sqlParser) {
+        statistics.increaseSLLParseCount();
         try {
             ((Parser) sqlParser).setErrorHandler(new BailErrorStrategy());
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return sqlParser.execute().getChild(0);
         } catch (final ParseCancellationException ex) {
+            statistics.increaseLLFallbackCount();
             ((Parser) sqlParser).reset();
             ((Parser) sqlParser).setErrorHandler(new DefaultErrorStrategy());
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
@@ -24,17 +24,26 @@ import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.spi.NewInstanceServiceLoader;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.spi.SQLParserConfiguration;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * SQL parser factory.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserFactory {
     
+    private static final Map<String, SQLParserConfiguration> CONFIGURATIONS = new ConcurrentHashMap<>();
+    
+    private static final ThreadLocal<Map<String, SQLParser>> THREAD_LOCAL_PARSERS = ThreadLocal.withInitial(HashMap::new);
+    
     static {
         NewInstanceServiceLoader.register(SQLParserConfiguration.class);
     }
@@ -47,9 +56,52 @@ public final class SQLParserFactory {
      * @return SQL parser
      */
     public static SQLParser newInstance(final String databaseTypeName, final String sql) {
+        return createSQLParser(sql, getConfiguration(databaseTypeName));
+    }
+    
+    /**
+     * Get SQL parser of current thread.
+     * 
+     * <p>Lexer, token stream and parser are created once per thread and database type, and reset by new SQL for each call.
+     * The returned SQL parser must not be shared with other threads, and becomes invalid on next call in the same thread.</p>
+     *
+     * @param databaseTypeName name of database type
+     * @param sql SQL
+     * @return SQL parser
+     */
+    public static SQLParser getInstance(final String databaseTypeName, final String sql) {
+        Map<String, SQLParser> parsers = THREAD_LOCAL_PARSERS.get();
+        SQLParser result = parsers.get(databaseTypeName);
+        if (null == result) {
+            result = newInstance(databaseTypeName, sql);
+            parsers.put(databaseTypeName, result);
+            return result;
+        }
+        reset((Parser) result, sql);
+        return result;
+    }
+    
+    /**
+     * Release input of SQL parser of current thread.
+     * 
+     * <p>Token stream and character stream of last SQL are dropped, so that SQL text and tokens are not kept alive by idle threads.
+     * Parse trees already created are not affected.</p>
+     *
+     * @param sqlParser SQL parser got from {@link #getInstance(String, String)}
+     */
+    public static void release(final SQLParser sqlParser) {
+        reset((Parser) sqlParser, "");
+    }
+    
+    private static SQLParserConfiguration getConfiguration(final String databaseTypeName) {
+        SQLParserConfiguration result = CONFIGURATIONS.get(databaseTypeName);
+        if (null != result) {
+            return result;
+        }
         for (SQLParserConfiguration each : NewInstanceServiceLoader.newServiceInstances(SQLParserConfiguration.class)) {
             if (each.getDatabaseTypeName().equals(databaseTypeName)) {
-                return createSQLParser(sql, each);
+                CONFIGURATIONS.putIfAbsent(databaseTypeName, each);
+                return each;
             }
         }
         throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseTypeName));
@@ -60,4 +112,12 @@ public final class SQLParserFactory {
         Lexer lexer = configuration.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(sql));
         return configuration.getParserClass().getConstructor(TokenStream.class).newInstance(new CommonTokenStream(lexer));
     }
+    
+    private static void reset(final Parser parser, final String sql) {
+        CommonTokenStream tokenStream = (CommonTokenStream) parser.getInputStream();
+        Lexer lexer = (Lexer) tokenStream.getTokenSource();
+        lexer.setInputStream(CharStreams.fromString(sql));
+        tokenStream.setTokenSource(lexer);
+        parser.setTokenStream(tokenStream);
+    }
 }
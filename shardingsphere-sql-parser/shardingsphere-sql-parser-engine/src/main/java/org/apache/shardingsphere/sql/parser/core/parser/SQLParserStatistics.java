@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.parser;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL parser statistics.
+ */
+public final class SQLParserStatistics {
+    
+    private final LongAdder sllParseCount = new LongAdder();
+    
+    private final LongAdder llFallbackCount = new LongAdder();
+    
+    void increaseSLLParseCount() {
+        sllParseCount.increment();
+    }
+    
+    void increaseLLFallbackCount() {
+        llFallbackCount.increment();
+    }
+    
+    /**
+     * Get count of parsing tried in SLL prediction mode.
+     *
+     * @return count of parsing tried in SLL prediction mode
+     */
+    public long getSLLParseCount() {
+        return sllParseCount.sum();
+    }
+    
+    /**
+     * Get count of parsing fell back to LL prediction mode after SLL failed.
+     *
+     * @return count of parsing fell back to LL prediction mode
+     */
+    public long getLLFallbackCount() {
+        return llFallbackCount.sum();
+    }
+}
@@ -17,14 +17,17 @@
 
 package org.apache.shardingsphere.sql.parser;
 
+import com.google.common.cache.Cache;
+import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCacheOption;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
-import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public final class SQLParseEngineFactoryTest {
@@ -32,13 +35,39 @@ public final class SQLParseEngineFactoryTest {
     @Before
     @After
     public void reset() throws NoSuchFieldException, IllegalAccessException {
+        getEngines().invalidateAll();
+    }
+    
+    private Cache<?, ?> getEngines() throws NoSuchFieldException, IllegalAccessException {
         Field field = SQLParserEngineFactory.class.getDeclaredField("ENGINES");
         field.setAccessible(true);
-        ((Map) field.get(SQLParserEngineFactory.class)).clear();
+        return (Cache<?, ?>) field.get(SQLParserEngineFactory.class);
     }
     
     @Test
     public void assertGetSQLParseEngine() {
         assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL"), is(SQLParserEngineFactory.getSQLParserEngine("MySQL")));
     }
+    
+    @Test
+    public void assertGetSQLParseEngineWithCacheOption() {
+        SQLParserEngine actual = SQLParserEngineFactory.getSQLParserEngine("MySQL", new SQLParseResultCacheOption(128, 1024, 0, false));
+        assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL", new SQLParseResultCacheOption(128, 1024, 0, false)), sameInstance(actual));
+        assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL"), not(sameInstance(actual)));
+        assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL", new SQLParseResultCacheOption(128, 2048, 0, false)), not(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertReleaseUnreferencedSQLParseEngine() throws NoSuchFieldException, IllegalAccessException, InterruptedException {
+        for (int i = 0; i < 16; i++) {
+            SQLParserEngineFactory.getSQLParserEngine("MySQL", new SQLParseResultCacheOption(128, 1024 + i, 0, false));
+        }
+        Cache<?, ?> engines = getEngines();
+        for (int i = 0; i < 10 && 0 < engines.size(); i++) {
+            System.gc();
+            Thread.sleep(10L);
+            engines.cleanUp();
+        }
+        assertThat(engines.size(), is(0L));
+    }
 }
@@ -53,4 +53,23 @@ public final class SQLParseResultCacheTest {
         actual.clear();
         assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
     }
+    
+    @Test
+    public void assertGetStats() {
+        SQLParseResultCache actual = new SQLParseResultCache();
+        actual.put("SELECT 1", new SelectStatement());
+        actual.getSQLStatement("SELECT 1");
+        actual.getSQLStatement("SELECT 2");
+        assertThat(actual.getStats().hitCount(), is(1L));
+        assertThat(actual.getStats().missCount(), is(1L));
+    }
+    
+    @Test
+    public void assertEvictByMaximumWeight() {
+        SQLParseResultCache actual = new SQLParseResultCache(new SQLParseResultCacheOption(16, 65535, 10, false));
+        actual.put("SELECT 1", new SelectStatement());
+        actual.put("SELECT 22", new SelectStatement());
+        assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
+        assertTrue(actual.getSQLStatement("SELECT 22").isPresent());
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.integrate.engine;
+
+import org.antlr.v4.runtime.Parser;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParserEngineTest {
+    
+    @Test
+    public void assertGetInstanceInSameThread() {
+        SQLParser expected = SQLParserFactory.getInstance("MySQL", "SELECT 1");
+        assertThat(SQLParserFactory.getInstance("MySQL", "SELECT 2"), sameInstance(expected));
+    }
+    
+    @Test
+    public void assertParseByReusedParser() {
+        SQLParserEngine engine = new SQLParserEngine("MySQL");
+        assertThat(engine.parse("SELECT * FROM t_order WHERE order_id = ?", false), instanceOf(SelectStatement.class));
+        try {
+            engine.parse("UNSUPPORTED SQL", false);
+        } catch (final SQLParsingException ignored) {
+        }
+        assertThat(engine.parse("INSERT INTO t_order (order_id) VALUES (?)", false), instanceOf(InsertStatement.class));
+        assertThat(engine.parse("SELECT * FROM t_order_item", false), instanceOf(SelectStatement.class));
+    }
+    
+    @Test
+    public void assertReleaseInputAfterParse() {
+        Parser parser = (Parser) SQLParserFactory.getInstance("MySQL", "SELECT 1");
+        assertThat(new SQLParserEngine("MySQL").parse("SELECT * FROM t_order WHERE order_id = ?", false), instanceOf(SelectStatement.class));
+        assertThat(parser.getInputStream().size(), is(0));
+        assertNull(parser.getContext());
+    }
+    
+    @Test
+    public void assertWarmUp() {
+        SQLParserEngine engine = new SQLParserEngine("MySQL");
+        assertThat(engine.warmUp(Arrays.asList("SELECT * FROM t_order", "UNSUPPORTED SQL", "DELETE FROM t_order WHERE order_id = ?")), is(2));
+        assertThat(engine.getParserStatistics().getSLLParseCount(), is(3L));
+        assertTrue(engine.getParserStatistics().getLLFallbackCount() >= 1L);
+    }
+}
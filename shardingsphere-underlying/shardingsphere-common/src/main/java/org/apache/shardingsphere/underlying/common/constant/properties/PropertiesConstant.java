@@ -71,6 +71,26 @@ public enum PropertiesConstant implements TypedPropertiesKey {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Capacity of task queue of executor.
+     *
+     * <p>
+     * Tasks are executed by submitting threads when the queue is full, only takes effect if executor size is positive.
+     * Default: 0, means unbounded.
+     * </p>
+     */
+    EXECUTOR_QUEUE_CAPACITY("executor.queue.capacity", String.valueOf(0), int.class),
+    
+    /**
+     * Max concurrent executions of each data source in executor.
+     *
+     * <p>
+     * Limit threads of executor which can be occupied by one data source at the same time, so a slow data source cannot exhaust the executor.
+     * Default: 0, means unlimited.
+     * </p>
+     */
+    EXECUTOR_MAX_CONCURRENCY_PER_DATASOURCE("executor.max.concurrency.per.datasource", String.valueOf(0), int.class),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -100,6 +120,17 @@ public enum PropertiesConstant implements TypedPropertiesKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy.frontend.flush.threshold", String.valueOf(128), int.class),
     
+    /**
+     * Sharding-Proxy's maximum count of query rows written to a client connection but not sent out yet, no limit except write buffer of channel if it is not positive.
+     */
+    PROXY_FRONTEND_MAX_BUFFERED_ROWS("proxy.frontend.max.buffered.rows", String.valueOf(0), int.class),
+    
+    /**
+     * Execute commands of each client connection in order on the shared command executor, instead of a thread dedicated to the connection.
+     * Connections using hint, XA or BASE transaction still occupy a thread, because they are bound to thread.
+     */
+    PROXY_FRONTEND_SERIAL_EXECUTOR_ENABLED("proxy.frontend.serial.executor.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Transaction type of proxy.
      *
@@ -134,7 +165,54 @@ public enum PropertiesConstant implements TypedPropertiesKey {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    /**
+     * File of SQLs to warm up SQL parser when Sharding-Proxy starts, one SQL per line.
+     */
+    PROXY_SQL_PARSER_WARM_UP_FILE("proxy.sql.parser.warm.up.file", "", String.class),
+    
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Initial capacity of SQL parse result cache.
+     */
+    SQL_PARSER_CACHE_INITIAL_CAPACITY("sql.parser.cache.initial.capacity", String.valueOf(2000), int.class),
+    
+    /**
+     * Maximum entry count of SQL parse result cache.
+     */
+    SQL_PARSER_CACHE_MAXIMUM_SIZE("sql.parser.cache.maximum.size", String.valueOf(65535), long.class),
+    
+    /**
+     * Maximum total SQL length of SQL parse result cache, if it is positive, {@code sql.parser.cache.maximum.size} is ignored.
+     */
+    SQL_PARSER_CACHE_MAXIMUM_WEIGHT("sql.parser.cache.maximum.weight", String.valueOf(0), long.class),
+    
+    /**
+     * Hold parse results by soft references, so that they can be reclaimed under memory pressure.
+     */
+    SQL_PARSER_CACHE_SOFT_VALUES("sql.parser.cache.soft.values", String.valueOf(Boolean.TRUE), boolean.class),
+    
+    /**
+     * Maximum entry count of route result cache for prepared statements, route result cache is disabled if it is not positive.
+     */
+    SQL_ROUTE_CACHE_MAXIMUM_SIZE("sql.route.cache.maximum.size", String.valueOf(0), long.class),
+    
+    /**
+     * Maximum count of idle physical prepared statements cached for reuse per connection, prepared statement cache is disabled if it is not positive.
+     */
+    PREPARED_STATEMENT_CACHE_MAXIMUM_SIZE("prepared.statement.cache.maximum.size", String.valueOf(0), int.class),
+    
+    /**
+     * Maximum count of groups held in memory when merging group by results, groups beyond it are spilled to temporary files.
+     * At most 128 temporary files are read at the same time, more sorted runs of spilled groups are merged into larger ones first.
+     * Spilling is disabled if it is not positive.
+     */
+    GROUP_BY_MERGE_MEMORY_MAX_GROUPS("group.by.merge.memory.max.groups", String.valueOf(0), int.class),
+    
+    /**
+     * Directory of temporary files which groups are spilled to when merging group by results, system temporary directory is used if it is empty.
+     */
+    GROUP_BY_MERGE_SPILL_DIRECTORY("group.by.merge.spill.directory", "", String.class);
     
     private final String key;
     
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.underlying.executor.engine;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
 import org.apache.shardingsphere.underlying.executor.engine.impl.ShardingSphereExecutorService;
@@ -29,7 +30,10 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
 /**
  * Executor engine.
@@ -38,8 +42,27 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ShardingSphereExecutorService executorService;
     
+    private final int maxConcurrencyPerDataSource;
+    
+    private final Map<String, Semaphore> dataSourceBulkheads = new ConcurrentHashMap<>();
+    
     public ExecutorEngine(final int executorSize) {
-        executorService = new ShardingSphereExecutorService(executorSize);
+        this(executorSize, 0, 0);
+    }
+    
+    /**
+     * Constructor.
+     * 
+     * <p>If max concurrency per data source is positive, input groups of the same data source can only occupy limited threads of executor at the same time,
+     * submitting more input groups of that data source waits until running ones finished, so a slow data source cannot exhaust the executor.</p>
+     * 
+     * @param executorSize executor size, 0 means cached thread pool
+     * @param queueCapacity capacity of executor task queue, 0 means unbounded
+     * @param maxConcurrencyPerDataSource max concurrent asynchronous executions for each data source, 0 means unlimited
+     */
+    public ExecutorEngine(final int executorSize, final int queueCapacity, final int maxConcurrencyPerDataSource) {
+        executorService = new ShardingSphereExecutorService(executorSize, queueCapacity);
+        this.maxConcurrencyPerDataSource = maxConcurrencyPerDataSource;
     }
     
     /**
@@ -107,17 +130,45 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private <I, O> ListenableFuture<Collection<O>> asyncExecute(final InputGroup<I> inputGroup, final GroupedCallback<I, O> callback) {
         final Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorService.getExecutorService().submit(() -> callback.execute(inputGroup.getInputs(), false, dataMap));
+        Semaphore bulkhead = getBulkhead(inputGroup.getDataSourceName());
+        if (null == bulkhead) {
+            return executorService.getExecutorService().submit(() -> callback.execute(inputGroup.getInputs(), false, dataMap));
+        }
+        bulkhead.acquireUninterruptibly();
+        try {
+            return executorService.getExecutorService().submit(() -> {
+                try {
+                    return callback.execute(inputGroup.getInputs(), false, dataMap);
+                } finally {
+                    bulkhead.release();
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            bulkhead.release();
+            throw ex;
+        }
+    }
+    
+    private Semaphore getBulkhead(final String dataSourceName) {
+        if (0 >= maxConcurrencyPerDataSource || null == dataSourceName) {
+            return null;
+        }
+        Semaphore result = dataSourceBulkheads.get(dataSourceName);
+        if (null == result) {
+            dataSourceBulkheads.putIfAbsent(dataSourceName, new Semaphore(maxConcurrencyPerDataSource, true));
+            result = dataSourceBulkheads.get(dataSourceName);
+        }
+        return result;
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
         List<O> result = new LinkedList<>(firstResults);
-        for (ListenableFuture<Collection<O>> each : restFutures) {
-            try {
-                result.addAll(each.get());
-            } catch (final InterruptedException | ExecutionException ex) {
-                return throwException(ex);
+        try {
+            for (Collection<O> each : Futures.allAsList(restFutures).get()) {
+                result.addAll(each);
             }
+        } catch (final InterruptedException | ExecutionException ex) {
+            return throwException(ex);
         }
         return result;
     }
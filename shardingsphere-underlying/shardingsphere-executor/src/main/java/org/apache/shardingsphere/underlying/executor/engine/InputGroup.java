@@ -17,8 +17,8 @@
 
 package org.apache.shardingsphere.underlying.executor.engine;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
@@ -27,9 +27,18 @@ import java.util.List;
  *
  * @param <T> type of inputs value
  */
-@RequiredArgsConstructor
+@AllArgsConstructor
 @Getter
 public final class InputGroup<T> {
     
+    /**
+     * Name of data source which inputs are executed on, null means unknown.
+     */
+    private final String dataSourceName;
+    
     private final List<T> inputs;
+    
+    public InputGroup(final List<T> inputs) {
+        this(null, inputs);
+    }
 }
@@ -23,7 +23,10 @@ import lombok.Getter;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -42,14 +45,38 @@ public final class ShardingSphereExecutorService {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ShardingSphereExecutorService(final int executorSize, final int queueCapacity) {
+        this(executorSize, queueCapacity, DEFAULT_NAME_FORMAT);
+    }
+    
     public ShardingSphereExecutorService(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        this(executorSize, 0, nameFormat);
+    }
+    
+    /**
+     * Constructor.
+     * 
+     * <p>If queue capacity is positive, tasks are executed by submitting threads when the queue is full, which slows submitting down as back-pressure.
+     * Queue capacity is ignored for cached thread pool if executor size is 0.</p>
+     * 
+     * @param executorSize executor size, 0 means cached thread pool
+     * @param queueCapacity capacity of task queue, 0 means unbounded
+     * @param nameFormat thread name format
+     */
+    public ShardingSphereExecutorService(final int executorSize, final int queueCapacity, final String nameFormat) {
+        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, queueCapacity, nameFormat));
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    private ExecutorService getExecutorService(final int executorSize, final int queueCapacity, final String nameFormat) {
         ThreadFactory threadFactory = ShardingSphereThreadFactoryBuilder.build(nameFormat);
-        return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
+        if (0 == executorSize) {
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+        if (0 == queueCapacity) {
+            return Executors.newFixedThreadPool(executorSize, threadFactory);
+        }
+        return new ThreadPoolExecutor(executorSize, executorSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueCapacity), threadFactory, new CallerRunsPolicy());
     }
     
     /**
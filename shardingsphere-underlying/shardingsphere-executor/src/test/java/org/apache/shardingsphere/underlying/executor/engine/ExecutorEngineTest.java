@@ -24,9 +24,11 @@ import org.junit.Test;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -100,4 +102,43 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertThat(actual.size(), is(0));
     }
+    
+    @Test
+    public void assertParallelExecuteWithDataSourceBulkhead() throws SQLException {
+        ExecutorEngine executorEngine = new ExecutorEngine(10, 0, 1);
+        AtomicInteger concurrency = new AtomicInteger();
+        AtomicInteger maxConcurrency = new AtomicInteger();
+        Collection<InputGroup<Object>> inputGroups = new LinkedList<>();
+        for (int i = 0; i < 5; i++) {
+            inputGroups.add(new InputGroup<>("ds_0", createMockedInputs(1)));
+        }
+        try {
+            List<Object> actual = executorEngine.execute(inputGroups, (inputs, isTrunkThread, dataMap) -> {
+                if (isTrunkThread) {
+                    return inputs;
+                }
+                maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20L);
+                } catch (final InterruptedException ignored) {
+                }
+                concurrency.decrementAndGet();
+                return inputs;
+            });
+            assertThat(actual.size(), is(5));
+            assertThat(maxConcurrency.get(), is(1));
+        } finally {
+            executorEngine.close();
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertParallelExecuteFailure() throws SQLException {
+        executorEngine.execute(inputGroups, (inputs, isTrunkThread, dataMap) -> {
+            if (isTrunkThread) {
+                return Collections.emptyList();
+            }
+            throw new SQLException("test");
+        });
+    }
 }
@@ -95,4 +95,8 @@ public abstract class MemoryMergedResult<T extends BaseRule> implements MergedRe
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public final void close() {
+    }
 }
@@ -68,4 +68,8 @@ public abstract class StreamMergedResult implements MergedResult {
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public final void close() {
+    }
 }
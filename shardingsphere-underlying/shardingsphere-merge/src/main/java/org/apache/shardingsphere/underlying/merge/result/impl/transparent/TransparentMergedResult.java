@@ -57,4 +57,8 @@ public final class TransparentMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return queryResult.wasNull();
     }
+    
+    @Override
+    public void close() {
+    }
 }
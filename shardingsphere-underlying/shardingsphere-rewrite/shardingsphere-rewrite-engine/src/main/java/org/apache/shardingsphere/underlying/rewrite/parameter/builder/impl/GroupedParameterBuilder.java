@@ -49,7 +49,7 @@ public final class GroupedParameterBuilder implements ParameterBuilder {
     
     @Override
     public List<Object> getParameters() {
-        List<Object> result = new LinkedList<>();
+        List<Object> result = new ArrayList<>();
         for (int i = 0; i < parameterBuilders.size(); i++) {
             result.addAll(getParameters(i));
         }
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.Substitutable;
 
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Abstract SQL builder.
@@ -37,32 +38,28 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
     
     @Override
     public final String toSQL() {
-        if (context.getSqlTokens().isEmpty()) {
+        List<SQLToken> sqlTokens = context.getSqlTokens();
+        if (sqlTokens.isEmpty()) {
             return context.getSql();
         }
-        Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql().substring(0, context.getSqlTokens().get(0).getStartIndex()));
-        for (SQLToken each : context.getSqlTokens()) {
+        Collections.sort(sqlTokens);
+        String sql = context.getSql();
+        StringBuilder result = new StringBuilder(sql.length());
+        result.append(sql, 0, sqlTokens.get(0).getStartIndex());
+        int size = sqlTokens.size();
+        for (int i = 0; i < size; i++) {
+            SQLToken each = sqlTokens.get(i);
             result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+            int stopIndex = size - 1 == i ? sql.length() : sqlTokens.get(i + 1).getStartIndex();
+            result.append(sql, getStartIndex(each), stopIndex);
         }
         return result.toString();
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
     
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
-    
     private int getStartIndex(final SQLToken sqlToken) {
         int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
         return Math.min(startIndex, context.getSql().length());
     }
-    
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
-    }
 }
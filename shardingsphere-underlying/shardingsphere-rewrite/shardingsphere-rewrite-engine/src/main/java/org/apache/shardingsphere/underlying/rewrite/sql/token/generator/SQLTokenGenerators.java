@@ -24,6 +24,7 @@ import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.aware.Pr
 import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.aware.TableMetasAware;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -67,7 +68,7 @@ public final class SQLTokenGenerators {
      */
     @SuppressWarnings("unchecked")
     public List<SQLToken> generateSQLTokens(final SQLStatementContext sqlStatementContext, final List<Object> parameters, final TableMetas tableMetas) {
-        List<SQLToken> result = new LinkedList<>();
+        List<SQLToken> result = new ArrayList<>();
         for (SQLTokenGenerator each : sqlTokenGenerators) {
             setUpSQLTokenGenerator(each, parameters, tableMetas, result);
             if (!each.isGenerateSQLToken(sqlStatementContext)) {
@@ -22,6 +22,8 @@ import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.underlying.rewrite.sql.SQLBuilder;
 import org.apache.shardingsphere.underlying.rewrite.sql.impl.DefaultSQLBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.generic.RemoveToken;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.generic.SubstitutableColumnNameToken;
 import org.junit.Test;
 
 import java.util.Collections;
@@ -38,4 +40,32 @@ public final class DefaultSQLBuilderTest {
         SQLBuilder sqlBuilderWithoutTokens = new DefaultSQLBuilder(context);
         assertThat(sqlBuilderWithoutTokens.toSQL(), is("SELECT * FROM t_config"));
     }
+    
+    @Test
+    public void assertToSQLWithUnorderedTokens() {
+        SQLRewriteContext context = new SQLRewriteContext(mock(TableMetas.class), mock(SQLStatementContext.class), "SELECT a, b, c FROM t_config", Collections.emptyList());
+        context.getSqlTokens().add(new SubstitutableColumnNameToken(13, 13, "c_cipher"));
+        context.getSqlTokens().add(new RemoveToken(8, 10));
+        context.getSqlTokens().add(new SubstitutableColumnNameToken(7, 7, "a_cipher"));
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT a_cipher, c_cipher FROM t_config"));
+    }
+    
+    @Test
+    public void assertToSQLWithManyTokens() {
+        StringBuilder sql = new StringBuilder("INSERT INTO t_config VALUES (0)");
+        StringBuilder expected = new StringBuilder("INSERT INTO t_config VALUES (c0)");
+        for (int i = 1; i < 5000; i++) {
+            sql.append(", (").append(i).append(')');
+            expected.append(", (c").append(i).append(')');
+        }
+        SQLRewriteContext context = new SQLRewriteContext(mock(TableMetas.class), mock(SQLStatementContext.class), sql.toString(), Collections.emptyList());
+        int index = sql.indexOf("(");
+        while (index >= 0) {
+            int stopIndex = sql.indexOf(")", index) - 1;
+            context.getSqlTokens().add(new SubstitutableColumnNameToken(index + 1, stopIndex, "c" + sql.substring(index + 1, stopIndex + 1)));
+            index = sql.indexOf("(", stopIndex);
+        }
+        assertThat(context.getSqlTokens().size(), is(5000));
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is(expected.toString()));
+    }
 }